@@ -0,0 +1,51 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics;
+
+import java.math.BigInteger;
+
+/**
+ * Like {@link Generator}, but addressed by a {@link BigInteger} index, for when the number of items available exceeds
+ * {@link java.lang.Long#MAX_VALUE}.
+ *
+ * @param <T>
+ *            a type
+ * @author Alistair A. Israel
+ */
+public interface BigGenerator<T> {
+
+    /**
+     * Compute and return the <code>i</code>-th item
+     *
+     * @param i
+     *            the index of the item to generate
+     * @return T
+     */
+    T get(final BigInteger i);
+
+    /**
+     * Return the total number of items available for generation.
+     *
+     * @return the total number of items available for generation.
+     */
+    BigInteger count();
+
+    /**
+     * Compute the index of the given item, the inverse of {@link #get(BigInteger)}.
+     *
+     * @param t
+     *            an item
+     * @return the index <code>i</code> such that <code>get(i)</code> is equal to <code>t</code>
+     */
+    BigInteger rank(final T t);
+
+}
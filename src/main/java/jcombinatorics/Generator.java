@@ -12,8 +12,16 @@
 package jcombinatorics;
 
 import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import jcombinatorics.util.FeistelPermutation;
 import jcombinatorics.util.ReadOnlyIterator;
+import jcombinatorics.util.SequentialSampler;
 
 /**
  * A parameterized generator. Basically represents set of directly retrievable items addressed by a <code>long</code> index.
@@ -41,7 +49,8 @@ public interface Generator<T> {
     long count();
 
     /**
-     * A base class for generators that also implements {@link Iterable} by returning a {@link ForwardIterator}.
+     * A base class for generators that also implements {@link Iterable} by returning a {@link ForwardIterator}, and can be streamed (in
+     * parallel) using a {@link RangeSpliterator}.
      *
      * @param <T>
      *            a type
@@ -50,12 +59,105 @@ public interface Generator<T> {
     abstract class Of<T> implements Generator<T>, Iterable<T> {
 
         /**
-         * {@inheritDoc}
+         * Returns {@link #iterator(long, long)} over all the items, so it may reuse one array the same way.
          *
+         * @return an {@link Iterator} over all the items
          * @see java.lang.Iterable#iterator()
          */
         public final Iterator<T> iterator() {
-            return new ForwardIterator<T>(this);
+            return iterator(0, count());
+        }
+
+        /**
+         * Return an iterator over the items <code>fromInclusive</code> (inclusive) up to <code>toExclusive</code> (exclusive), for resuming
+         * or sharding an enumeration. By default returns a {@link ForwardIterator}, which computes each item using {@link #get(long)}.
+         * Generators that have a cheaper way of going from one item to the next should override this, and compute only the first item
+         * directly. Such iterators over arrays usually step the same array from one item to the next, and return it from every call to
+         * <code>next()</code>, so copy any item you need to keep, or use {@link #get(long)} for one in an array of its own.
+         *
+         * @param fromInclusive
+         *            the index of the first item to return
+         * @param toExclusive
+         *            the index of the item to stop at
+         * @return an {@link Iterator}
+         */
+        // CHECKSTYLE:OFF
+        public Iterator<T> iterator(final long fromInclusive, final long toExclusive) {
+            // CHECKSTYLE:ON
+            return new ForwardIterator<T>(this, fromInclusive, toExclusive);
+        }
+
+        /**
+         * Whether {@link #iterator(long, long)} steps from one item to the next more cheaply than computing each using
+         * {@link #get(long)}. By default <code>false</code>, as the default {@link ForwardIterator} doesn't. Generators that override
+         * {@link #iterator(long, long)} with a cheaper iterator should override this to return <code>true</code>.
+         *
+         * @return <code>true</code> if stepping through an iterator is cheaper than computing each item directly
+         */
+        // CHECKSTYLE:OFF
+        protected boolean hasCheapSuccessor() {
+            // CHECKSTYLE:ON
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.lang.Iterable#spliterator()
+         */
+        public final Spliterator<T> spliterator() {
+            return new RangeSpliterator<T>(this, 0, count());
+        }
+
+        /**
+         * Note that, as with the {@link Iterator}s, generators that produce arrays may reuse the same array for every item in a split, so
+         * copy the item if you need to keep it.
+         *
+         * @return a sequential {@link Stream} of all items
+         */
+        public final Stream<T> stream() {
+            return StreamSupport.stream(spliterator(), false);
+        }
+
+        /**
+         * Note that, as with the {@link Iterator}s, generators that produce arrays may reuse the same array for every item in a split, so
+         * copy the item if you need to keep it.
+         *
+         * @return a parallel {@link Stream} of all items
+         */
+        public final Stream<T> parallelStream() {
+            return StreamSupport.stream(spliterator(), true);
+        }
+
+        /**
+         * Draws <code>m</code> distinct items uniformly at random, without replacement, and returns them in order of their indices, in
+         * <code>O(m)</code> time and constant space however many items there are. If the generator {@link #hasCheapSuccessor()}, items
+         * that are close together are reached by stepping through an {@link #iterator(long, long)} rather than computing each directly,
+         * so as with the {@link Iterator}s, generators that produce arrays may reuse the same array for each item.
+         *
+         * @param m
+         *            the number of items to draw, <code>0 &lt;= m &lt;= count()</code>
+         * @param random
+         *            the source of randomness
+         * @return an {@link Iterator} over the <code>m</code> items
+         * @see SequentialSampler
+         */
+        public final Iterator<T> sample(final long m, final SplittableRandom random) {
+            return new SampleIterator<T>(this, new SequentialSampler(random, count(), m));
+        }
+
+        /**
+         * Returns a view of this generator's items in a pseudo-random order, without writing the order down, so that a partial run over
+         * them sees an unbiased sample. The <code>i</code>-th item of the view is item <code>p(i)</code> of this generator, where
+         * <code>p</code> is a {@link FeistelPermutation} of the indices, so the view can be iterated, streamed and split for parallel
+         * streams like any other generator. Each item is computed directly using {@link #get(long)}.
+         *
+         * @param key
+         *            the key. The same key always gives the same order.
+         * @return a {@link Shuffled} generator
+         */
+        public final Of<T> shuffled(final long key) {
+            return new Shuffled<T>(this, new FeistelPermutation(count(), key));
         }
 
     }
@@ -71,6 +173,8 @@ public interface Generator<T> {
 
         private final Generator<T> generator;
 
+        private final long toExclusive;
+
         private long index;
 
         /**
@@ -78,7 +182,21 @@ public interface Generator<T> {
          *            the generator to use
          */
         public ForwardIterator(final Generator<T> generator) {
+            this(generator, 0, generator.count());
+        }
+
+        /**
+         * @param generator
+         *            the generator to use
+         * @param fromInclusive
+         *            the index of the first item to return
+         * @param toExclusive
+         *            the index of the item to stop at
+         */
+        public ForwardIterator(final Generator<T> generator, final long fromInclusive, final long toExclusive) {
             this.generator = generator;
+            this.index = fromInclusive;
+            this.toExclusive = toExclusive;
         }
 
         /**
@@ -87,7 +205,7 @@ public interface Generator<T> {
          * @see java.util.Iterator#hasNext()
          */
         public final boolean hasNext() {
-            return index < generator.count();
+            return index < toExclusive;
         }
 
         /**
@@ -100,4 +218,240 @@ public interface Generator<T> {
         }
 
     }
+
+    /**
+     * A view of a {@link Generator}'s items in the order given by a {@link FeistelPermutation} of their indices.
+     *
+     * @param <T>
+     *            a type
+     * @author Alistair A. Israel
+     * @see Generator.Of#shuffled(long)
+     */
+    class Shuffled<T> extends Of<T> {
+
+        private final Generator<T> generator;
+
+        private final FeistelPermutation permutation;
+
+        /**
+         * @param generator
+         *            the generator to use
+         * @param permutation
+         *            the permutation of its indices, over {@link Generator#count()} of them
+         */
+        public Shuffled(final Generator<T> generator, final FeistelPermutation permutation) {
+            if (permutation.count() != generator.count()) {
+                throw new IllegalArgumentException(permutation.count() + " != " + generator.count() + "!");
+            }
+            this.generator = generator;
+            this.permutation = permutation;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see jcombinatorics.Generator#count()
+         */
+        public final long count() {
+            return generator.count();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see jcombinatorics.Generator#get(long)
+         */
+        public final T get(final long l) {
+            return generator.get(permutation.apply(l));
+        }
+
+    }
+
+    /**
+     * Returns the items at a given ascending sequence of indices. If the generator {@link Generator.Of#hasCheapSuccessor()}, moves
+     * forward through a single {@link Generator.Of#iterator(long, long)} while the next index isn't far ahead. An item far from the one
+     * before is computed directly, and only if the item after it is close too is a new iterator started there.
+     *
+     * @param <T>
+     *            a type
+     * @author Alistair A. Israel
+     */
+    class SampleIterator<T> extends ReadOnlyIterator<T> {
+
+        /**
+         * Stepping through up to this many items is assumed to be cheaper than computing the next one directly.
+         */
+        private static final long MAX_STEPS = 32;
+
+        private final Of<T> generator;
+
+        private final PrimitiveIterator.OfLong indices;
+
+        private final boolean cheapSuccessor;
+
+        private Iterator<T> iterator;
+
+        /**
+         * The index of the item <code>iterator</code> returns next.
+         */
+        private long position;
+
+        /**
+         * The index of the item returned last.
+         */
+        private long last = -MAX_STEPS - 2;
+
+        /**
+         * @param generator
+         *            the generator to use
+         * @param indices
+         *            the indices of the items to return, in ascending order
+         */
+        public SampleIterator(final Of<T> generator, final PrimitiveIterator.OfLong indices) {
+            this.generator = generator;
+            this.indices = indices;
+            this.cheapSuccessor = generator.hasCheapSuccessor();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.Iterator#hasNext()
+         */
+        public final boolean hasNext() {
+            return indices.hasNext();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.Iterator#next()
+         */
+        public final T next() {
+            final long l = indices.nextLong();
+            final boolean near = l - last <= MAX_STEPS;
+            last = l;
+            if (iterator != null && l >= position && l - position <= MAX_STEPS) {
+                while (position < l) {
+                    iterator.next();
+                    ++position;
+                }
+            } else if (cheapSuccessor && near) {
+                iterator = generator.iterator(l, generator.count());
+                position = l;
+            } else {
+                iterator = null;
+                return generator.get(l);
+            }
+            ++position;
+            return iterator.next();
+        }
+
+    }
+
+    /**
+     * A {@link Spliterator} over a range of a {@link Generator.Of}'s items. Splits by halving the range, and traverses each range using a
+     * single {@link Generator.Of#iterator(long, long)}, so only the first item in each split needs to be computed directly.
+     *
+     * @param <T>
+     *            a type
+     * @author Alistair A. Israel
+     */
+    class RangeSpliterator<T> implements Spliterator<T> {
+
+        private final Of<T> generator;
+
+        private final long toExclusive;
+
+        private long index;
+
+        private Iterator<T> iterator;
+
+        /**
+         * @param generator
+         *            the generator to use
+         * @param fromInclusive
+         *            the index of the first item
+         * @param toExclusive
+         *            the index of the item to stop at
+         */
+        public RangeSpliterator(final Of<T> generator, final long fromInclusive, final long toExclusive) {
+            this.generator = generator;
+            this.index = fromInclusive;
+            this.toExclusive = toExclusive;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+         */
+        public final boolean tryAdvance(final Consumer<? super T> action) {
+            if (index >= toExclusive) {
+                return false;
+            }
+            if (iterator == null) {
+                iterator = generator.iterator(index, toExclusive);
+            }
+            ++index;
+            action.accept(iterator.next());
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.Spliterator#forEachRemaining(java.util.function.Consumer)
+         */
+        public final void forEachRemaining(final Consumer<? super T> action) {
+            if (index >= toExclusive) {
+                return;
+            }
+            if (iterator == null) {
+                iterator = generator.iterator(index, toExclusive);
+            }
+            index = toExclusive;
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+            }
+        }
+
+        /**
+         * Splits off the lower half of the remaining range, unless traversal has already begun.
+         *
+         * @return the lower half, or <code>null</code>
+         * @see java.util.Spliterator#trySplit()
+         */
+        public final Spliterator<T> trySplit() {
+            if (iterator != null) {
+                return null;
+            }
+            final long mid = index + (toExclusive - index) / 2;
+            if (mid == index) {
+                return null;
+            }
+            final RangeSpliterator<T> lower = new RangeSpliterator<T>(generator, index, mid);
+            index = mid;
+            return lower;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.Spliterator#estimateSize()
+         */
+        public final long estimateSize() {
+            return toExclusive - index;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.Spliterator#characteristics()
+         */
+        public final int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+
+    }
 }
@@ -0,0 +1,42 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics;
+
+/**
+ * A {@link Generator} of <code>int[]</code> items that can also compute an item directly into a caller-supplied array, so that random
+ * access can be performed without allocating a new array per item, and that can compute the index of a given item.
+ *
+ * @author Alistair A. Israel
+ */
+public interface IntArrayGenerator extends Generator<int[]> {
+
+    /**
+     * Compute the <code>l</code>-th item into the given array.
+     *
+     * @param l
+     *            the index of the item to generate
+     * @param a
+     *            the array to hold the result, which must be large enough to hold the item
+     * @return <code>a</code>
+     */
+    int[] get(final long l, final int[] a);
+
+    /**
+     * Compute the index of the given item, the inverse of {@link #get(long)}.
+     *
+     * @param a
+     *            an item
+     * @return the index <code>l</code> such that <code>get(l)</code> is equal to <code>a</code>
+     */
+    long rank(final int[] a);
+
+}
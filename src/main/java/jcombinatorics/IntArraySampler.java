@@ -0,0 +1,43 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics;
+
+import java.util.SplittableRandom;
+
+/**
+ * Something that can draw uniformly random <code>int[]</code> items directly, so that they can be streamed by {@link RandomSamples}.
+ *
+ * @author Alistair A. Israel
+ */
+public interface IntArraySampler {
+
+    /**
+     * Draw a random item into a new array.
+     *
+     * @param random
+     *            the source of randomness
+     * @return the item
+     */
+    int[] sample(final SplittableRandom random);
+
+    /**
+     * Draw a random item into the given array.
+     *
+     * @param random
+     *            the source of randomness
+     * @param a
+     *            the array to hold the item, which must have been returned by {@link #sample(SplittableRandom)}
+     * @return <code>a</code>
+     */
+    int[] sample(final SplittableRandom random, final int[] a);
+
+}
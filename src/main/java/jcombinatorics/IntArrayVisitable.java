@@ -0,0 +1,43 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics;
+
+/**
+ * A set of <code>int[]</code> items addressed by a <code>long</code> index that can push any contiguous range of them to an
+ * {@link IntArrayVisitor}, so that the range <code>0..count() - 1</code> can be split across threads by {@link ParallelIntArrays}.
+ *
+ * @author Alistair A. Israel
+ */
+public interface IntArrayVisitable {
+
+    /**
+     * Return the total number of items.
+     *
+     * @return the total number of items
+     */
+    long count();
+
+    /**
+     * Visits the items <code>fromInclusive</code> (inclusive) up to <code>toExclusive</code> (exclusive) in order, passing the same
+     * array to the visitor every time.
+     *
+     * @param fromInclusive
+     *            the index of the first item to visit
+     * @param toExclusive
+     *            the index of the item to stop at
+     * @param visitor
+     *            the {@link IntArrayVisitor} to call for every item
+     * @return <code>true</code> if all the items were visited, <code>false</code> if the visitor stopped early
+     */
+    boolean visitAll(final long fromInclusive, final long toExclusive, final IntArrayVisitor visitor);
+
+}
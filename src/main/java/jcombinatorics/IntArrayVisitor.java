@@ -0,0 +1,31 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics;
+
+/**
+ * A callback for push-style enumeration of <code>int[]</code> items, such as permutations or combinations. The same array is passed on
+ * every call and is overwritten by the next item, so implementations must copy it if they need to keep it.
+ *
+ * @author Alistair A. Israel
+ */
+public interface IntArrayVisitor {
+
+    /**
+     * Visit the next item.
+     *
+     * @param a
+     *            the current item. Must not be modified.
+     * @return <code>true</code> to continue the enumeration, <code>false</code> to stop
+     */
+    boolean visit(final int[] a);
+
+}
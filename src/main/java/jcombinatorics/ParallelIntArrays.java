@@ -0,0 +1,312 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+/**
+ * <p>
+ * Utility methods to visit every item of an {@link IntArrayVisitable} in parallel using a {@link ForkJoinPool}.
+ * </p>
+ * <p>
+ * The index range is halved recursively into about {@value #CHUNKS_PER_THREAD} chunks per thread, which idle workers steal from each
+ * other. Each chunk is visited by a single {@link IntArrayVisitable#visitAll(long, long, IntArrayVisitor)} call, so computes only its
+ * first item directly and reuses one buffer for all the others.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ */
+public final class ParallelIntArrays {
+
+    /**
+     * The number of chunks to split the range into, per thread in the pool.
+     */
+    public static final int CHUNKS_PER_THREAD = 8;
+
+    /**
+     * Utility classes should not have a public or default constructor.
+     */
+    private ParallelIntArrays() {
+        // noop
+    }
+
+    /**
+     * Visits every item in parallel in the common {@link ForkJoinPool}.
+     *
+     * @param visitable
+     *            the {@link IntArrayVisitable}
+     * @param visitor
+     *            the {@link IntArrayVisitor}, which will be called concurrently from several threads. Returning <code>false</code> stops
+     *            all threads, though items already being visited by other threads may still be visited.
+     * @return <code>true</code> if all items were visited, <code>false</code> if the visitor stopped early
+     */
+    public static boolean visitAll(final IntArrayVisitable visitable, final IntArrayVisitor visitor) {
+        return visitAll(ForkJoinPool.commonPool(), visitable, visitor);
+    }
+
+    /**
+     * Visits every item in parallel in the given {@link ForkJoinPool}.
+     *
+     * @param pool
+     *            the {@link ForkJoinPool} to use
+     * @param visitable
+     *            the {@link IntArrayVisitable}
+     * @param visitor
+     *            the {@link IntArrayVisitor}, which will be called concurrently from several threads
+     * @return <code>true</code> if all items were visited, <code>false</code> if the visitor stopped early
+     * @see #visitAll(IntArrayVisitable, IntArrayVisitor)
+     */
+    public static boolean visitAll(final ForkJoinPool pool, final IntArrayVisitable visitable, final IntArrayVisitor visitor) {
+        final long count = visitable.count();
+        final AtomicBoolean stopped = new AtomicBoolean();
+        pool.invoke(new ForEachTask(visitable, visitor, stopped, 0, count, threshold(count, pool)));
+        return !stopped.get();
+    }
+
+    /**
+     * Reduces every item in parallel in the common {@link ForkJoinPool}, the same way as
+     * {@link java.util.stream.Stream#reduce(Object, BiFunction, BinaryOperator)}: each chunk is folded into its own accumulator, starting
+     * from <code>identity</code>, and the per-chunk results are then combined, in index order.
+     *
+     * @param <R>
+     *            the result type
+     * @param visitable
+     *            the {@link IntArrayVisitable}
+     * @param identity
+     *            the identity value for <code>combiner</code>
+     * @param accumulator
+     *            folds an item into a partial result. The array passed is reused, so must not be kept.
+     * @param combiner
+     *            combines two partial results
+     * @return the result of the reduction
+     */
+    public static <R> R reduce(final IntArrayVisitable visitable, final R identity, final BiFunction<R, int[], R> accumulator,
+            final BinaryOperator<R> combiner) {
+        return reduce(ForkJoinPool.commonPool(), visitable, identity, accumulator, combiner);
+    }
+
+    /**
+     * Reduces every item in parallel in the given {@link ForkJoinPool}.
+     *
+     * @param <R>
+     *            the result type
+     * @param pool
+     *            the {@link ForkJoinPool} to use
+     * @param visitable
+     *            the {@link IntArrayVisitable}
+     * @param identity
+     *            the identity value for <code>combiner</code>
+     * @param accumulator
+     *            folds an item into a partial result. The array passed is reused, so must not be kept.
+     * @param combiner
+     *            combines two partial results
+     * @return the result of the reduction
+     * @see #reduce(IntArrayVisitable, Object, BiFunction, BinaryOperator)
+     */
+    public static <R> R reduce(final ForkJoinPool pool, final IntArrayVisitable visitable, final R identity,
+            final BiFunction<R, int[], R> accumulator, final BinaryOperator<R> combiner) {
+        final long count = visitable.count();
+        return pool.invoke(new ReduceTask<R>(visitable, identity, accumulator, combiner, 0, count, threshold(count, pool)));
+    }
+
+    /**
+     * @param count
+     *            the number of items
+     * @param pool
+     *            the {@link ForkJoinPool}
+     * @return the largest number of items to visit without splitting further
+     */
+    private static long threshold(final long count, final ForkJoinPool pool) {
+        return Math.max(1, count / ((long) pool.getParallelism() * CHUNKS_PER_THREAD));
+    }
+
+    /**
+     * Visits a range of items, splitting it in half while it's larger than the threshold.
+     */
+    private static final class ForEachTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final IntArrayVisitable visitable;
+
+        private final IntArrayVisitor visitor;
+
+        private final AtomicBoolean stopped;
+
+        private final long from;
+
+        private final long to;
+
+        private final long threshold;
+
+        /**
+         * @param visitable
+         *            the {@link IntArrayVisitable}
+         * @param visitor
+         *            the {@link IntArrayVisitor}
+         * @param stopped
+         *            set when the visitor returns <code>false</code>
+         * @param from
+         *            the index of the first item to visit
+         * @param to
+         *            the index of the item to stop at
+         * @param threshold
+         *            the largest number of items to visit without splitting further
+         */
+        ForEachTask(final IntArrayVisitable visitable, final IntArrayVisitor visitor, final AtomicBoolean stopped, final long from,
+                final long to, final long threshold) {
+            this.visitable = visitable;
+            this.visitor = visitor;
+            this.stopped = stopped;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.concurrent.RecursiveAction#compute()
+         */
+        protected void compute() {
+            if (stopped.get()) {
+                return;
+            }
+            if (to - from > threshold) {
+                final long mid = from + (to - from) / 2;
+                invokeAll(new ForEachTask(visitable, visitor, stopped, from, mid, threshold), new ForEachTask(visitable, visitor,
+                        stopped, mid, to, threshold));
+            } else {
+                visitable.visitAll(from, to, new IntArrayVisitor() {
+                    public boolean visit(final int[] a) {
+                        if (!visitor.visit(a)) {
+                            stopped.set(true);
+                            return false;
+                        }
+                        return !stopped.get();
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Folds each item it visits into a running result.
+     *
+     * @param <R>
+     *            the result type
+     */
+    private static final class Accumulation<R> implements IntArrayVisitor {
+
+        private final BiFunction<R, int[], R> accumulator;
+
+        private R result;
+
+        /**
+         * @param identity
+         *            the initial result
+         * @param accumulator
+         *            folds an item into the result
+         */
+        Accumulation(final R identity, final BiFunction<R, int[], R> accumulator) {
+            this.result = identity;
+            this.accumulator = accumulator;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see jcombinatorics.IntArrayVisitor#visit(int[])
+         */
+        public boolean visit(final int[] a) {
+            result = accumulator.apply(result, a);
+            return true;
+        }
+    }
+
+    /**
+     * Reduces a range of items, splitting it in half while it's larger than the threshold.
+     *
+     * @param <R>
+     *            the result type
+     */
+    private static final class ReduceTask<R> extends RecursiveTask<R> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final IntArrayVisitable visitable;
+
+        private final R identity;
+
+        private final BiFunction<R, int[], R> accumulator;
+
+        private final BinaryOperator<R> combiner;
+
+        private final long from;
+
+        private final long to;
+
+        private final long threshold;
+
+        /**
+         * @param visitable
+         *            the {@link IntArrayVisitable}
+         * @param identity
+         *            the identity value for <code>combiner</code>
+         * @param accumulator
+         *            folds an item into a partial result
+         * @param combiner
+         *            combines two partial results
+         * @param from
+         *            the index of the first item to visit
+         * @param to
+         *            the index of the item to stop at
+         * @param threshold
+         *            the largest number of items to visit without splitting further
+         */
+        ReduceTask(final IntArrayVisitable visitable, final R identity, final BiFunction<R, int[], R> accumulator,
+                final BinaryOperator<R> combiner, final long from, final long to, final long threshold) {
+            this.visitable = visitable;
+            this.identity = identity;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.concurrent.RecursiveTask#compute()
+         */
+        protected R compute() {
+            if (to - from > threshold) {
+                final long mid = from + (to - from) / 2;
+                final ReduceTask<R> left = new ReduceTask<R>(visitable, identity, accumulator, combiner, from, mid, threshold);
+                final ReduceTask<R> right = new ReduceTask<R>(visitable, identity, accumulator, combiner, mid, to, threshold);
+                left.fork();
+                final R r = right.compute();
+                return combiner.apply(left.join(), r);
+            }
+            final Accumulation<R> accumulation = new Accumulation<R>(identity, accumulator);
+            visitable.visitAll(from, to, accumulation);
+            return accumulation.result;
+        }
+    }
+
+}
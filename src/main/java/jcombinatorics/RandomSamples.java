@@ -0,0 +1,230 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics;
+
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * Utility methods to stream random samples drawn by an {@link IntArraySampler}.
+ * </p>
+ * <p>
+ * Like {@link SplittableRandom#ints(long)}, whenever the stream is split, the half that's split off gets its own generator from
+ * {@link SplittableRandom#split()}, so parallel workers never share one, and draw statistically independent samples. Each worker
+ * draws into a single buffer, so the arrays passed down the stream are reused and must be copied to be kept.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ */
+public final class RandomSamples {
+
+    /**
+     * Utility classes should not have a public or default constructor.
+     */
+    private RandomSamples() {
+        // noop
+    }
+
+    /**
+     * @param sampler
+     *            the {@link IntArraySampler}
+     * @param size
+     *            the number of samples
+     * @param random
+     *            the source of randomness, which the stream takes over
+     * @return a sequential {@link Stream} of <code>size</code> random samples
+     */
+    public static Stream<int[]> stream(final IntArraySampler sampler, final long size, final SplittableRandom random) {
+        return StreamSupport.stream(new IntArraySampleSpliterator(sampler, random, 0, size), false);
+    }
+
+    /**
+     * @param sampler
+     *            the {@link IntArraySampler}
+     * @param size
+     *            the number of samples
+     * @param random
+     *            the source of randomness, which the stream takes over, splitting it for each worker
+     * @return a parallel {@link Stream} of <code>size</code> random samples
+     */
+    public static Stream<int[]> parallelStream(final IntArraySampler sampler, final long size, final SplittableRandom random) {
+        return StreamSupport.stream(new IntArraySampleSpliterator(sampler, random, 0, size), true);
+    }
+
+    /**
+     * A {@link Spliterator} that draws a fixed number of samples. Each split gets its own split of the generator.
+     *
+     * @param <T>
+     *            the type of sample
+     */
+    private abstract static class SampleSpliterator<T> implements Spliterator<T> {
+
+        private final SplittableRandom random;
+
+        private final long toExclusive;
+
+        private long index;
+
+        /**
+         * @param random
+         *            the source of randomness, used by this spliterator only
+         * @param fromInclusive
+         *            the index of the first sample
+         * @param toExclusive
+         *            the index of the sample to stop at
+         */
+        SampleSpliterator(final SplittableRandom random, final long fromInclusive, final long toExclusive) {
+            if (fromInclusive < 0 || fromInclusive > toExclusive) {
+                throw new IllegalArgumentException("0 <= " + fromInclusive + " <= " + toExclusive + "!");
+            }
+            this.random = random;
+            this.index = fromInclusive;
+            this.toExclusive = toExclusive;
+        }
+
+        /**
+         * @param generator
+         *            the source of randomness to use
+         * @return the next sample
+         */
+        protected abstract T draw(SplittableRandom generator);
+
+        /**
+         * @param generator
+         *            the source of randomness for the new spliterator
+         * @param from
+         *            the index of its first sample
+         * @param to
+         *            the index of the sample it stops at
+         * @return a new spliterator drawing the same kind of samples
+         */
+        protected abstract SampleSpliterator<T> split(SplittableRandom generator, long from, long to);
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+         */
+        public final boolean tryAdvance(final Consumer<? super T> action) {
+            if (index >= toExclusive) {
+                return false;
+            }
+            ++index;
+            action.accept(draw(random));
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.Spliterator#forEachRemaining(java.util.function.Consumer)
+         */
+        public final void forEachRemaining(final Consumer<? super T> action) {
+            while (index < toExclusive) {
+                ++index;
+                action.accept(draw(random));
+            }
+        }
+
+        /**
+         * Splits off the lower half of the remaining samples, with its own split of the generator.
+         *
+         * @return the lower half, or <code>null</code>
+         * @see java.util.Spliterator#trySplit()
+         */
+        public final Spliterator<T> trySplit() {
+            final long mid = index + (toExclusive - index) / 2;
+            if (mid == index) {
+                return null;
+            }
+            final SampleSpliterator<T> lower = split(random.split(), index, mid);
+            index = mid;
+            return lower;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.Spliterator#estimateSize()
+         */
+        public final long estimateSize() {
+            return toExclusive - index;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.Spliterator#characteristics()
+         */
+        public final int characteristics() {
+            return SIZED | SUBSIZED | NONNULL;
+        }
+
+    }
+
+    /**
+     * Draws samples from an {@link IntArraySampler} into an array that it allocates on first use, then reuses.
+     */
+    private static final class IntArraySampleSpliterator extends SampleSpliterator<int[]> {
+
+        private final IntArraySampler sampler;
+
+        private int[] buffer;
+
+        /**
+         * @param sampler
+         *            the {@link IntArraySampler}
+         * @param random
+         *            the source of randomness, used by this spliterator only
+         * @param fromInclusive
+         *            the index of the first sample
+         * @param toExclusive
+         *            the index of the sample to stop at
+         */
+        IntArraySampleSpliterator(final IntArraySampler sampler, final SplittableRandom random, final long fromInclusive,
+                final long toExclusive) {
+            super(random, fromInclusive, toExclusive);
+            this.sampler = sampler;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see jcombinatorics.RandomSamples.SampleSpliterator#draw(java.util.SplittableRandom)
+         */
+        @Override
+        protected int[] draw(final SplittableRandom generator) {
+            if (buffer == null) {
+                buffer = sampler.sample(generator);
+            } else {
+                sampler.sample(generator, buffer);
+            }
+            return buffer;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see jcombinatorics.RandomSamples.SampleSpliterator#split(java.util.SplittableRandom, long, long)
+         */
+        @Override
+        protected SampleSpliterator<int[]> split(final SplittableRandom generator, final long from, final long to) {
+            return new IntArraySampleSpliterator(sampler, generator, from, to);
+        }
+
+    }
+
+}
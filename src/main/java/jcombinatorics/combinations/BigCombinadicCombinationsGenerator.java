@@ -0,0 +1,186 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import java.math.BigInteger;
+
+import jcombinatorics.BigGenerator;
+
+/**
+ * A combinations generator, in lexicographic order, addressed by a {@link BigInteger} index so it isn't limited to
+ * <code>C(n, k) &lt;= </code>{@link java.lang.Long#MAX_VALUE}.
+ * <p>
+ * Each element is found by walking down from <code>C(n, k)</code>: the number of combinations of the remaining elements that start with
+ * element <code>c</code> is <code>C(n - c - 1, k - j - 1) = C(n - c, k - j) * (k - j) / (n - c)</code>. {@link BigInteger} arithmetic
+ * is only used until that count is small enough for <code>long</code> arithmetic, so for most indexes most of the walk is done using
+ * <code>long</code>s.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see CombinadicCombinationsGenerator
+ */
+public class BigCombinadicCombinationsGenerator implements BigGenerator<int[]> {
+
+    private final int n;
+
+    private final int k;
+
+    private final BigInteger count;
+
+    /**
+     * Below this, <code>C(n - c, k - j) * (k - j)</code> can't overflow a <code>long</code>.
+     */
+    private final BigInteger longLimit;
+
+    /**
+     * @param n
+     *            the number of elements to choose from
+     * @param k
+     *            taken <code>k</code> at a time
+     */
+    public BigCombinadicCombinationsGenerator(final int n, final int k) {
+        if (k < 0 || k > n) {
+            throw new IllegalArgumentException("0 <= k <= " + n + "!");
+        }
+        this.n = n;
+        this.k = k;
+        BigInteger c = BigInteger.ONE;
+        for (int i = 0; i < k; ++i) {
+            c = c.multiply(BigInteger.valueOf(n - i)).divide(BigInteger.valueOf(i + 1));
+        }
+        this.count = c;
+        this.longLimit = BigInteger.valueOf(Long.MAX_VALUE / Math.max(k, 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see jcombinatorics.BigGenerator#count()
+     */
+    public final BigInteger count() {
+        return count;
+    }
+
+    /**
+     * Retrieve the <i>i</i>-th combination.
+     *
+     * @param i
+     *            the index
+     * @return int[]
+     */
+    public final int[] get(final BigInteger i) {
+        return get(i, new int[k]);
+    }
+
+    /**
+     * Retrieve the <i>i</i>-th combination into the given array.
+     *
+     * @param i
+     *            the index
+     * @param a
+     *            the array to hold the combination, of length at least <code>k</code>
+     * @return <code>a</code>
+     */
+    public final int[] get(final BigInteger i, final int[] a) {
+        if (i.signum() < 0 || i.compareTo(count) >= 0) {
+            throw new IllegalArgumentException("0 <= " + i + " < " + count + "!");
+        }
+        BigInteger m = i;
+        // b = C(n - c, k - j)
+        BigInteger b = count;
+        int c = 0;
+        int j = 0;
+        while (b.compareTo(longLimit) > 0) {
+            final BigInteger first = b.multiply(BigInteger.valueOf(k - j)).divide(BigInteger.valueOf(n - c));
+            if (m.compareTo(first) < 0) {
+                a[j] = c;
+                ++j;
+                b = first;
+            } else {
+                m = m.subtract(first);
+                b = b.subtract(first);
+            }
+            ++c;
+        }
+        long lm = m.longValue();
+        long lb = b.longValue();
+        while (j < k) {
+            final long first = lb * (k - j) / (n - c);
+            if (lm < first) {
+                a[j] = c;
+                ++j;
+                lb = first;
+            } else {
+                lm -= first;
+                lb -= first;
+            }
+            ++c;
+        }
+        return a;
+    }
+
+    /**
+     * Compute the index of the given combination, the inverse of {@link #get(BigInteger)}.
+     *
+     * @param a
+     *            a combination of <code>k</code> elements from <code>0..n-1</code>, in ascending order
+     * @return the index <code>i</code> such that <code>get(i)</code> is equal to <code>a</code>
+     */
+    public final BigInteger rank(final int[] a) {
+        BigInteger r = BigInteger.ZERO;
+        BigInteger b = count;
+        int c = 0;
+        int j = 0;
+        while (b.compareTo(longLimit) > 0) {
+            validate(a, j, c);
+            final BigInteger first = b.multiply(BigInteger.valueOf(k - j)).divide(BigInteger.valueOf(n - c));
+            if (a[j] == c) {
+                ++j;
+                b = first;
+            } else {
+                r = r.add(first);
+                b = b.subtract(first);
+            }
+            ++c;
+        }
+        long lr = 0;
+        long lb = b.longValue();
+        while (j < k) {
+            validate(a, j, c);
+            final long first = lb * (k - j) / (n - c);
+            if (a[j] == c) {
+                ++j;
+                lb = first;
+            } else {
+                lr += first;
+                lb -= first;
+            }
+            ++c;
+        }
+        return r.add(BigInteger.valueOf(lr));
+    }
+
+    /**
+     * @param a
+     *            the combination
+     * @param j
+     *            the index of the element being ranked
+     * @param c
+     *            the smallest element it can be
+     */
+    private void validate(final int[] a, final int j, final int c) {
+        if (a[j] < c || a[j] >= n) {
+            throw new IllegalArgumentException("Element " + a[j] + " at index " + j + " is not in " + c + ".." + (n - 1) + "!");
+        }
+    }
+
+}
@@ -11,7 +11,12 @@
  */
 package jcombinatorics.combinations;
 
+import static jcombinatorics.util.MathUtils.binomial;
+
+import java.util.Iterator;
+
 import jcombinatorics.Generator;
+import jcombinatorics.IntArrayGenerator;
 
 /**
  * A combinations generator based on combinadics. Capable of computing the <i>i</i>-th combination directly using {@link #get(long)}.
@@ -21,7 +26,7 @@ import jcombinatorics.Generator;
  * @see <a href="http://msdn.microsoft.com/en-us/library/aa289166%28VS.71%29.aspx">Generating the mth Lexicographical Element of a
  *      Mathematical Combination, James McCaffrey</a>
  */
-public class CombinadicCombinationsGenerator extends Generator.Of<int[]> {
+public class CombinadicCombinationsGenerator extends Generator.Of<int[]> implements IntArrayGenerator {
 
     private final int n;
 
@@ -41,7 +46,7 @@ public class CombinadicCombinationsGenerator extends Generator.Of<int[]> {
         }
         this.n = n;
         this.k = k;
-        this.count = count(n, k);
+        this.count = Combinations.count(n, k);
     }
 
     /**
@@ -59,24 +64,44 @@ public class CombinadicCombinationsGenerator extends Generator.Of<int[]> {
         return count;
     }
 
+    /**
+     * Returns a Rosen iterator that computes the <i>fromInclusive</i>-th combination directly, then steps to each subsequent one.
+     *
+     * @param fromInclusive
+     *            the index of the first combination to return
+     * @param toExclusive
+     *            the index of the combination to stop at
+     * @return {@link Iterator}&lt;int[]&gt;
+     * @see jcombinatorics.Generator.Of#iterator(long, long)
+     */
+    public final Iterator<int[]> iterator(final long fromInclusive, final long toExclusive) {
+        return new RosenIterator(n, k, fromInclusive, toExclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see jcombinatorics.Generator.Of#hasCheapSuccessor()
+     */
+    protected final boolean hasCheapSuccessor() {
+        return true;
+    }
+
     /**
      * <p>
      * Retrieve the <i>l</i>-th combination.
      * </p>
      * <p>
-     * The main loop logic equivalent to the following:
+     * The combinadic of <code>m = count - l - 1</code> gives the 'dual' of the combination. Each digit is the largest <code>v</code>
+     * (less than the previous digit) where <code>C(v, i) &lt;= m</code>, which is found by binary search over
+     * {@link jcombinatorics.util.MathUtils#binomial(int, int)}:
      * </p>
      *
      * <pre>
-     * int v = n - 1;
+     * int v = n;
      * for (int i = k; i &gt; 0; --i) {
-     *     long c = count(v, i);
-     *     // in-lined find largest v
-     *     while (c &gt; m) {
-     *         c = c * (v - i) / v;
-     *         --v;
-     *     }
-     *     m -= c;
+     *     v = largest v' &lt; v where C(v', i) &lt;= m;
+     *     m -= C(v, i);
      *     a[k - i] = (n - 1) - v;
      * }
      * </pre>
@@ -86,42 +111,130 @@ public class CombinadicCombinationsGenerator extends Generator.Of<int[]> {
      * @return int[]
      */
     public final int[] get(final long l) {
-        final int[] a = new int[k];
-        long m = count - l - 1;
+        return get(l, new int[k]);
+    }
 
-        int v = n - 1;
-        long c = count(v, k);
-        for (int i = k; i > 0;) {
-            // in-lined find largest v
-            while (c > m) {
-                c = c * (v - i) / v;
-                --v;
-            }
-            m -= c;
+    /**
+     * Retrieve the <i>l</i>-th combination into the given array.
+     *
+     * @param l
+     *            long
+     * @param a
+     *            the array to hold the combination, of length at least <code>k</code>
+     * @return <code>a</code>
+     * @see #get(long)
+     */
+    public final int[] get(final long l, final int[] a) {
+        long m = count - l - 1;
+        int v = n;
+        for (int i = k; i > 0; --i) {
+            v = digit(v, i, m);
+            m -= binomial(v, i);
             a[k - i] = (n - 1) - v;
-            --i;
-            if (v > i) {
-                c = c * (i + 1) / (v - i);
+        }
+        return a;
+    }
+
+    /**
+     * Binary search for the next combinadic digit.
+     *
+     * @param v
+     *            the previous digit
+     * @param i
+     *            the number of digits left
+     * @param m
+     *            what's left of the combinadic
+     * @return the largest <code>v' &lt; v</code> where <code>C(v', i) &lt;= m</code>
+     */
+    static int digit(final int v, final int i, final long m) {
+        // C(i - 1, i) = 0, so there's always an answer >= i - 1
+        int lo = i - 1;
+        int hi = v - 1;
+        while (lo < hi) {
+            final int mid = (lo + hi + 1) >>> 1;
+            if (binomial(mid, i) <= m) {
+                lo = mid;
             } else {
-                c = v;
+                hi = mid - 1;
             }
         }
-        return a;
+        return lo;
     }
 
     /**
-     * @param n
-     *            n
-     * @param k
-     *            k
-     * @return C(n,k)
+     * Compute <code>items</code> consecutive combinations starting from the <i>fromInclusive</i>-th into <code>dest</code>, one after the
+     * other, so that the <i>j</i>-th one occupies <code>dest[j * k..j * k + k - 1]</code>. Only the first combination is
+     * computed directly, the rest are stepped to by a {@link RosenIterator}.
+     *
+     * @param fromInclusive
+     *            the index of the first combination
+     * @param items
+     *            the number of combinations
+     * @param dest
+     *            the array to hold the combinations, of length at least <code>items * k</code>
+     * @return <code>dest</code>
      */
-    private static int count(final int n, final int k) {
-        int count = n;
-        for (int i = 1; i < k; ++i) {
-            count = count * (n - i) / (i + 1);
+    public final int[] getBlock(final long fromInclusive, final int items, final int[] dest) {
+        if (items < 0) {
+            throw new IllegalArgumentException("items < 0");
         }
-        return count;
+        new RosenIterator(n, k, fromInclusive, fromInclusive + items).nextBlock(dest, items);
+        return dest;
+    }
+
+    /**
+     * Compute the index of the given combination, the inverse of {@link #get(long)}. This is also the position at which
+     * {@link RosenIterator} returns the combination.
+     *
+     * @param a
+     *            a combination of <code>k</code> elements from <code>0..n-1</code>, in ascending order
+     * @return the index <code>l</code> such that <code>get(l)</code> is equal to <code>a</code>
+     */
+    public final long rank(final int[] a) {
+        return rank(a, 0);
+    }
+
+    /**
+     * Compute the index of the combination stored at <code>a[offset..offset+k-1]</code>. The combinadic of the 'dual' combination,
+     * <code>{ n-1-a[0], n-1-a[1], ... }</code>, counts the combinations after it, so the index is <code>count - 1 - m</code>, where
+     * <code>m = C(n-1-a[0], k) + C(n-1-a[1], k-1) + ... + C(n-1-a[k-1], 1)</code>.
+     *
+     * @param a
+     *            an array holding the combination, in ascending order
+     * @param offset
+     *            the index in <code>a</code> of the first element of the combination
+     * @return the index of the combination
+     */
+    public final long rank(final int[] a, final int offset) {
+        long m = 0;
+        int previous = -1;
+        for (int i = 0; i < k; ++i) {
+            final int c = a[offset + i];
+            if (c <= previous || c >= n) {
+                throw new IllegalArgumentException("Element " + c + " at index " + (offset + i) + " is not in " + (previous + 1) + ".."
+                        + (n - 1) + "!");
+            }
+            m += binomial(n - 1 - c, k - i);
+            previous = c;
+        }
+        return count - 1 - m;
+    }
+
+    /**
+     * Rank a batch of combinations stored consecutively in a flat array, so that combination <i>j</i> occupies
+     * <code>a[j * k..j * k + k - 1]</code>.
+     *
+     * @param a
+     *            the combinations, in row-major order
+     * @param ranks
+     *            the array to hold the index of each combination. Its length determines the number of combinations ranked.
+     * @return <code>ranks</code>
+     */
+    public final long[] rank(final int[] a, final long[] ranks) {
+        for (int j = 0, offset = 0; j < ranks.length; ++j, offset += k) {
+            ranks[j] = rank(a, offset);
+        }
+        return ranks;
     }
 
 }
@@ -12,8 +12,21 @@
 package jcombinatorics.combinations;
 
 import java.util.Iterator;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
 
+import jcombinatorics.Generator;
+import jcombinatorics.IntArrayGenerator;
+import jcombinatorics.IntArraySampler;
+import jcombinatorics.IntArrayVisitable;
+import jcombinatorics.IntArrayVisitor;
+import jcombinatorics.ParallelIntArrays;
+import jcombinatorics.RandomSamples;
 import jcombinatorics.util.ArrayUtils;
+import jcombinatorics.util.MathUtils;
+import jcombinatorics.util.RandomSampling;
 import jcombinatorics.util.ReadOnlyIterator;
 
 /**
@@ -34,7 +47,7 @@ public final class Combinations {
 
     /**
      * Computes the number of unique combinations of <code>n</code> elements taken <code>k</code> at a time, which can be computed as:
-     * <code>n! / k! (n - k)!</code>
+     * <code>n! / k! (n - k)!</code>. Throws an {@link ArithmeticException} if that's greater than {@link java.lang.Long#MAX_VALUE}.
      *
      * @param n
      *            the number of elements
@@ -46,11 +59,66 @@ public final class Combinations {
         if (k < 0 || k > n) {
             throw new IllegalArgumentException("0 <= k <= " + n + "!");
         }
-        long count = 1;
-        for (int i = 0; i < k; ++i) {
-            count = count * (n - i) / (i + 1);
+        return MathUtils.binomial(n, k);
+    }
+
+    /**
+     * Draws uniformly random combinations of <code>n</code> elements taken <code>k</code> at a time, in ascending order, without going
+     * through their indices, so <code>n</code> can be as large as an array allows.
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     * @return an {@link IntArraySampler}
+     * @see RandomSampling#subset(SplittableRandom, int, int, int[])
+     * @see RandomSamples
+     */
+    public static IntArraySampler sampler(final int n, final int k) {
+        if (k < 0 || k > n) {
+            throw new IllegalArgumentException("0 <= k <= " + n + "!");
+        }
+        return new Sampler(n, k);
+    }
+
+    /**
+     * Implements {@link Combinations#sampler(int, int)}.
+     */
+    private static final class Sampler implements IntArraySampler {
+
+        private final int n;
+
+        private final int k;
+
+        /**
+         * @param n
+         *            the number of elements
+         * @param k
+         *            taken k at a time
+         */
+        Sampler(final int n, final int k) {
+            this.n = n;
+            this.k = k;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see jcombinatorics.IntArraySampler#sample(java.util.SplittableRandom)
+         */
+        public int[] sample(final SplittableRandom random) {
+            return sample(random, new int[k]);
         }
-        return count;
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see jcombinatorics.IntArraySampler#sample(java.util.SplittableRandom, int[])
+         */
+        public int[] sample(final SplittableRandom random, final int[] a) {
+            return RandomSampling.subset(random, n, k, a);
+        }
+
     }
 
     /**
@@ -58,7 +126,7 @@ public final class Combinations {
      *
      * @author Alistair A. Israel
      */
-    public static final class Chooser implements Iterable<int[]> {
+    public static final class Chooser extends Generator.Of<int[]> implements IntArrayGenerator, IntArrayVisitable, IntArraySampler {
 
         /**
          *
@@ -72,6 +140,8 @@ public final class Combinations {
 
         private final CombinadicCombinationsGenerator generator;
 
+        private final IntArraySampler sampler;
+
         /**
          * @param n
          *            the number of elements
@@ -82,15 +152,141 @@ public final class Combinations {
             this.n = n;
             this.k = k;
             this.generator = new CombinadicCombinationsGenerator(n, k);
+            this.sampler = new Sampler(n, k);
+        }
+
+        /**
+         * Returns a Rosen iterator that starts at the <i>fromInclusive</i>-th combination.
+         *
+         * @param fromInclusive
+         *            the index of the first combination to return
+         * @param toExclusive
+         *            the index of the combination to stop at
+         * @return {@link Iterator}&lt;int[]&gt;
+         * @see jcombinatorics.Generator.Of#iterator(long, long)
+         */
+        public Iterator<int[]> iterator(final long fromInclusive, final long toExclusive) {
+            return new RosenIterator(n, k, fromInclusive, toExclusive);
         }
 
         /**
          * {@inheritDoc}
          *
-         * @see java.lang.Iterable#iterator()
+         * @see jcombinatorics.Generator.Of#hasCheapSuccessor()
+         */
+        protected boolean hasCheapSuccessor() {
+            return true;
+        }
+
+        /**
+         * Visits every combination in lexicographic order using a Rosen iterator, passing the same array to the visitor every time. This
+         * avoids the per-item {@link Iterator#hasNext()} and {@link Iterator#next()} calls of {@link #iterator()}.
+         *
+         * @param visitor
+         *            the {@link IntArrayVisitor} to call for every combination
+         * @return <code>true</code> if all combinations were visited, <code>false</code> if the visitor stopped early
+         */
+        public boolean visitAll(final IntArrayVisitor visitor) {
+            return new RosenIterator(n, k).visitAll(visitor);
+        }
+
+        /**
+         * Visits the combinations <code>fromInclusive</code> (inclusive) up to <code>toExclusive</code> (exclusive) in lexicographic order
+         * using a Rosen iterator, passing the same array to the visitor every time.
+         *
+         * @param fromInclusive
+         *            the index of the first combination to visit
+         * @param toExclusive
+         *            the index of the combination to stop at
+         * @param visitor
+         *            the {@link IntArrayVisitor} to call for every combination
+         * @return <code>true</code> if all the combinations were visited, <code>false</code> if the visitor stopped early
+         * @see jcombinatorics.IntArrayVisitable#visitAll(long, long, IntArrayVisitor)
+         */
+        public boolean visitAll(final long fromInclusive, final long toExclusive, final IntArrayVisitor visitor) {
+            return new RosenIterator(n, k, fromInclusive, toExclusive).visitAll(visitor);
+        }
+
+        /**
+         * Visits every combination in parallel in the common {@link java.util.concurrent.ForkJoinPool}. The index range is split into
+         * chunks, and each chunk is visited by its own Rosen iterator with its own buffer.
+         *
+         * @param visitor
+         *            the {@link IntArrayVisitor}, which will be called concurrently from several threads
+         * @return <code>true</code> if all combinations were visited, <code>false</code> if the visitor stopped early
+         * @see ParallelIntArrays#visitAll(IntArrayVisitable, IntArrayVisitor)
+         */
+        public boolean parallelVisitAll(final IntArrayVisitor visitor) {
+            return ParallelIntArrays.visitAll(this, visitor);
+        }
+
+        /**
+         * Reduces every combination in parallel in the common {@link java.util.concurrent.ForkJoinPool}, folding each chunk into its
+         * own accumulator starting from <code>identity</code>, then combining the per-chunk results.
+         *
+         * @param <R>
+         *            the result type
+         * @param identity
+         *            the identity value for <code>combiner</code>
+         * @param accumulator
+         *            folds a combination into a partial result. The array passed is reused, so must not be kept.
+         * @param combiner
+         *            combines two partial results
+         * @return the result of the reduction
+         * @see ParallelIntArrays#reduce(IntArrayVisitable, Object, BiFunction, BinaryOperator)
+         */
+        public <R> R parallelReduce(final R identity, final BiFunction<R, int[], R> accumulator, final BinaryOperator<R> combiner) {
+            return ParallelIntArrays.reduce(this, identity, accumulator, combiner);
+        }
+
+        /**
+         * Draw a uniformly random combination.
+         *
+         * @param random
+         *            the source of randomness
+         * @return a new array holding the combination, in ascending order
+         * @see Combinations#sampler(int, int)
+         */
+        public int[] sample(final SplittableRandom random) {
+            return sampler.sample(random);
+        }
+
+        /**
+         * Draw a uniformly random combination into the given array.
+         *
+         * @param random
+         *            the source of randomness
+         * @param a
+         *            the array to hold the combination, of length at least <code>k</code>
+         * @return <code>a</code>
+         * @see Combinations#sampler(int, int)
+         */
+        public int[] sample(final SplittableRandom random, final int[] a) {
+            return sampler.sample(random, a);
+        }
+
+        /**
+         * @param size
+         *            the number of samples
+         * @param random
+         *            the source of randomness, which the stream takes over
+         * @return a sequential {@link Stream} of <code>size</code> uniformly random combinations, in a reused array
+         * @see RandomSamples#stream(IntArraySampler, long, SplittableRandom)
+         */
+        public Stream<int[]> samples(final long size, final SplittableRandom random) {
+            return RandomSamples.stream(sampler, size, random);
+        }
+
+        /**
+         * @param size
+         *            the number of samples
+         * @param random
+         *            the source of randomness, which the stream takes over, and splits for each worker
+         * @return a parallel {@link Stream} of <code>size</code> uniformly random combinations, each worker reusing its own array
+         * @see RandomSamples#parallelStream(IntArraySampler, long, SplittableRandom)
          */
-        public Iterator<int[]> iterator() {
-            return new RosenIterator(n, k);
+        public Stream<int[]> parallelSamples(final long size, final SplittableRandom random) {
+            return RandomSamples.parallelStream(sampler, size, random);
         }
 
         /**
@@ -103,6 +299,38 @@ public final class Combinations {
         public int[] get(final long l) {
             return generator.get(l);
         }
+
+        /**
+         * Retrieve the <i>i</i>-th combination into the given array.
+         *
+         * @param l
+         *            long
+         * @param a
+         *            the array to hold the combination, of length at least <code>k</code>
+         * @return <code>a</code>
+         */
+        public int[] get(final long l, final int[] a) {
+            return generator.get(l, a);
+        }
+
+        /**
+         * Compute the index of the given combination, the inverse of {@link #get(long)}.
+         *
+         * @param a
+         *            a combination of <code>k</code> elements from <code>0..n-1</code>, in ascending order
+         * @return the index <code>l</code> such that <code>get(l)</code> is equal to <code>a</code>
+         */
+        public long rank(final int[] a) {
+            return generator.rank(a);
+        }
+
+        /**
+         * @return the total number of combinations available
+         * @see jcombinatorics.Generator#count()
+         */
+        public long count() {
+            return generator.count();
+        }
     }
 
     /**
@@ -116,6 +344,59 @@ public final class Combinations {
         return new Chooser(n, k);
     }
 
+    /**
+     * Like {@link #choose(int, int)}, but addressed by a {@link java.math.BigInteger} index, for when <code>C(n, k)</code> is too many to
+     * count in a <code>long</code>.
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     * @return {@link BigCombinadicCombinationsGenerator}
+     */
+    public static BigCombinadicCombinationsGenerator chooseBig(final int n, final int k) {
+        return new BigCombinadicCombinationsGenerator(n, k);
+    }
+
+    /**
+     * Combinations with repetition, or multisets of size <code>k</code> drawn from <code>n</code> types.
+     *
+     * @param n
+     *            the number of types
+     * @param k
+     *            the size of each multiset
+     * @return {@link MultichooseGenerator}
+     */
+    public static MultichooseGenerator multichoose(final int n, final int k) {
+        return new MultichooseGenerator(n, k);
+    }
+
+    /**
+     * Combinations as <code>long</code> bitmasks, where element <code>i</code> is bit <code>i</code>.
+     *
+     * @param n
+     *            the number of elements, <code>0 &lt;= n &lt;= 64</code>
+     * @param k
+     *            taken k at a time
+     * @return {@link MaskCombinationsGenerator}
+     */
+    public static MaskCombinationsGenerator chooseMasks(final int n, final int k) {
+        return new MaskCombinationsGenerator(n, k);
+    }
+
+    /**
+     * Combinations as bitmasks spread over <code>long[]</code> words, for <code>n &gt; 64</code>.
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     * @return {@link WordMaskCombinationsGenerator}
+     */
+    public static WordMaskCombinationsGenerator chooseWordMasks(final int n, final int k) {
+        return new WordMaskCombinationsGenerator(n, k);
+    }
+
     /**
      * @param <T>
      *            a type
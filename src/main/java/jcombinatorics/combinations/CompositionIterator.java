@@ -0,0 +1,162 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import jcombinatorics.IntArrayVisitor;
+import jcombinatorics.util.ReadOnlyIterator;
+
+/**
+ * <p>
+ * An iterator that enumerates the compositions of <code>n</code> into <code>k</code> bounded parts in lexicographic order, the same
+ * order as {@link CompositionsGenerator}, by stepping directly on the part sizes. Each step finds the rightmost part that can grow by
+ * one while the parts after it can still give that up without going below their lower bounds, then sets the parts after it to the
+ * smallest values that still add up, leaving as much as possible to the last ones. The same array is returned every time.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see CompositionsGenerator
+ */
+public class CompositionIterator extends ReadOnlyIterator<int[]> {
+
+    private final int k;
+
+    private final int[] lower;
+
+    private final int[] upper;
+
+    /**
+     * <code>minSuffix[i]</code> is the sum of the lower bounds of parts <code>i..k-1</code>.
+     */
+    private final long[] minSuffix;
+
+    /**
+     * <code>maxSuffix[i]</code> is the sum of the upper bounds of parts <code>i..k-1</code>.
+     */
+    private final long[] maxSuffix;
+
+    private final int[] a;
+
+    private boolean pending = true;
+
+    private long remaining;
+
+    /**
+     * @param generator
+     *            the {@link CompositionsGenerator} whose compositions to enumerate
+     */
+    public CompositionIterator(final CompositionsGenerator generator) {
+        this(generator, 0, generator.count());
+    }
+
+    /**
+     * Enumerates the compositions <code>fromInclusive</code> (inclusive) up to <code>toExclusive</code> (exclusive). The first
+     * composition is computed directly using the {@link CompositionsGenerator}.
+     *
+     * @param generator
+     *            the {@link CompositionsGenerator} whose compositions to enumerate
+     * @param fromInclusive
+     *            the index of the first composition to return
+     * @param toExclusive
+     *            the index of the composition to stop at
+     */
+    public CompositionIterator(final CompositionsGenerator generator, final long fromInclusive, final long toExclusive) {
+        if (fromInclusive < 0 || fromInclusive > toExclusive || toExclusive > generator.count()) {
+            throw new IllegalArgumentException("0 <= " + fromInclusive + " <= " + toExclusive + " <= " + generator.count() + "!");
+        }
+        k = generator.size();
+        lower = generator.lower();
+        upper = generator.upper();
+        minSuffix = new long[k + 1];
+        maxSuffix = new long[k + 1];
+        for (int i = k - 1; i >= 0; --i) {
+            minSuffix[i] = minSuffix[i + 1] + lower[i];
+            maxSuffix[i] = maxSuffix[i + 1] + upper[i];
+        }
+        a = new int[k];
+        remaining = toExclusive - fromInclusive;
+        if (remaining > 0) {
+            generator.get(fromInclusive, a);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#hasNext()
+     */
+    public final boolean hasNext() {
+        return remaining > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#next()
+     */
+    public final int[] next() {
+        if (pending) {
+            pending = false;
+        } else {
+            computeNext();
+        }
+        --remaining;
+        return a;
+    }
+
+    /**
+     * Visits each of the remaining compositions in turn, in a tight loop without going through {@link #hasNext()} and {@link #next()}.
+     * The same array is passed to the visitor every time.
+     *
+     * @param visitor
+     *            the {@link IntArrayVisitor} to call for every composition
+     * @return <code>true</code> if all remaining compositions were visited, <code>false</code> if the visitor stopped early
+     */
+    public final boolean visitAll(final IntArrayVisitor visitor) {
+        if (pending && remaining > 0) {
+            pending = false;
+            --remaining;
+            if (!visitor.visit(a)) {
+                return false;
+            }
+        }
+        while (remaining > 0) {
+            computeNext();
+            --remaining;
+            if (!visitor.visit(a)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Termination is taken care of by counting the compositions.
+     */
+    private void computeNext() {
+        // find the rightmost part that can grow, taking one from the parts after it
+        int i = k - 2;
+        long rest = a[k - 1];
+        while (a[i] == upper[i] || rest == minSuffix[i + 1]) {
+            rest += a[i];
+            --i;
+        }
+        ++a[i];
+        --rest;
+        // then give the parts after it as little as possible, from left to right
+        for (int j = i + 1; j < k; ++j) {
+            final int x = (int) Math.max(lower[j], rest - maxSuffix[j + 1]);
+            a[j] = x;
+            rest -= x;
+        }
+    }
+
+}
@@ -0,0 +1,374 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import static jcombinatorics.util.MathUtils.binomial;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import jcombinatorics.Generator;
+import jcombinatorics.IntArrayGenerator;
+
+/**
+ * <p>
+ * Generates the compositions of <code>n</code> into <code>k</code> parts, that is, the ordered ways of writing <code>n</code> as a sum
+ * <code>x[0] + x[1] + ... + x[k - 1]</code>, in lexicographic order. Each part may have its own bounds
+ * <code>lower[i] &lt;= x[i] &lt;= upper[i]</code>, so that bounded allocations can be enumerated directly instead of filtered. By
+ * default every part is at least 1.
+ * </p>
+ * <p>
+ * Taking away the lower bounds leaves <code>m = n - sum(lower)</code> to share out. If no upper bound gets in the way, each
+ * composition then corresponds to a combination of <code>k - 1</code> "bars" among <code>m + k - 1</code> positions, in the same
+ * order, so there are <code>C(m + k - 1, k - 1)</code> of them and {@link #get(long)} and {@link #rank(int[])} go through a
+ * {@link CombinadicCombinationsGenerator}. Otherwise, a table of the number of ways to complete each suffix is computed up front,
+ * which takes <code>O(k * m)</code> space.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see CompositionIterator
+ * @see <a href="http://en.wikipedia.org/wiki/Composition_(combinatorics)">Composition (combinatorics)</a>
+ */
+public class CompositionsGenerator extends Generator.Of<int[]> implements IntArrayGenerator {
+
+    private final int n;
+
+    private final int k;
+
+    private final int[] lower;
+
+    private final int[] upper;
+
+    /**
+     * What's left to share out once every part has its lower bound.
+     */
+    private final int spare;
+
+    /**
+     * Used when no upper bound gets in the way, otherwise <code>null</code>.
+     */
+    private final CombinadicCombinationsGenerator bars;
+
+    /**
+     * Used when some upper bound gets in the way, otherwise <code>null</code>. <code>ways[i][m]</code> is the number of ways parts
+     * <code>i..k-1</code> can share out <code>m</code> over their lower bounds.
+     */
+    private final long[][] ways;
+
+    private final long count;
+
+    /**
+     * The compositions of <code>n</code> into <code>k</code> positive parts.
+     *
+     * @param n
+     *            the number to compose, <code>n &gt;= 0</code>
+     * @param k
+     *            the number of parts, <code>k &gt;= 0</code>
+     */
+    public CompositionsGenerator(final int n, final int k) {
+        this(n, k, filled(k, 1), filled(k, n));
+    }
+
+    /**
+     * The compositions of <code>n</code> into <code>k</code> parts, each within its own bounds.
+     *
+     * @param n
+     *            the number to compose, <code>n &gt;= 0</code>
+     * @param k
+     *            the number of parts, <code>k &gt;= 0</code>
+     * @param lower
+     *            the smallest each part may be, each <code>&gt;= 0</code>. The array is not modified.
+     * @param upper
+     *            the largest each part may be. The array is not modified.
+     */
+    public CompositionsGenerator(final int n, final int k, final int[] lower, final int[] upper) {
+        checkBounds(n, k, lower, upper);
+        this.n = n;
+        this.k = k;
+        this.lower = lower.clone();
+        this.upper = upper.clone();
+        final long sumLower = sum(lower);
+        if (k == 0 || sumLower > n || sum(upper) < n) {
+            spare = -1;
+            bars = null;
+            ways = null;
+            if (k == 0 && n == 0) {
+                count = 1;
+            } else {
+                count = 0;
+            }
+            return;
+        }
+        spare = (int) (n - sumLower);
+        boolean bounded = false;
+        for (int i = 0; i < k; ++i) {
+            bounded |= upper[i] - lower[i] < spare;
+        }
+        if (bounded) {
+            bars = null;
+            ways = ways();
+            count = ways[0][spare];
+        } else {
+            bars = new CombinadicCombinationsGenerator(spare + k - 1, k - 1);
+            ways = null;
+            count = bars.count();
+        }
+    }
+
+    /**
+     * @param n
+     *            the number to compose
+     * @param k
+     *            the number of parts
+     * @param lower
+     *            the smallest each part may be
+     * @param upper
+     *            the largest each part may be
+     */
+    private static void checkBounds(final int n, final int k, final int[] lower, final int[] upper) {
+        if (n < 0 || k < 0 || lower.length != k || upper.length != k) {
+            throw new IllegalArgumentException("n >= 0, k >= 0, and " + k + " lower and upper bounds!");
+        }
+        for (int i = 0; i < k; ++i) {
+            if (lower[i] < 0 || upper[i] < lower[i]) {
+                throw new IllegalArgumentException("0 <= " + lower[i] + " <= " + upper[i] + " at index " + i + "!");
+            }
+        }
+    }
+
+    /**
+     * @param a
+     *            the values to add up
+     * @return their sum, as a <code>long</code> so it can't overflow
+     */
+    private static long sum(final int[] a) {
+        long sum = 0;
+        for (final int x : a) {
+            sum += x;
+        }
+        return sum;
+    }
+
+    /**
+     * @param k
+     *            the length
+     * @param value
+     *            the value
+     * @return an array of <code>k</code> copies of <code>value</code>
+     */
+    private static int[] filled(final int k, final int value) {
+        final int[] a = new int[Math.max(k, 0)];
+        Arrays.fill(a, value);
+        return a;
+    }
+
+    /**
+     * Compute the table of the number of ways to complete each suffix, using a running sum over the window of values each part can
+     * take. Only the entries for amounts that can actually be left over are computed, so none is larger than {@link #count()}.
+     *
+     * @return the table
+     */
+    private long[][] ways() {
+        final long[][] table = new long[k + 1][spare + 1];
+        table[k][0] = 1;
+        // lo[i] is the least that can be left for parts i..k-1
+        final int[] lo = new int[k + 1];
+        long capacity = 0;
+        for (int i = 0; i <= k; ++i) {
+            lo[i] = (int) Math.max(0, spare - capacity);
+            if (i < k) {
+                capacity += upper[i] - lower[i];
+            }
+        }
+        for (int i = k - 1; i >= 0; --i) {
+            final int cap = upper[i] - lower[i];
+            final long[] next = table[i + 1];
+            long window = 0;
+            for (int m = lo[i + 1]; m <= spare; ++m) {
+                window = Math.addExact(window, next[m]);
+                if (m - cap - 1 >= lo[i + 1]) {
+                    window -= next[m - cap - 1];
+                }
+                if (m >= lo[i]) {
+                    table[i][m] = window;
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * @return the number of parts
+     */
+    public final int size() {
+        return k;
+    }
+
+    /**
+     * @return the total number of compositions
+     * @see jcombinatorics.Generator#count()
+     */
+    public final long count() {
+        return count;
+    }
+
+    /**
+     * Returns a {@link CompositionIterator} that computes the <i>fromInclusive</i>-th composition directly, then steps to each
+     * subsequent one.
+     *
+     * @param fromInclusive
+     *            the index of the first composition to return
+     * @param toExclusive
+     *            the index of the composition to stop at
+     * @return {@link Iterator}&lt;int[]&gt;
+     * @see jcombinatorics.Generator.Of#iterator(long, long)
+     */
+    public final Iterator<int[]> iterator(final long fromInclusive, final long toExclusive) {
+        return new CompositionIterator(this, fromInclusive, toExclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see jcombinatorics.Generator.Of#hasCheapSuccessor()
+     */
+    protected final boolean hasCheapSuccessor() {
+        return true;
+    }
+
+    /**
+     * Retrieve the <i>l</i>-th composition.
+     *
+     * @param l
+     *            long
+     * @return int[]
+     */
+    public final int[] get(final long l) {
+        return get(l, new int[k]);
+    }
+
+    /**
+     * Retrieve the <i>l</i>-th composition into the given array.
+     *
+     * @param l
+     *            long
+     * @param a
+     *            the array to hold the parts, of length at least <code>k</code>
+     * @return <code>a</code>
+     */
+    public final int[] get(final long l, final int[] a) {
+        if (l < 0 || l >= count) {
+            throw new IllegalArgumentException("0 <= " + l + " < " + count + "!");
+        }
+        if (k == 0) {
+            return a;
+        }
+        if (bars != null) {
+            // the bars go into a[0..k-2], then each part is the gap between two bars
+            bars.get(l, a);
+            int previous = -1;
+            for (int i = 0; i < k - 1; ++i) {
+                final int bar = a[i];
+                a[i] = bar - previous - 1 + lower[i];
+                previous = bar;
+            }
+            a[k - 1] = spare + k - 2 - previous + lower[k - 1];
+            return a;
+        }
+        long r = l;
+        int m = spare;
+        for (int i = 0; i < k; ++i) {
+            int y = 0;
+            while (r >= ways[i + 1][m - y]) {
+                r -= ways[i + 1][m - y];
+                ++y;
+            }
+            a[i] = lower[i] + y;
+            m -= y;
+        }
+        return a;
+    }
+
+    /**
+     * Compute the index of the given composition, the inverse of {@link #get(long)}.
+     *
+     * @param a
+     *            <code>k</code> parts, each within its bounds, that add up to <code>n</code>
+     * @return the index <code>l</code> such that <code>get(l)</code> is equal to <code>a</code>
+     */
+    public final long rank(final int[] a) {
+        if (count == 0) {
+            throw new IllegalArgumentException("No compositions of " + n + " within these bounds!");
+        }
+        long sum = 0;
+        for (int i = 0; i < k; ++i) {
+            if (a[i] < lower[i] || a[i] > upper[i]) {
+                throw new IllegalArgumentException("Part " + a[i] + " at index " + i + " is not in " + lower[i] + ".." + upper[i] + "!");
+            }
+            sum += a[i];
+        }
+        if (sum != n) {
+            throw new IllegalArgumentException("Parts add up to " + sum + ", not " + n + "!");
+        }
+        if (k == 0) {
+            return 0;
+        }
+        if (bars != null) {
+            return rankBars(a);
+        }
+        long r = 0;
+        int m = spare;
+        for (int i = 0; i < k; ++i) {
+            final int y = a[i] - lower[i];
+            for (int z = 0; z < y; ++z) {
+                r += ways[i + 1][m - z];
+            }
+            m -= y;
+        }
+        return r;
+    }
+
+    /**
+     * Ranks the bars between the parts as a combination of <code>k - 1</code> of <code>spare + k - 1</code> positions, using the same
+     * combinadic sum as {@link CombinadicCombinationsGenerator#rank(int[], int)}, but taking each bar position from the parts as it
+     * goes.
+     *
+     * @param a
+     *            a valid composition
+     * @return the rank of the bars between its parts
+     */
+    private long rankBars(final int[] a) {
+        final int positions = spare + k - 1;
+        long m = 0;
+        int bar = -1;
+        for (int i = 0; i < k - 1; ++i) {
+            bar += a[i] - lower[i] + 1;
+            m += binomial(positions - 1 - bar, k - 1 - i);
+        }
+        return count - 1 - m;
+    }
+
+    /**
+     * @return the lower bounds. Used by {@link CompositionIterator}, which must not modify them.
+     */
+    final int[] lower() {
+        return lower;
+    }
+
+    /**
+     * @return the upper bounds. Used by {@link CompositionIterator}, which must not modify them.
+     */
+    final int[] upper() {
+        return upper;
+    }
+
+}
@@ -0,0 +1,166 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import java.util.Iterator;
+
+import jcombinatorics.util.ArrayUtils;
+import jcombinatorics.util.ReadOnlyIterator;
+
+/**
+ * <p>
+ * A loopless iterator that generates the combinations of <code>n</code> elements taken <code>k</code> at a time in 'cool-lex' order,
+ * doing a constant amount of work per combination in the worst case, where {@link RosenIterator} may rewrite all <code>k</code>
+ * elements.
+ * </p>
+ * <p>
+ * In cool-lex order each combination, as a bitstring, is the previous one with a prefix rotated by one position, which comes down to
+ * at most two elements being swapped out for two others. The combination is kept in an array in which an element that goes out is
+ * simply overwritten by the one that comes in, so the elements are <em>not</em> in ascending order, and the same array is returned
+ * every time.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see "Ruskey and Williams, The coolest way to generate combinations, Discrete Mathematics 309 (2009)"
+ */
+public class CoolLexIterator extends ReadOnlyIterator<int[]> {
+
+    /**
+     * The combination as a bitstring.
+     */
+    private final boolean[] b;
+
+    /**
+     * The combination as an array of elements.
+     */
+    private final int[] a;
+
+    /**
+     * The index in <code>a</code> of each element in the combination.
+     */
+    private final int[] slot;
+
+    private int x;
+
+    private int y;
+
+    private boolean pending = true;
+
+    private long remaining;
+
+    /**
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     */
+    public CoolLexIterator(final int n, final int k) {
+        remaining = Combinations.count(n, k);
+        b = new boolean[n];
+        for (int i = 0; i < k; ++i) {
+            b[i] = true;
+        }
+        a = ArrayUtils.identityPermutation(k);
+        slot = ArrayUtils.identityPermutation(n);
+        x = k - 1;
+        y = k - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#hasNext()
+     */
+    public final boolean hasNext() {
+        return remaining > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#next()
+     */
+    public final int[] next() {
+        if (pending) {
+            pending = false;
+        } else {
+            computeNext();
+        }
+        --remaining;
+        return a;
+    }
+
+    /**
+     * The loopless cool-lex successor. Termination is taken care of by counting the combinations.
+     */
+    private void computeNext() {
+        b[x] = false;
+        b[y] = true;
+        replace(x, y);
+        ++x;
+        ++y;
+        if (!b[x]) {
+            b[x] = true;
+            b[0] = false;
+            replace(0, x);
+            if (y > 1) {
+                x = 1;
+            }
+            y = 0;
+        }
+    }
+
+    /**
+     * Replace one element of the combination with another, in the same slot.
+     *
+     * @param out
+     *            the element going out
+     * @param in
+     *            the element coming in
+     */
+    private void replace(final int out, final int in) {
+        final int s = slot[out];
+        a[s] = in;
+        slot[in] = s;
+    }
+
+    /**
+     * @author Alistair A. Israel
+     */
+    public static class Factory implements Iterable<int[]> {
+
+        private final int n;
+
+        private final int k;
+
+        /**
+         * @param n
+         *            the number of elements
+         * @param k
+         *            taken k at a time
+         */
+        public Factory(final int n, final int k) {
+            this.n = n;
+            this.k = k;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.lang.Iterable#iterator()
+         */
+        public final Iterator<int[]> iterator() {
+            return new CoolLexIterator(n, k);
+        }
+
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+import jcombinatorics.util.ReadOnlyIterator;
+
+/**
+ * <p>
+ * An iterator that enumerates the combinations of <code>n &lt;= 64</code> elements taken <code>k</code> at a time as <code>long</code>
+ * bitmasks, where element <code>i</code> is bit <code>i</code>, in the same (lexicographic) order as {@link RosenIterator}.
+ * </p>
+ * <p>
+ * Each step is a mirror image of Gosper's hack (HAKMEM item 175): with the mask shifted so element <code>n - 1</code> is the sign
+ * bit, the run of elements at the top that can't move up is counted using {@link Long#numberOfLeadingZeros(long)}, the highest element
+ * below them is moved up by one, and the run is put back directly above it. There are no loops or branches.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see MaskCombinationsGenerator
+ */
+public class GosperMaskIterator extends ReadOnlyIterator<Long> implements PrimitiveIterator.OfLong {
+
+    private final int shift;
+
+    private long x;
+
+    private boolean pending = true;
+
+    private long remaining;
+
+    /**
+     * @param n
+     *            the number of elements, <code>0 &lt;= n &lt;= 64</code>
+     * @param k
+     *            taken k at a time
+     */
+    public GosperMaskIterator(final int n, final int k) {
+        this(n, k, 0, Combinations.count(n, k));
+    }
+
+    /**
+     * Enumerates the combinations <code>fromInclusive</code> (inclusive) up to <code>toExclusive</code> (exclusive). The first
+     * combination is computed directly using {@link MaskCombinationsGenerator#get(long)}.
+     *
+     * @param n
+     *            the number of elements, <code>0 &lt;= n &lt;= 64</code>
+     * @param k
+     *            taken k at a time
+     * @param fromInclusive
+     *            the index of the first combination to return
+     * @param toExclusive
+     *            the index of the combination to stop at
+     */
+    public GosperMaskIterator(final int n, final int k, final long fromInclusive, final long toExclusive) {
+        final MaskCombinationsGenerator generator = new MaskCombinationsGenerator(n, k);
+        if (fromInclusive < 0 || fromInclusive > toExclusive || toExclusive > generator.count()) {
+            throw new IllegalArgumentException("0 <= " + fromInclusive + " <= " + toExclusive + " <= " + generator.count() + "!");
+        }
+        // shifting a long by 64 is a no-op, but then n = 0 and the mask is always 0 anyway
+        shift = Long.SIZE - n;
+        remaining = toExclusive - fromInclusive;
+        if (remaining > 0) {
+            x = generator.get(fromInclusive) << shift;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#hasNext()
+     */
+    public final boolean hasNext() {
+        return remaining > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.PrimitiveIterator.OfLong#nextLong()
+     */
+    public final long nextLong() {
+        if (pending) {
+            pending = false;
+        } else {
+            x = successor(x);
+        }
+        --remaining;
+        return x >>> shift;
+    }
+
+    /**
+     * Passes each of the remaining combinations to <code>action</code> in a tight loop.
+     *
+     * @param action
+     *            the {@link LongConsumer} to call for every combination
+     * @see java.util.PrimitiveIterator.OfLong#forEachRemaining(java.util.function.LongConsumer)
+     */
+    public final void forEachRemaining(final LongConsumer action) {
+        if (remaining <= 0) {
+            return;
+        }
+        if (!pending) {
+            x = successor(x);
+        }
+        pending = false;
+        --remaining;
+        action.accept(x >>> shift);
+        while (remaining > 0) {
+            x = successor(x);
+            --remaining;
+            action.accept(x >>> shift);
+        }
+    }
+
+    /**
+     * @param y
+     *            a combination, shifted so that element <code>n - 1</code> is the sign bit, that isn't the last one
+     * @return the next combination, shifted the same way
+     */
+    static long successor(final long y) {
+        // the elements at the top that can't move up any further
+        final int t = Long.numberOfLeadingZeros(~y);
+        final long rest = (y << t) >>> t;
+        final long b = Long.highestOneBit(rest);
+        // the position just above where b moves to. If the run fills the top, (up << t) overflows to 0, which still works
+        final long up = b << 2;
+        return (rest + b) | ((up << t) - up);
+    }
+
+}
@@ -0,0 +1,342 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import jcombinatorics.IntArrayVisitor;
+import jcombinatorics.util.ReadOnlyIterator;
+
+/**
+ * <p>
+ * An iterator that enumerates integer partitions in the same order as {@link IntegerPartitionsGenerator}. The partition is kept in
+ * multiplicity form, as its distinct parts in descending order along with how many times each occurs, so that each step touches only
+ * the last two or three of them: take one copy of the smallest part <code>s</code> larger than 1, add the 1s to it, and deal that out
+ * again as parts of size <code>s - 1</code> and whatever is left over.
+ * </p>
+ * <p>
+ * {@link #next()} also keeps an array of the parts, which is returned every time, by rewriting only the positions from that copy of
+ * <code>s</code> onwards. {@link #visitAll(PartVisitor)} skips that and passes the multiplicity form directly.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see IntegerPartitionsGenerator
+ * @see "Nijenhuis and Wilf, Combinatorial Algorithms, 2nd edition (Academic Press, 1978), chapter 9 (NEXPAR)"
+ */
+public class IntegerPartitionIterator extends ReadOnlyIterator<int[]> {
+
+    private final boolean conjugate;
+
+    /**
+     * The parts, or for partitions into exactly <code>k</code> parts, the conjugate's.
+     */
+    private final int[] a;
+
+    /**
+     * The distinct parts, in descending order.
+     */
+    private final int[] values;
+
+    /**
+     * The number of times each distinct part occurs.
+     */
+    private final int[] multiplicities;
+
+    /**
+     * The number of distinct parts.
+     */
+    private int distinct;
+
+    /**
+     * The number of parts.
+     */
+    private int parts;
+
+    private boolean pending = true;
+
+    private long remaining;
+
+    /**
+     * @param generator
+     *            the {@link IntegerPartitionsGenerator} whose partitions to enumerate
+     */
+    public IntegerPartitionIterator(final IntegerPartitionsGenerator generator) {
+        this(generator, 0, generator.count());
+    }
+
+    /**
+     * Enumerates the partitions <code>fromInclusive</code> (inclusive) up to <code>toExclusive</code> (exclusive). The first partition
+     * is computed directly using the {@link IntegerPartitionsGenerator}.
+     *
+     * @param generator
+     *            the {@link IntegerPartitionsGenerator} whose partitions to enumerate
+     * @param fromInclusive
+     *            the index of the first partition to return
+     * @param toExclusive
+     *            the index of the partition to stop at
+     */
+    public IntegerPartitionIterator(final IntegerPartitionsGenerator generator, final long fromInclusive, final long toExclusive) {
+        if (fromInclusive < 0 || fromInclusive > toExclusive || toExclusive > generator.count()) {
+            throw new IllegalArgumentException("0 <= " + fromInclusive + " <= " + toExclusive + " <= " + generator.count() + "!");
+        }
+        conjugate = generator.conjugate();
+        final int n = generator.sum();
+        values = new int[n];
+        multiplicities = new int[n];
+        remaining = toExclusive - fromInclusive;
+        int[] first = new int[n];
+        if (remaining > 0) {
+            parts = generator.unrank(fromInclusive, first, false);
+        }
+        for (int i = 0; i < parts; ++i) {
+            if (distinct == 0 || values[distinct - 1] != first[i]) {
+                values[distinct] = first[i];
+                ++distinct;
+            }
+            ++multiplicities[distinct - 1];
+        }
+        if (conjugate) {
+            first = new int[generator.length()];
+            if (remaining > 0) {
+                generator.get(fromInclusive, first);
+            }
+        }
+        a = first;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#hasNext()
+     */
+    public final boolean hasNext() {
+        return remaining > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#next()
+     */
+    public final int[] next() {
+        if (pending) {
+            pending = false;
+        } else {
+            computeNext(true);
+        }
+        --remaining;
+        return a;
+    }
+
+    /**
+     * Visits each of the remaining partitions in turn, in a tight loop without going through {@link #hasNext()} and {@link #next()}.
+     * The same array is passed to the visitor every time.
+     *
+     * @param visitor
+     *            the {@link IntArrayVisitor} to call for every partition
+     * @return <code>true</code> if all remaining partitions were visited, <code>false</code> if the visitor stopped early
+     */
+    public final boolean visitAll(final IntArrayVisitor visitor) {
+        if (pending && remaining > 0) {
+            pending = false;
+            --remaining;
+            if (!visitor.visit(a)) {
+                return false;
+            }
+        }
+        while (remaining > 0) {
+            computeNext(true);
+            --remaining;
+            if (!visitor.visit(a)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Visits each of the remaining partitions in turn in multiplicity form, without keeping the array of parts up to date. The same
+     * arrays are passed to the visitor every time.
+     *
+     * @param visitor
+     *            the {@link PartVisitor} to call for every partition
+     * @return <code>true</code> if all remaining partitions were visited, <code>false</code> if the visitor stopped early
+     */
+    public final boolean visitAll(final PartVisitor visitor) {
+        final int[] conjugateValues;
+        final int[] conjugateMultiplicities;
+        if (conjugate) {
+            conjugateValues = new int[values.length];
+            conjugateMultiplicities = new int[values.length];
+        } else {
+            conjugateValues = null;
+            conjugateMultiplicities = null;
+        }
+        boolean first = pending;
+        pending = false;
+        while (remaining > 0) {
+            if (!first) {
+                computeNext(false);
+            }
+            first = false;
+            --remaining;
+            final boolean more;
+            if (conjugate) {
+                conjugateInto(conjugateValues, conjugateMultiplicities);
+                more = visitor.visit(conjugateValues, conjugateMultiplicities, distinct);
+            } else {
+                more = visitor.visit(values, multiplicities, distinct);
+            }
+            if (!more) {
+                syncParts();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Termination is taken care of by counting the partitions.
+     *
+     * @param updateParts
+     *            whether to keep {@link #a} up to date
+     */
+    private void computeNext(final boolean updateParts) {
+        int t = distinct - 1;
+        int ones = 0;
+        if (values[t] == 1) {
+            ones = multiplicities[t];
+            --t;
+        }
+        // take one copy of s, and deal it out again along with the 1s
+        final int s = values[t];
+        final int p = parts - ones - 1;
+        final int amount = s + ones;
+        --multiplicities[t];
+        if (multiplicities[t] == 0) {
+            distinct = t;
+        } else {
+            distinct = t + 1;
+        }
+        final int v = s - 1;
+        final int x = amount / v;
+        final int rest = amount % v;
+        values[distinct] = v;
+        multiplicities[distinct] = x;
+        ++distinct;
+        int end = p + x;
+        if (rest > 0) {
+            values[distinct] = rest;
+            multiplicities[distinct] = 1;
+            ++distinct;
+            ++end;
+        }
+        if (updateParts) {
+            if (conjugate) {
+                conjugateParts();
+            } else {
+                for (int j = p; j < p + x; ++j) {
+                    a[j] = v;
+                }
+                if (rest > 0) {
+                    a[p + x] = rest;
+                }
+                for (int j = end; j < parts; ++j) {
+                    a[j] = 0;
+                }
+            }
+        }
+        parts = end;
+    }
+
+    /**
+     * Rewrites all of {@link #a} from the multiplicity form, so that {@link #next()} can carry on after
+     * {@link #visitAll(PartVisitor)} stops early.
+     */
+    private void syncParts() {
+        if (conjugate) {
+            conjugateParts();
+            return;
+        }
+        int j = 0;
+        for (int t = 0; t < distinct; ++t) {
+            for (int i = 0; i < multiplicities[t]; ++i, ++j) {
+                a[j] = values[t];
+            }
+        }
+        for (; j < a.length; ++j) {
+            a[j] = 0;
+        }
+    }
+
+    /**
+     * Writes out the parts of the conjugate into {@link #a}: the first <code>values[t]</code> of them are at least the number of parts
+     * in the first <code>t + 1</code> groups.
+     */
+    private void conjugateParts() {
+        int cumulative = 0;
+        for (int t = 0; t < distinct; ++t) {
+            cumulative += multiplicities[t];
+            int j = 0;
+            if (t + 1 < distinct) {
+                j = values[t + 1];
+            }
+            for (; j < values[t]; ++j) {
+                a[j] = cumulative;
+            }
+        }
+    }
+
+    /**
+     * Computes the multiplicity form of the conjugate, which has just as many distinct parts.
+     *
+     * @param conjugateValues
+     *            receives the distinct parts of the conjugate, in descending order
+     * @param conjugateMultiplicities
+     *            receives the number of times each occurs
+     */
+    private void conjugateInto(final int[] conjugateValues, final int[] conjugateMultiplicities) {
+        int cumulative = 0;
+        for (int t = 0; t < distinct; ++t) {
+            cumulative += multiplicities[t];
+            final int q = distinct - 1 - t;
+            conjugateValues[q] = cumulative;
+            if (t + 1 < distinct) {
+                conjugateMultiplicities[q] = values[t] - values[t + 1];
+            } else {
+                conjugateMultiplicities[q] = values[t];
+            }
+        }
+    }
+
+    /**
+     * A callback for {@link IntegerPartitionIterator#visitAll(PartVisitor)}.
+     *
+     * @author Alistair A. Israel
+     */
+    public interface PartVisitor {
+
+        /**
+         * Visit the next partition, which has <code>multiplicities[i]</code> parts equal to <code>values[i]</code> for each
+         * <code>i &lt; distinct</code>.
+         *
+         * @param values
+         *            the distinct parts, in descending order. Must not be modified.
+         * @param multiplicities
+         *            the number of times each occurs. Must not be modified.
+         * @param distinct
+         *            the number of distinct parts
+         * @return <code>true</code> to continue the enumeration, <code>false</code> to stop
+         */
+        boolean visit(final int[] values, final int[] multiplicities, final int distinct);
+
+    }
+
+}
@@ -0,0 +1,350 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import static jcombinatorics.util.MathUtils.partitions;
+
+import java.util.Iterator;
+
+import jcombinatorics.Generator;
+import jcombinatorics.IntArrayGenerator;
+
+/**
+ * <p>
+ * Generates the partitions of a positive integer <code>n</code>, that is, the ways of writing it as a sum of positive parts regardless
+ * of order. Each partition is an array of its parts in non-increasing order, padded with zeros to a fixed length, and partitions are
+ * generated in reverse lexicographic order, from <code>{n}</code> down to <code>{1, 1, ..., 1}</code>.
+ * </p>
+ * <p>
+ * The partitions whose parts are no larger than some <code>maxPart</code> are exactly the last <code>p(n, maxPart)</code> of those, so
+ * they are computed the same way. The partitions into exactly <code>k</code> parts are the conjugates (transposed Ferrers diagrams) of
+ * the first <code>p(n - k, k)</code> of those with no part larger than <code>k</code>, and are generated in that order.
+ * </p>
+ * <p>
+ * To compute the <i>l</i>-th partition directly, each part is chosen in turn by skipping past the blocks of partitions that start
+ * with a larger part, whose sizes are looked up using {@link jcombinatorics.util.MathUtils#partitions(int, int)}. Each part starts
+ * looking where the one before left off, so this takes <code>O(n)</code> lookups in all.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see IntegerPartitionIterator
+ * @see <a href="http://en.wikipedia.org/wiki/Partition_(number_theory)">Partition (number theory)</a>
+ */
+public class IntegerPartitionsGenerator extends Generator.Of<int[]> implements IntArrayGenerator {
+
+    private final int n;
+
+    /**
+     * The largest part allowed, or the number of parts if {@link #conjugate}.
+     */
+    private final int maxPart;
+
+    /**
+     * Whether we're generating the partitions into exactly {@link #maxPart} parts, as conjugates.
+     */
+    private final boolean conjugate;
+
+    private final int length;
+
+    private final long count;
+
+    /**
+     * All partitions of <code>n</code>.
+     *
+     * @param n
+     *            <code>0 &lt;= n &lt;= </code>{@value jcombinatorics.util.MathUtils#MAX_PARTITIONS_N}
+     */
+    public IntegerPartitionsGenerator(final int n) {
+        this(n, n, false);
+    }
+
+    /**
+     * @param n
+     *            <code>0 &lt;= n &lt;= </code>{@value jcombinatorics.util.MathUtils#MAX_PARTITIONS_N}
+     * @param maxPart
+     *            the largest part allowed, or the number of parts if <code>conjugate</code>
+     * @param conjugate
+     *            whether to generate the partitions into exactly <code>maxPart</code> parts
+     */
+    private IntegerPartitionsGenerator(final int n, final int maxPart, final boolean conjugate) {
+        if (n < 0 || maxPart < 0) {
+            throw new IllegalArgumentException("n >= 0 and " + maxPart + " >= 0!");
+        }
+        this.n = n;
+        this.maxPart = maxPart;
+        this.conjugate = conjugate;
+        if (!conjugate) {
+            length = n;
+            count = partitions(n, maxPart);
+        } else {
+            length = maxPart;
+            if (maxPart > n || maxPart == 0 && n > 0) {
+                count = 0;
+            } else {
+                count = partitions(n - maxPart, maxPart);
+            }
+        }
+    }
+
+    /**
+     * The partitions of <code>n</code> into parts no larger than <code>maxPart</code>.
+     *
+     * @param n
+     *            <code>0 &lt;= n &lt;= </code>{@value jcombinatorics.util.MathUtils#MAX_PARTITIONS_N}
+     * @param maxPart
+     *            the largest part allowed
+     * @return {@link IntegerPartitionsGenerator}
+     */
+    public static IntegerPartitionsGenerator withMaxPart(final int n, final int maxPart) {
+        return new IntegerPartitionsGenerator(n, maxPart, false);
+    }
+
+    /**
+     * The partitions of <code>n</code> into exactly <code>k</code> parts.
+     *
+     * @param n
+     *            <code>0 &lt;= n &lt;= </code>{@value jcombinatorics.util.MathUtils#MAX_PARTITIONS_N}
+     * @param k
+     *            the number of parts
+     * @return {@link IntegerPartitionsGenerator}
+     */
+    public static IntegerPartitionsGenerator intoParts(final int n, final int k) {
+        return new IntegerPartitionsGenerator(n, k, true);
+    }
+
+    /**
+     * @return the length of the arrays generated: <code>n</code>, or <code>k</code> for partitions into exactly <code>k</code> parts
+     */
+    public final int length() {
+        return length;
+    }
+
+    /**
+     * @return the total number of partitions
+     * @see jcombinatorics.Generator#count()
+     */
+    public final long count() {
+        return count;
+    }
+
+    /**
+     * Returns an {@link IntegerPartitionIterator} that computes the <i>fromInclusive</i>-th partition directly, then steps to each
+     * subsequent one.
+     *
+     * @param fromInclusive
+     *            the index of the first partition to return
+     * @param toExclusive
+     *            the index of the partition to stop at
+     * @return {@link Iterator}&lt;int[]&gt;
+     * @see jcombinatorics.Generator.Of#iterator(long, long)
+     */
+    public final Iterator<int[]> iterator(final long fromInclusive, final long toExclusive) {
+        return new IntegerPartitionIterator(this, fromInclusive, toExclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see jcombinatorics.Generator.Of#hasCheapSuccessor()
+     */
+    protected final boolean hasCheapSuccessor() {
+        return true;
+    }
+
+    /**
+     * Visits every partition in order, in multiplicity form.
+     *
+     * @param visitor
+     *            the {@link IntegerPartitionIterator.PartVisitor} to call for every partition
+     * @return <code>true</code> if all partitions were visited, <code>false</code> if the visitor stopped early
+     */
+    public final boolean visitAll(final IntegerPartitionIterator.PartVisitor visitor) {
+        return new IntegerPartitionIterator(this).visitAll(visitor);
+    }
+
+    /**
+     * Retrieve the <i>l</i>-th partition.
+     *
+     * @param l
+     *            long
+     * @return int[]
+     */
+    public final int[] get(final long l) {
+        return get(l, new int[length]);
+    }
+
+    /**
+     * Retrieve the <i>l</i>-th partition into the given array.
+     *
+     * @param l
+     *            long
+     * @param a
+     *            the array to hold the parts, of length at least {@link #length()}
+     * @return <code>a</code>
+     */
+    public final int[] get(final long l, final int[] a) {
+        if (l < 0 || l >= count) {
+            throw new IllegalArgumentException("0 <= " + l + " < " + count + "!");
+        }
+        if (!conjugate) {
+            for (int i = unrank(l, a, false); i < length; ++i) {
+                a[i] = 0;
+            }
+            return a;
+        }
+        for (int j = 0; j < length; ++j) {
+            a[j] = 0;
+        }
+        unrank(l, a, true);
+        // a[j] counted the parts equal to j + 1, so the conjugate is their suffix sums
+        for (int j = length - 2; j >= 0; --j) {
+            a[j] += a[j + 1];
+        }
+        return a;
+    }
+
+    /**
+     * Compute the <i>l</i>-th partition of <code>n</code> into parts no larger than <code>maxPart</code>.
+     *
+     * @param l
+     *            the index of the partition
+     * @param a
+     *            receives the parts, or counts them by value if <code>byValue</code>
+     * @param byValue
+     *            if <code>true</code>, increment <code>a[w - 1]</code> for each part <code>w</code> instead of listing them
+     * @return the number of parts
+     */
+    final int unrank(final long l, final int[] a, final boolean byValue) {
+        long r = l;
+        int m = n;
+        int v = maxPart;
+        int i = 0;
+        while (m > 0) {
+            int w = Math.min(v, m);
+            long block = partitions(m - w, w);
+            while (r >= block) {
+                r -= block;
+                --w;
+                block = partitions(m - w, w);
+            }
+            if (byValue) {
+                ++a[w - 1];
+            } else {
+                a[i] = w;
+            }
+            m -= w;
+            v = w;
+            ++i;
+        }
+        return i;
+    }
+
+    /**
+     * Compute the index of the given partition, the inverse of {@link #get(long)}.
+     *
+     * @param a
+     *            the parts, in non-increasing order and padded with zeros to {@link #length()}
+     * @return the index <code>l</code> such that <code>get(l)</code> is equal to <code>a</code>
+     */
+    public final long rank(final int[] a) {
+        if (conjugate) {
+            return rankConjugate(a);
+        }
+        long r = 0;
+        int m = n;
+        int v = maxPart;
+        int i = 0;
+        while (m > 0) {
+            final int w = a[i];
+            if (w < 1 || w > Math.min(v, m)) {
+                throw new IllegalArgumentException("Part " + w + " at index " + i + " is not in 1.." + Math.min(v, m) + "!");
+            }
+            r += skipped(m, v, w);
+            m -= w;
+            v = w;
+            ++i;
+        }
+        for (; i < length; ++i) {
+            if (a[i] != 0) {
+                throw new IllegalArgumentException("Part " + a[i] + " at index " + i + " is past the sum of " + n + "!");
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Ranks a partition into exactly <code>k</code> parts by its conjugate, whose parts are taken off the given one from the right.
+     *
+     * @param a
+     *            <code>k</code> parts, in non-increasing order
+     * @return the index <code>l</code> such that <code>get(l)</code> is equal to <code>a</code>
+     */
+    private long rankConjugate(final int[] a) {
+        int sum = 0;
+        for (int j = 0; j < length; ++j) {
+            if (a[j] < 1 || j > 0 && a[j] > a[j - 1]) {
+                throw new IllegalArgumentException("Part " + a[j] + " at index " + j + " is out of order!");
+            }
+            sum += a[j];
+        }
+        if (sum != n) {
+            throw new IllegalArgumentException("Parts add up to " + sum + ", not " + n + "!");
+        }
+        long r = 0;
+        int m = n;
+        int v = maxPart;
+        int j = length;
+        for (int i = 0; m > 0; ++i) {
+            // the i-th part of the conjugate is the number of parts larger than i
+            while (a[j - 1] <= i) {
+                --j;
+            }
+            r += skipped(m, v, j);
+            m -= j;
+            v = j;
+        }
+        return r;
+    }
+
+    /**
+     * @param m
+     *            the sum still to be partitioned
+     * @param v
+     *            the largest part allowed
+     * @param w
+     *            the next part
+     * @return the number of partitions of <code>m</code> into parts no larger than <code>v</code> that start with a part larger than
+     *         <code>w</code>
+     */
+    private static long skipped(final int m, final int v, final int w) {
+        long r = 0;
+        for (int u = Math.min(v, m); u > w; --u) {
+            r += partitions(m - u, u);
+        }
+        return r;
+    }
+
+    /**
+     * @return the number being partitioned. Used by {@link IntegerPartitionIterator}.
+     */
+    final int sum() {
+        return n;
+    }
+
+    /**
+     * @return whether we're generating the partitions into exactly {@link #length()} parts. Used by {@link IntegerPartitionIterator}.
+     */
+    final boolean conjugate() {
+        return conjugate;
+    }
+
+}
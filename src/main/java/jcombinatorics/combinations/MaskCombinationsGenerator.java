@@ -0,0 +1,249 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import static jcombinatorics.util.MathUtils.binomial;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Generates the combinations of <code>n &lt;= 64</code> elements taken <code>k</code> at a time as <code>long</code> bitmasks, where
+ * element <code>i</code> is bit <code>i</code>. Combinations are indexed the same way as {@link CombinadicCombinationsGenerator}, and
+ * enumerated in that order by a {@link GosperMaskIterator}, without ever going through an <code>int[]</code>.
+ *
+ * @author Alistair A. Israel
+ * @see WordMaskCombinationsGenerator
+ */
+public class MaskCombinationsGenerator {
+
+    /**
+     * The largest number of elements a <code>long</code> mask can hold.
+     */
+    public static final int MAX_N = Long.SIZE;
+
+    private final int n;
+
+    private final int k;
+
+    private final long count;
+
+    /**
+     * @param n
+     *            the number of elements to choose from, <code>0 &lt;= n &lt;= 64</code>
+     * @param k
+     *            taken <code>k</code> at a time
+     */
+    public MaskCombinationsGenerator(final int n, final int k) {
+        if (n < 0 || n > MAX_N) {
+            throw new IllegalArgumentException("0 <= n <= " + MAX_N + "!");
+        }
+        this.n = n;
+        this.k = k;
+        this.count = Combinations.count(n, k);
+    }
+
+    /**
+     * @return the total number of combinations
+     */
+    public final long count() {
+        return count;
+    }
+
+    /**
+     * Retrieve the <i>l</i>-th combination as a bitmask. Same as {@link CombinadicCombinationsGenerator#get(long)}, except each
+     * element sets a bit instead of being stored in an array.
+     *
+     * @param l
+     *            the index of the combination
+     * @return the combination, as a bitmask
+     */
+    public final long get(final long l) {
+        long m = count - l - 1;
+        int v = n;
+        long mask = 0;
+        for (int i = k; i > 0; --i) {
+            v = CombinadicCombinationsGenerator.digit(v, i, m);
+            m -= binomial(v, i);
+            mask |= 1L << (n - 1 - v);
+        }
+        return mask;
+    }
+
+    /**
+     * Compute the index of the given combination, the inverse of {@link #get(long)}. Visits only the set bits.
+     *
+     * @param mask
+     *            a bitmask with <code>k</code> of the lowest <code>n</code> bits set
+     * @return the index <code>l</code> such that <code>get(l) == mask</code>
+     */
+    public final long rank(final long mask) {
+        if (Long.bitCount(mask) != k || n < MAX_N && mask >>> n != 0) {
+            throw new IllegalArgumentException("Mask " + Long.toHexString(mask) + " is not a " + k + "-subset of 0.." + (n - 1) + "!");
+        }
+        long m = 0;
+        long x = mask;
+        for (int i = 0; x != 0; ++i) {
+            final int c = Long.numberOfTrailingZeros(x);
+            m += binomial(n - 1 - c, k - i);
+            x &= x - 1;
+        }
+        return count - 1 - m;
+    }
+
+    /**
+     * @return a {@link GosperMaskIterator} over all the combinations
+     */
+    public final GosperMaskIterator iterator() {
+        return iterator(0, count);
+    }
+
+    /**
+     * @param fromInclusive
+     *            the index of the first combination to return
+     * @param toExclusive
+     *            the index of the combination to stop at
+     * @return a {@link GosperMaskIterator} over the combinations <code>fromInclusive..toExclusive - 1</code>
+     */
+    public final GosperMaskIterator iterator(final long fromInclusive, final long toExclusive) {
+        return new GosperMaskIterator(n, k, fromInclusive, toExclusive);
+    }
+
+    /**
+     * Passes every combination to <code>action</code>, in order, in a tight loop.
+     *
+     * @param action
+     *            the {@link LongConsumer} to call for every combination
+     */
+    public final void forEach(final LongConsumer action) {
+        iterator().forEachRemaining(action);
+    }
+
+    /**
+     * @return a {@link Spliterator.OfLong} over all the combinations, which splits by halving the range of indices
+     */
+    public final Spliterator.OfLong spliterator() {
+        return new MaskSpliterator(0, count);
+    }
+
+    /**
+     * @return a sequential {@link LongStream} of all the combinations
+     */
+    public final LongStream stream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    /**
+     * @return a parallel {@link LongStream} of all the combinations
+     */
+    public final LongStream parallelStream() {
+        return StreamSupport.longStream(spliterator(), true);
+    }
+
+    /**
+     * A {@link Spliterator.OfLong} over a range of combinations. Like {@link jcombinatorics.Generator.RangeSpliterator}, each split
+     * computes only its first combination directly.
+     */
+    private final class MaskSpliterator implements Spliterator.OfLong {
+
+        private final long toExclusive;
+
+        private long index;
+
+        private GosperMaskIterator iterator;
+
+        /**
+         * @param fromInclusive
+         *            the index of the first combination
+         * @param toExclusive
+         *            the index of the combination to stop at
+         */
+        MaskSpliterator(final long fromInclusive, final long toExclusive) {
+            this.index = fromInclusive;
+            this.toExclusive = toExclusive;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.Spliterator.OfLong#tryAdvance(java.util.function.LongConsumer)
+         */
+        public boolean tryAdvance(final LongConsumer action) {
+            if (index >= toExclusive) {
+                return false;
+            }
+            if (iterator == null) {
+                iterator = iterator(index, toExclusive);
+            }
+            ++index;
+            action.accept(iterator.nextLong());
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.Spliterator.OfLong#forEachRemaining(java.util.function.LongConsumer)
+         */
+        public void forEachRemaining(final LongConsumer action) {
+            if (index >= toExclusive) {
+                return;
+            }
+            if (iterator == null) {
+                iterator = iterator(index, toExclusive);
+            }
+            index = toExclusive;
+            iterator.forEachRemaining(action);
+        }
+
+        /**
+         * Splits off the lower half of the remaining range, unless traversal has already begun.
+         *
+         * @return the lower half, or <code>null</code>
+         * @see java.util.Spliterator#trySplit()
+         */
+        public Spliterator.OfLong trySplit() {
+            if (iterator != null) {
+                return null;
+            }
+            final long mid = index + (toExclusive - index) / 2;
+            if (mid == index) {
+                return null;
+            }
+            final MaskSpliterator lower = new MaskSpliterator(index, mid);
+            index = mid;
+            return lower;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.Spliterator#estimateSize()
+         */
+        public long estimateSize() {
+            return toExclusive - index;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.Spliterator#characteristics()
+         */
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | DISTINCT;
+        }
+
+    }
+
+}
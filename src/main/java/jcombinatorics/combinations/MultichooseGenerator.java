@@ -0,0 +1,159 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import static jcombinatorics.util.MathUtils.binomial;
+
+import java.util.Iterator;
+
+import jcombinatorics.Generator;
+import jcombinatorics.IntArrayGenerator;
+
+/**
+ * <p>
+ * Generates the combinations with repetition, or multisets, of size <code>k</code> drawn from <code>n</code> types, as non-decreasing
+ * arrays in lexicographic order.
+ * </p>
+ * <p>
+ * Adding <code>i</code> to the <i>i</i>-th element turns a multiset <code>a[0] &lt;= a[1] &lt;= ...</code> into a combination
+ * <code>a[0] &lt; a[1] + 1 &lt; ...</code> of <code>n + k - 1</code> elements, and keeps them in the same order, so there are
+ * <code>C(n + k - 1, k)</code> of them and they can be addressed using combinadics, just like {@link CombinadicCombinationsGenerator}.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see <a href="http://en.wikipedia.org/wiki/Multiset#Counting_multisets">Counting multisets</a>
+ */
+public class MultichooseGenerator extends Generator.Of<int[]> implements IntArrayGenerator {
+
+    private final int n;
+
+    private final int k;
+
+    private final CombinadicCombinationsGenerator combinadic;
+
+    /**
+     * @param n
+     *            the number of types, <code>n &gt; 0</code>
+     * @param k
+     *            the size of each multiset
+     */
+    public MultichooseGenerator(final int n, final int k) {
+        if (n < 1 || k < 0) {
+            throw new IllegalArgumentException("n > 0 and k >= 0!");
+        }
+        this.n = n;
+        this.k = k;
+        this.combinadic = new CombinadicCombinationsGenerator(n + k - 1, k);
+    }
+
+    /**
+     * Computes the number of multisets of size <code>k</code> drawn from <code>n</code> types, <code>C(n + k - 1, k)</code>.
+     *
+     * @param n
+     *            the number of types
+     * @param k
+     *            the size of each multiset
+     * @return the number of multisets
+     */
+    public static long count(final int n, final int k) {
+        if (n < 1 || k < 0) {
+            throw new IllegalArgumentException("n > 0 and k >= 0!");
+        }
+        return Combinations.count(n + k - 1, k);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see jcombinatorics.Generator#count()
+     */
+    public final long count() {
+        return combinadic.count();
+    }
+
+    /**
+     * Returns a {@link MultichooseIterator} that starts at the <i>fromInclusive</i>-th multiset.
+     *
+     * @param fromInclusive
+     *            the index of the first multiset to return
+     * @param toExclusive
+     *            the index of the multiset to stop at
+     * @return {@link Iterator}&lt;int[]&gt;
+     * @see jcombinatorics.Generator.Of#iterator(long, long)
+     */
+    public final Iterator<int[]> iterator(final long fromInclusive, final long toExclusive) {
+        return new MultichooseIterator(n, k, fromInclusive, toExclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see jcombinatorics.Generator.Of#hasCheapSuccessor()
+     */
+    protected final boolean hasCheapSuccessor() {
+        return true;
+    }
+
+    /**
+     * Retrieve the <i>l</i>-th multiset.
+     *
+     * @param l
+     *            long
+     * @return int[]
+     */
+    public final int[] get(final long l) {
+        return get(l, new int[k]);
+    }
+
+    /**
+     * Retrieve the <i>l</i>-th multiset into the given array.
+     *
+     * @param l
+     *            long
+     * @param a
+     *            the array to hold the multiset, of length at least <code>k</code>
+     * @return <code>a</code>
+     */
+    public final int[] get(final long l, final int[] a) {
+        if (l < 0 || l >= combinadic.count()) {
+            throw new IllegalArgumentException("0 <= " + l + " < " + combinadic.count() + "!");
+        }
+        combinadic.get(l, a);
+        for (int i = 1; i < k; ++i) {
+            a[i] -= i;
+        }
+        return a;
+    }
+
+    /**
+     * Compute the index of the given multiset, the inverse of {@link #get(long)}.
+     *
+     * @param a
+     *            <code>k</code> elements from <code>0..n-1</code>, in non-decreasing order
+     * @return the index <code>l</code> such that <code>get(l)</code> is equal to <code>a</code>
+     */
+    public final long rank(final int[] a) {
+        final int m = n + k - 1;
+        long r = 0;
+        int previous = 0;
+        for (int i = 0; i < k; ++i) {
+            final int c = a[i];
+            if (c < previous || c >= n) {
+                throw new IllegalArgumentException("Element " + c + " at index " + i + " is not in " + previous + ".." + (n - 1) + "!");
+            }
+            r += binomial(m - 1 - (c + i), k - i);
+            previous = c;
+        }
+        return combinadic.count() - 1 - r;
+    }
+
+}
@@ -0,0 +1,142 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import jcombinatorics.IntArrayVisitor;
+import jcombinatorics.util.ReadOnlyIterator;
+
+/**
+ * <p>
+ * An iterator that generates the combinations with repetition, or multisets, of size <code>k</code> drawn from <code>n</code> types,
+ * as non-decreasing arrays in lexicographic order. Each step finds the rightmost element that is less than <code>n - 1</code>,
+ * increments it, and sets every element after it to the same value. The same array is returned every time.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see MultichooseGenerator
+ */
+public class MultichooseIterator extends ReadOnlyIterator<int[]> {
+
+    private final int n;
+
+    private final int k;
+
+    private final int[] a;
+
+    private boolean pending = true;
+
+    private long remaining;
+
+    /**
+     * @param n
+     *            the number of types
+     * @param k
+     *            the size of each multiset
+     */
+    public MultichooseIterator(final int n, final int k) {
+        this(n, k, 0, MultichooseGenerator.count(n, k));
+    }
+
+    /**
+     * Enumerates the multisets <code>fromInclusive</code> (inclusive) up to <code>toExclusive</code> (exclusive). The first one is
+     * computed directly using a {@link MultichooseGenerator}.
+     *
+     * @param n
+     *            the number of types
+     * @param k
+     *            the size of each multiset
+     * @param fromInclusive
+     *            the index of the first multiset to return
+     * @param toExclusive
+     *            the index of the multiset to stop at
+     */
+    public MultichooseIterator(final int n, final int k, final long fromInclusive, final long toExclusive) {
+        final MultichooseGenerator generator = new MultichooseGenerator(n, k);
+        if (fromInclusive < 0 || fromInclusive > toExclusive || toExclusive > generator.count()) {
+            throw new IllegalArgumentException("0 <= " + fromInclusive + " <= " + toExclusive + " <= " + generator.count() + "!");
+        }
+        this.n = n;
+        this.k = k;
+        a = new int[k];
+        remaining = toExclusive - fromInclusive;
+        if (fromInclusive > 0 && remaining > 0) {
+            generator.get(fromInclusive, a);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#hasNext()
+     */
+    public final boolean hasNext() {
+        return remaining > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#next()
+     */
+    public final int[] next() {
+        if (pending) {
+            pending = false;
+        } else {
+            computeNext();
+        }
+        --remaining;
+        return a;
+    }
+
+    /**
+     * Visits each of the remaining multisets in turn, in a tight loop without going through {@link #hasNext()} and {@link #next()}.
+     * The same array is passed to the visitor every time.
+     *
+     * @param visitor
+     *            the {@link IntArrayVisitor} to call for every multiset
+     * @return <code>true</code> if all remaining multisets were visited, <code>false</code> if the visitor stopped early
+     */
+    public final boolean visitAll(final IntArrayVisitor visitor) {
+        if (pending && remaining > 0) {
+            pending = false;
+            --remaining;
+            if (!visitor.visit(a)) {
+                return false;
+            }
+        }
+        while (remaining > 0) {
+            computeNext();
+            --remaining;
+            if (!visitor.visit(a)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Termination is taken care of by counting the multisets.
+     */
+    private void computeNext() {
+        // find the rightmost element that can still be incremented
+        int i = k - 1;
+        while (a[i] == n - 1) {
+            --i;
+        }
+        // increment it, and reset everything to its right to the same value
+        final int v = a[i] + 1;
+        for (int j = i; j < k; ++j) {
+            a[j] = v;
+        }
+    }
+
+}
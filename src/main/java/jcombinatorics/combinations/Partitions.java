@@ -1,109 +1,148 @@
-package jcombinatorics.combinations;
-
-import java.util.Arrays;
-
-/**
- * See <a href=
- * "http://stackoverflow.com/questions/4504974/how-to-iteratively-generate-k-elements-subsets-from-a-set-of-size-n-in-java/4505314#4505314"
- * >Stackoverflow - How to iteratively generate k elements subsets from a set of size n in java?</a>
- */
-public class Partitions {
-    
-    private int[] set;
-    private int[] parts;
-    private int currentPartsIndex;
-    private int partitions;
-    private int[][] resultList;
-
-    /**
-     * @param set
-     *            int[]
-     * @param partitions
-     *            int
-     */
-    public Partitions(final int[] set, final int partitions) {
-        this.set = set;
-        this.partitions = partitions;
-        this.parts = new int[partitions];
-        for (int i = 0; i < partitions - 1; i++) {
-            this.parts[i] = 1;
-        }
-        this.parts[partitions - 1] = set.length - partitions + 1;
-        currentPartsIndex = 0;
-        resultList = new int[partitions][];
-    }
-
-    /**
-     * 
-     */
-    public final void processSubsets() {
-        final int[] subset = new int[parts[currentPartsIndex++]];
-        processLargerSubsets(subset, 0, 0);
-        --currentPartsIndex;
-    }
-
-    /**
-     * @param subset
-     *            int[]
-     * @param subsetSize
-     *            int
-     * @param nextIndex
-     *            int
-     */
-    final void processLargerSubsets(final int[] subset, final int subsetSize, final int nextIndex) {
-        if (subsetSize == subset.length) {
-            print(subset);
-        } else {
-            for (int j = nextIndex; j < set.length; j++) {
-                if (subset[subsetSize] != set[j]) {
-                    subset[subsetSize] = set[j];
-                    set[j] = -1;
-                    processLargerSubsets(subset, subsetSize + 1, j + 1);
-                    set[j] = subset[subsetSize];
-                    subset[subsetSize] = -1; // reset with an undefined index number
-                }
-            }
-        }
-    }
-
-    /**
-     * @param subset
-     *            int[]
-     */
-    final void print(final int[] subset) {
-        resultList[currentPartsIndex - 1] = subset;
-        if (currentPartsIndex < partitions) {
-            final int[] oldSet = set;
-            final int[] newSet = new int[set.length - subset.length];
-            int j = 0;
-            for (int i = 0; i < oldSet.length; i++) {
-                if (oldSet[i] >= 0) {
-                    newSet[j++] = oldSet[i];
-                }
-            }
-            set = newSet;
-            processSubsets();
-            set = oldSet;
-        } else {
-            // end condition
-            System.out.println();
-            for (int i = 0; i < resultList.length; i++) {
-                System.out.print(Arrays.toString(resultList[i]));
-            }
-        }
-        resultList[currentPartsIndex - 1] = null;
-    }
-
-    /**
-     * @param args
-     *            String[]
-     * @throws Exception
-     *             on exception
-     */
-    public static void main(final String[] args) throws Exception {
-        final int[] set = { 1, 2, 2, 2, 3, 5, 6 };
-        final Partitions p = new Partitions(set, 3);
-        p.processSubsets();
-    }
-
-}
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import jcombinatorics.util.MathUtils;
+
+/**
+ * A utility class that provides convenience methods for generating and working with partitions.
+ *
+ * @author Alistair A. Israel
+ * @see <a href="http://en.wikipedia.org/wiki/Partition_of_a_set">Partition of a set</a>
+ */
+public final class Partitions {
+
+    /**
+     * Utility classes should not have a public or default constructor.
+     */
+    private Partitions() {
+        // noop
+    }
+
+    /**
+     * Computes the number of partitions of a set of <code>n</code> elements, the Bell number <code>B(n)</code>. Throws an
+     * {@link ArithmeticException} if that's greater than {@link java.lang.Long#MAX_VALUE}.
+     *
+     * @param n
+     *            the number of elements
+     * @return the number of partitions of <code>n</code> elements
+     */
+    public static long count(final int n) {
+        return MathUtils.bell(n);
+    }
+
+    /**
+     * Computes the number of partitions of a set of <code>n</code> elements into exactly <code>k</code> blocks, the Stirling number of
+     * the second kind <code>S(n, k)</code>. Throws an {@link ArithmeticException} if that's greater than {@link java.lang.Long#MAX_VALUE}.
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            the number of blocks
+     * @return the number of partitions of <code>n</code> elements into <code>k</code> blocks
+     */
+    public static long count(final int n, final int k) {
+        return MathUtils.stirling2(n, k);
+    }
+
+    /**
+     * Computes the number of partitions of the integer <code>n</code>, <code>p(n)</code>.
+     *
+     * @param n
+     *            <code>0 &lt;= n &lt;= </code>{@value jcombinatorics.util.MathUtils#MAX_PARTITIONS_N}
+     * @return the number of partitions of the integer <code>n</code>
+     */
+    public static long countOfInteger(final int n) {
+        return MathUtils.partitions(n);
+    }
+
+    /**
+     * All partitions of the set <code>{0, 1, ..., n - 1}</code>.
+     *
+     * @param n
+     *            the number of elements
+     * @return {@link SetPartitionsGenerator}
+     */
+    public static SetPartitionsGenerator ofSet(final int n) {
+        return new SetPartitionsGenerator(n);
+    }
+
+    /**
+     * The partitions of the set <code>{0, 1, ..., n - 1}</code> into exactly <code>k</code> blocks.
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            the number of blocks
+     * @return {@link SetPartitionsGenerator}
+     */
+    public static SetPartitionsGenerator ofSet(final int n, final int k) {
+        return new SetPartitionsGenerator(n, k);
+    }
+
+    /**
+     * All partitions of the integer <code>n</code>, in reverse lexicographic order.
+     *
+     * @param n
+     *            <code>0 &lt;= n &lt;= </code>{@value jcombinatorics.util.MathUtils#MAX_PARTITIONS_N}
+     * @return {@link IntegerPartitionsGenerator}
+     */
+    public static IntegerPartitionsGenerator ofInteger(final int n) {
+        return new IntegerPartitionsGenerator(n);
+    }
+
+    /**
+     * The partitions of the integer <code>n</code> into exactly <code>k</code> parts.
+     *
+     * @param n
+     *            <code>0 &lt;= n &lt;= </code>{@value jcombinatorics.util.MathUtils#MAX_PARTITIONS_N}
+     * @param k
+     *            the number of parts
+     * @return {@link IntegerPartitionsGenerator}
+     * @see IntegerPartitionsGenerator#intoParts(int, int)
+     */
+    public static IntegerPartitionsGenerator ofInteger(final int n, final int k) {
+        return IntegerPartitionsGenerator.intoParts(n, k);
+    }
+
+    /**
+     * The compositions of <code>n</code> into <code>k</code> positive parts, in lexicographic order.
+     *
+     * @param n
+     *            the number to compose
+     * @param k
+     *            the number of parts
+     * @return {@link CompositionsGenerator}
+     */
+    public static CompositionsGenerator compositionsOf(final int n, final int k) {
+        return new CompositionsGenerator(n, k);
+    }
+
+    /**
+     * The compositions of <code>n</code> into <code>k</code> parts with <code>lower[i] &lt;= x[i] &lt;= upper[i]</code>, in
+     * lexicographic order.
+     *
+     * @param n
+     *            the number to compose
+     * @param k
+     *            the number of parts
+     * @param lower
+     *            the smallest each part may be
+     * @param upper
+     *            the largest each part may be
+     * @return {@link CompositionsGenerator}
+     */
+    public static CompositionsGenerator compositionsOf(final int n, final int k, final int[] lower, final int[] upper) {
+        return new CompositionsGenerator(n, k, lower, upper);
+    }
+
+}
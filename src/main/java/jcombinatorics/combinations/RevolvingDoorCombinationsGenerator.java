@@ -0,0 +1,151 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import static jcombinatorics.util.MathUtils.binomial;
+
+import java.util.Iterator;
+
+import jcombinatorics.Generator;
+import jcombinatorics.IntArrayGenerator;
+
+/**
+ * <p>
+ * A combinations generator that addresses combinations in 'revolving door' order, the order in which {@link RevolvingDoorIterator}
+ * enumerates them, so a revolving door enumeration can be resumed or split across threads.
+ * </p>
+ * <p>
+ * The revolving door order is defined recursively: first all the combinations of <code>n - 1</code> elements taken <code>k</code> at a
+ * time, then all the combinations of <code>n - 1</code> taken <code>k - 1</code> at a time in reverse, each with element
+ * <code>n - 1</code> added. This gives the rank of a combination <code>c<sub>1</sub> &lt; c<sub>2</sub> &lt; ... &lt;
+ * c<sub>k</sub></code> as:
+ * </p>
+ *
+ * <pre>
+ * sum of (-1)^(k - i) (C(c_i + 1, i) - 1), for i = 1..k
+ * </pre>
+ *
+ * @author Alistair A. Israel
+ * @see "Kreher and Stinson, Combinatorial Algorithms: Generation, Enumeration and Search, 2.3.3"
+ */
+public class RevolvingDoorCombinationsGenerator extends Generator.Of<int[]> implements IntArrayGenerator {
+
+    private final int n;
+
+    private final int k;
+
+    private final long count;
+
+    /**
+     * @param n
+     *            the number of elements to choose from
+     * @param k
+     *            taken <code>k</code> at a time
+     */
+    public RevolvingDoorCombinationsGenerator(final int n, final int k) {
+        this.n = n;
+        this.k = k;
+        this.count = Combinations.count(n, k);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see jcombinatorics.Generator#count()
+     */
+    public final long count() {
+        return count;
+    }
+
+    /**
+     * Returns a {@link RevolvingDoorIterator} that starts at the <i>fromInclusive</i>-th combination.
+     *
+     * @param fromInclusive
+     *            the index of the first combination to return
+     * @param toExclusive
+     *            the index of the combination to stop at
+     * @return {@link Iterator}&lt;int[]&gt;
+     * @see jcombinatorics.Generator.Of#iterator(long, long)
+     */
+    public final Iterator<int[]> iterator(final long fromInclusive, final long toExclusive) {
+        return new RevolvingDoorIterator(n, k, fromInclusive, toExclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see jcombinatorics.Generator.Of#hasCheapSuccessor()
+     */
+    protected final boolean hasCheapSuccessor() {
+        return true;
+    }
+
+    /**
+     * Retrieve the <i>l</i>-th combination in revolving door order.
+     *
+     * @param l
+     *            long
+     * @return int[]
+     */
+    public final int[] get(final long l) {
+        return get(l, new int[k]);
+    }
+
+    /**
+     * Retrieve the <i>l</i>-th combination in revolving door order into the given array. Each element, from the largest down, is the
+     * largest <code>c</code> where <code>C(c, i) &lt;= r</code>, after which <code>r</code> becomes <code>C(c + 1, i) - r - 1</code>.
+     *
+     * @param l
+     *            long
+     * @param a
+     *            the array to hold the combination, of length at least <code>k</code>
+     * @return <code>a</code>
+     */
+    public final int[] get(final long l, final int[] a) {
+        long r = l;
+        int v = n;
+        for (int i = k; i > 0; --i) {
+            v = CombinadicCombinationsGenerator.digit(v, i, r);
+            a[i - 1] = v;
+            r = binomial(v + 1, i) - r - 1;
+        }
+        return a;
+    }
+
+    /**
+     * Compute the index of the given combination in revolving door order, the inverse of {@link #get(long)}.
+     *
+     * @param a
+     *            a combination of <code>k</code> elements from <code>0..n-1</code>, in ascending order
+     * @return the index <code>l</code> such that <code>get(l)</code> is equal to <code>a</code>
+     */
+    public final long rank(final int[] a) {
+        long r = 0;
+        int previous = -1;
+        for (int i = 1; i <= k; ++i) {
+            final int c = a[i - 1];
+            if (c <= previous || c >= n) {
+                throw new IllegalArgumentException("Element " + c + " at index " + (i - 1) + " is not in " + (previous + 1) + ".."
+                        + (n - 1) + "!");
+            }
+            final long term = binomial(c + 1, i) - 1;
+            if (((k - i) & 1) == 0) {
+                r += term;
+            } else {
+                r -= term;
+            }
+            previous = c;
+        }
+        return r;
+    }
+
+}
@@ -0,0 +1,223 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import jcombinatorics.util.ArrayUtils;
+import jcombinatorics.util.ReadOnlyIterator;
+
+/**
+ * <p>
+ * An iterator that generates the combinations of <code>n</code> elements taken <code>k</code> at a time in 'revolving door' order, a
+ * Gray code where each combination differs from the one before by exactly one element going out and one coming in. After each call to
+ * {@link #next()}, {@link #in()} and {@link #out()} tell which, so that a value computed over the previous combination can be updated
+ * instead of recomputed. The elements of each combination are in ascending order.
+ * </p>
+ * <p>
+ * Uses Knuth's Algorithm R (TAOCP 7.2.1.3), which needs no state besides the combination itself, so it can start anywhere using
+ * {@link RevolvingDoorCombinationsGenerator#get(long, int[])}.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see RevolvingDoorCombinationsGenerator
+ */
+public class RevolvingDoorIterator extends ReadOnlyIterator<int[]> {
+
+    private final int n;
+
+    private final int k;
+
+    private final int[] a;
+
+    private boolean pending = true;
+
+    private long remaining;
+
+    private int in = -1;
+
+    private int out = -1;
+
+    /**
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     */
+    public RevolvingDoorIterator(final int n, final int k) {
+        this.n = n;
+        this.k = k;
+        a = ArrayUtils.identityPermutation(k);
+        remaining = Combinations.count(n, k);
+    }
+
+    /**
+     * Enumerates the combinations <code>fromInclusive</code> (inclusive) up to <code>toExclusive</code> (exclusive), in revolving door
+     * order. The first combination is computed directly using a {@link RevolvingDoorCombinationsGenerator}.
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     * @param fromInclusive
+     *            the index of the first combination to return
+     * @param toExclusive
+     *            the index of the combination to stop at
+     */
+    public RevolvingDoorIterator(final int n, final int k, final long fromInclusive, final long toExclusive) {
+        this(n, k);
+        if (fromInclusive < 0 || fromInclusive > toExclusive || toExclusive > remaining) {
+            throw new IllegalArgumentException("0 <= " + fromInclusive + " <= " + toExclusive + " <= " + remaining + "!");
+        }
+        remaining = toExclusive - fromInclusive;
+        if (fromInclusive > 0 && remaining > 0) {
+            new RevolvingDoorCombinationsGenerator(n, k).get(fromInclusive, a);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#hasNext()
+     */
+    public final boolean hasNext() {
+        return remaining > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#next()
+     */
+    public final int[] next() {
+        if (pending) {
+            pending = false;
+        } else {
+            computeNext();
+        }
+        --remaining;
+        return a;
+    }
+
+    /**
+     * @return the element that the last call to {@link #next()} brought in, or <code>-1</code> if it returned the first combination
+     */
+    public final int in() {
+        return in;
+    }
+
+    /**
+     * @return the element that the last call to {@link #next()} took out, or <code>-1</code> if it returned the first combination
+     */
+    public final int out() {
+        return out;
+    }
+
+    /**
+     * Visits each of the remaining combinations in turn, in a tight loop, along with the elements that went in and out. The same array
+     * is passed to the visitor every time.
+     *
+     * @param visitor
+     *            the {@link DoorVisitor} to call for every combination
+     * @return <code>true</code> if all remaining combinations were visited, <code>false</code> if the visitor stopped early
+     */
+    public final boolean visitAll(final DoorVisitor visitor) {
+        if (pending && remaining > 0) {
+            pending = false;
+            --remaining;
+            if (!visitor.visit(a, in, out)) {
+                return false;
+            }
+        }
+        while (remaining > 0) {
+            computeNext();
+            --remaining;
+            if (!visitor.visit(a, in, out)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Algorithm R, steps R3 to R5, with <code>a[j - 1]</code> standing in for Knuth's <code>c<sub>j</sub></code>. Termination is taken
+     * care of by counting the combinations instead.
+     */
+    private void computeNext() {
+        final boolean odd = (k & 1) != 0;
+        // R3, the easy cases
+        if (odd) {
+            if (a[0] + 1 < above(1)) {
+                out = a[0];
+                in = ++a[0];
+                return;
+            }
+        } else if (a[0] > 0) {
+            out = a[0];
+            in = --a[0];
+            return;
+        }
+        boolean decrease = odd;
+        for (int j = 2;; ++j) {
+            if (decrease) {
+                // R4, try to decrease c_j
+                if (a[j - 1] >= j) {
+                    out = a[j - 1];
+                    a[j - 1] = a[j - 2];
+                    a[j - 2] = j - 2;
+                    in = j - 2;
+                    return;
+                }
+            } else if (a[j - 1] + 1 < above(j)) {
+                // R5, try to increase c_j
+                out = a[j - 2];
+                a[j - 2] = a[j - 1];
+                in = ++a[j - 1];
+                return;
+            }
+            decrease = !decrease;
+        }
+    }
+
+    /**
+     * @param j
+     *            an index
+     * @return <code>a[j]</code>, or <code>n</code> if <code>j == k</code>
+     */
+    private int above(final int j) {
+        if (j < k) {
+            return a[j];
+        }
+        return n;
+    }
+
+    /**
+     * A callback for {@link RevolvingDoorIterator#visitAll(DoorVisitor)}.
+     *
+     * @author Alistair A. Israel
+     */
+    public interface DoorVisitor {
+
+        /**
+         * Visit the next combination.
+         *
+         * @param a
+         *            the current combination. Must not be modified.
+         * @param in
+         *            the element that was just brought in, or <code>-1</code> for the first combination
+         * @param out
+         *            the element that was just taken out, or <code>-1</code> for the first combination
+         * @return <code>true</code> to continue the enumeration, <code>false</code> to stop
+         */
+        boolean visit(final int[] a, final int in, final int out);
+
+    }
+
+}
@@ -13,6 +13,7 @@ package jcombinatorics.combinations;
 
 import java.util.Iterator;
 
+import jcombinatorics.IntArrayVisitor;
 import jcombinatorics.util.ArrayUtils;
 import jcombinatorics.util.ReadOnlyIterator;
 
@@ -35,6 +36,8 @@ public class RosenIterator extends ReadOnlyIterator<int[]> {
 
     private int[] a;
 
+    private boolean pending;
+
     private long count;
 
     /**
@@ -50,6 +53,33 @@ public class RosenIterator extends ReadOnlyIterator<int[]> {
         count = Combinations.count(n, k);
     }
 
+    /**
+     * Enumerates the combinations <code>fromInclusive</code> (inclusive) up to <code>toExclusive</code> (exclusive), in lexicographic
+     * order. The first combination is computed directly using a {@link CombinadicCombinationsGenerator}, and every subsequent one by
+     * Rosen's algorithm.
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     * @param fromInclusive
+     *            the index of the first combination to return
+     * @param toExclusive
+     *            the index of the combination to stop at
+     */
+    public RosenIterator(final int n, final int k, final long fromInclusive, final long toExclusive) {
+        this(n, k);
+        if (fromInclusive < 0 || fromInclusive > toExclusive || toExclusive > count) {
+            throw new IllegalArgumentException("0 <= " + fromInclusive + " <= " + toExclusive + " <= " + count + "!");
+        }
+        count = toExclusive - fromInclusive;
+        if (fromInclusive > 0 && count > 0) {
+            a = new int[k];
+            new CombinadicCombinationsGenerator(n, k).get(fromInclusive, a);
+            pending = true;
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -67,20 +97,101 @@ public class RosenIterator extends ReadOnlyIterator<int[]> {
     public final int[] next() {
         if (a == null) {
             initialize();
+        } else if (pending) {
+            pending = false;
         } else {
-            int i = k - 1;
-            while (a[i] == n - k + i) {
-                i--;
-            }
-            a[i] = a[i] + 1;
-            for (int j = i + 1; j < k; j++) {
-                a[j] = a[i] + j - i;
-            }
+            computeNext(a, 0);
         }
         --count;
         return a;
     }
 
+    /**
+     * Visits each of the remaining combinations in turn, in a tight loop without going through {@link #hasNext()} and {@link #next()}. The
+     * same array is passed to the visitor every time.
+     *
+     * @param visitor
+     *            the {@link IntArrayVisitor} to call for every combination
+     * @return <code>true</code> if all remaining combinations were visited, <code>false</code> if the visitor stopped early
+     */
+    public final boolean visitAll(final IntArrayVisitor visitor) {
+        if (count <= 0) {
+            return true;
+        }
+        if (a == null) {
+            initialize();
+        } else if (!pending) {
+            computeNext(a, 0);
+        }
+        pending = false;
+        --count;
+        if (!visitor.visit(a)) {
+            return false;
+        }
+        while (count > 0) {
+            computeNext(a, 0);
+            --count;
+            if (!visitor.visit(a)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies up to <code>maxItems</code> of the remaining combinations into <code>dest</code>, one after the other, so that the
+     * <i>j</i>-th one occupies <code>dest[j * k..j * k + k - 1]</code>. Each combination after the first is computed in place in
+     * <code>dest</code>, from a copy of the one before it.
+     *
+     * @param dest
+     *            the array to hold the combinations, of length at least <code>maxItems * k</code>
+     * @param maxItems
+     *            the maximum number of combinations to copy
+     * @return the number of combinations copied, which is less than <code>maxItems</code> only if there are no more
+     */
+    public final int nextBlock(final int[] dest, final int maxItems) {
+        if (maxItems < 0 || (long) maxItems * k > dest.length) {
+            throw new IllegalArgumentException("0 <= " + maxItems + " * " + k + " <= " + dest.length + "!");
+        }
+        if (maxItems == 0 || count <= 0) {
+            return 0;
+        }
+        System.arraycopy(next(), 0, dest, 0, k);
+        int m = 1;
+        int offset = 0;
+        while (m < maxItems && count > 0) {
+            System.arraycopy(dest, offset, dest, offset + k, k);
+            offset += k;
+            computeNext(dest, offset);
+            --count;
+            ++m;
+        }
+        if (offset > 0) {
+            // carry on from the last one
+            System.arraycopy(dest, offset, a, 0, k);
+        }
+        return m;
+    }
+
+    /**
+     * Advance the combination in <code>b[offset..offset+k-1]</code> to the next one by Rosen's algorithm.
+     *
+     * @param b
+     *            the array holding the combination
+     * @param offset
+     *            where it starts
+     */
+    private void computeNext(final int[] b, final int offset) {
+        int i = k - 1;
+        while (b[offset + i] == n - k + i) {
+            i--;
+        }
+        b[offset + i] = b[offset + i] + 1;
+        for (int j = i + 1; j < k; j++) {
+            b[offset + j] = b[offset + i] + j - i;
+        }
+    }
+
     /**
      *
      */
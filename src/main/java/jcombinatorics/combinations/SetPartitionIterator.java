@@ -0,0 +1,252 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import jcombinatorics.IntArrayVisitor;
+import jcombinatorics.util.ReadOnlyIterator;
+
+/**
+ * <p>
+ * An iterator that enumerates set partitions as restricted growth strings in lexicographic order, in the same order as
+ * {@link SetPartitionsGenerator}. Each step finds the rightmost element that can move to the next block, moves it, and puts every
+ * element after it back in block 0, except for as many as are needed at the end to open the blocks still missing. The same array is
+ * returned every time.
+ * </p>
+ * <p>
+ * {@link #visitAll(BlockVisitor)} also lays each partition out as its blocks, into arrays that are likewise reused.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see SetPartitionsGenerator
+ */
+public class SetPartitionIterator extends ReadOnlyIterator<int[]> {
+
+    private final int n;
+
+    private final int minBlocks;
+
+    private final int maxBlocks;
+
+    private final int[] a;
+
+    /**
+     * <code>blocks[i]</code> is the number of blocks used by <code>a[0..i]</code>.
+     */
+    private final int[] blocks;
+
+    private boolean pending = true;
+
+    private long remaining;
+
+    /**
+     * @param generator
+     *            the {@link SetPartitionsGenerator} whose partitions to enumerate
+     */
+    public SetPartitionIterator(final SetPartitionsGenerator generator) {
+        this(generator, 0, generator.count());
+    }
+
+    /**
+     * Enumerates the partitions <code>fromInclusive</code> (inclusive) up to <code>toExclusive</code> (exclusive). The first partition
+     * is computed directly using the {@link SetPartitionsGenerator}.
+     *
+     * @param generator
+     *            the {@link SetPartitionsGenerator} whose partitions to enumerate
+     * @param fromInclusive
+     *            the index of the first partition to return
+     * @param toExclusive
+     *            the index of the partition to stop at
+     */
+    public SetPartitionIterator(final SetPartitionsGenerator generator, final long fromInclusive, final long toExclusive) {
+        if (fromInclusive < 0 || fromInclusive > toExclusive || toExclusive > generator.count()) {
+            throw new IllegalArgumentException("0 <= " + fromInclusive + " <= " + toExclusive + " <= " + generator.count() + "!");
+        }
+        n = generator.size();
+        minBlocks = generator.minBlocks();
+        maxBlocks = generator.maxBlocks();
+        a = new int[n];
+        blocks = new int[n];
+        remaining = toExclusive - fromInclusive;
+        if (remaining > 0) {
+            generator.get(fromInclusive, a);
+            int m = 0;
+            for (int i = 0; i < n; ++i) {
+                m = Math.max(m, a[i] + 1);
+                blocks[i] = m;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#hasNext()
+     */
+    public final boolean hasNext() {
+        return remaining > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#next()
+     */
+    public final int[] next() {
+        if (pending) {
+            pending = false;
+        } else {
+            computeNext();
+        }
+        --remaining;
+        return a;
+    }
+
+    /**
+     * Visits each of the remaining partitions in turn, as restricted growth strings, in a tight loop without going through
+     * {@link #hasNext()} and {@link #next()}. The same array is passed to the visitor every time.
+     *
+     * @param visitor
+     *            the {@link IntArrayVisitor} to call for every partition
+     * @return <code>true</code> if all remaining partitions were visited, <code>false</code> if the visitor stopped early
+     */
+    public final boolean visitAll(final IntArrayVisitor visitor) {
+        if (pending && remaining > 0) {
+            pending = false;
+            --remaining;
+            if (!visitor.visit(a)) {
+                return false;
+            }
+        }
+        while (remaining > 0) {
+            computeNext();
+            --remaining;
+            if (!visitor.visit(a)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Visits each of the remaining partitions in turn, as its blocks. The elements are grouped by block, each block in ascending order
+     * and the blocks in order of their smallest element. The same arrays are passed to the visitor every time.
+     *
+     * @param visitor
+     *            the {@link BlockVisitor} to call for every partition
+     * @return <code>true</code> if all remaining partitions were visited, <code>false</code> if the visitor stopped early
+     */
+    public final boolean visitAll(final BlockVisitor visitor) {
+        final int[] elements = new int[n];
+        final int[] offsets = new int[n + 1];
+        if (pending && remaining > 0) {
+            pending = false;
+            --remaining;
+            if (!visitor.visit(elements, offsets, toBlocks(elements, offsets))) {
+                return false;
+            }
+        }
+        while (remaining > 0) {
+            computeNext();
+            --remaining;
+            if (!visitor.visit(elements, offsets, toBlocks(elements, offsets))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lays out the current partition as its blocks using a counting sort.
+     *
+     * @param elements
+     *            receives the elements, grouped by block
+     * @param offsets
+     *            receives where each block starts, and where the last one ends
+     * @return the number of blocks
+     */
+    private int toBlocks(final int[] elements, final int[] offsets) {
+        if (n == 0) {
+            return 0;
+        }
+        final int m = blocks[n - 1];
+        for (int b = 0; b <= m; ++b) {
+            offsets[b] = 0;
+        }
+        for (int i = 0; i < n; ++i) {
+            ++offsets[a[i] + 1];
+        }
+        for (int b = 1; b <= m; ++b) {
+            offsets[b] += offsets[b - 1];
+        }
+        // placing each element moves the start of its block up, so that afterwards each offset is where the next block starts
+        for (int i = 0; i < n; ++i) {
+            elements[offsets[a[i]]++] = i;
+        }
+        for (int b = m; b > 0; --b) {
+            offsets[b] = offsets[b - 1];
+        }
+        offsets[0] = 0;
+        return m;
+    }
+
+    /**
+     * Termination is taken care of by counting the partitions.
+     */
+    private void computeNext() {
+        // find the rightmost element that can move to the next block, and still leave room to open the blocks still missing
+        int i = n - 1;
+        int v = a[i] + 1;
+        int m = Math.max(blocks[i - 1], v + 1);
+        while (v > blocks[i - 1] || v >= maxBlocks || minBlocks - m > n - 1 - i) {
+            --i;
+            v = a[i] + 1;
+            m = Math.max(blocks[i - 1], v + 1);
+        }
+        a[i] = v;
+        blocks[i] = m;
+        // put the rest in block 0, except for the last few, which open the missing blocks in order
+        final int last = n - Math.max(0, minBlocks - m);
+        for (int j = i + 1; j < last; ++j) {
+            a[j] = 0;
+            blocks[j] = m;
+        }
+        for (int j = last; j < n; ++j) {
+            a[j] = m;
+            ++m;
+            blocks[j] = m;
+        }
+    }
+
+    /**
+     * A callback for {@link SetPartitionIterator#visitAll(BlockVisitor)}.
+     *
+     * @author Alistair A. Israel
+     */
+    public interface BlockVisitor {
+
+        /**
+         * Visit the next partition. Block <code>b</code> holds the elements <code>elements[offsets[b]]</code> up to (but not including)
+         * <code>elements[offsets[b + 1]]</code>.
+         *
+         * @param elements
+         *            the elements <code>0..n-1</code>, grouped by block. Must not be modified.
+         * @param offsets
+         *            where each block starts in <code>elements</code>. Must not be modified.
+         * @param count
+         *            the number of blocks
+         * @return <code>true</code> to continue the enumeration, <code>false</code> to stop
+         */
+        boolean visit(final int[] elements, final int[] offsets, final int count);
+
+    }
+
+}
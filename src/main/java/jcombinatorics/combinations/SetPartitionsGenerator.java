@@ -0,0 +1,316 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import java.util.Iterator;
+
+import jcombinatorics.Generator;
+import jcombinatorics.IntArrayGenerator;
+import jcombinatorics.IntArrayVisitable;
+import jcombinatorics.IntArrayVisitor;
+import jcombinatorics.ParallelIntArrays;
+
+/**
+ * <p>
+ * Generates the partitions of the set <code>{0, 1, ..., n - 1}</code>, either all of them or only those into exactly <code>k</code>
+ * blocks, as restricted growth strings in lexicographic order. A restricted growth string <code>a</code> puts element <code>i</code>
+ * in block <code>a[i]</code>, where <code>a[0] = 0</code> and each <code>a[i]</code> is at most one more than the largest before it,
+ * so blocks are numbered in order of their smallest element and each partition has exactly one string.
+ * </p>
+ * <p>
+ * To compute the <i>l</i>-th partition directly, a table holds the number of ways to complete a string that has <code>r</code>
+ * positions left and uses <code>m</code> blocks so far: <code>T(r, m) = m * T(r - 1, m) + T(r - 1, m + 1)</code>. Every entry is
+ * for a prefix that can actually occur, so none is larger than {@link #count()}.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see SetPartitionIterator
+ * @see <a href="http://en.wikipedia.org/wiki/Partition_of_a_set">Partition of a set</a>
+ */
+public class SetPartitionsGenerator extends Generator.Of<int[]> implements IntArrayGenerator, IntArrayVisitable {
+
+    private final int n;
+
+    /**
+     * The fewest blocks a partition may have.
+     */
+    private final int minBlocks;
+
+    /**
+     * The most blocks a partition may have.
+     */
+    private final int maxBlocks;
+
+    /**
+     * <code>completions[r][m]</code> is the number of ways to complete a restricted growth string with <code>r</code> positions left
+     * that uses <code>m</code> blocks so far.
+     */
+    private final long[][] completions;
+
+    private final long count;
+
+    /**
+     * All partitions of <code>n</code> elements.
+     *
+     * @param n
+     *            the number of elements, <code>n &gt;= 0</code>
+     */
+    public SetPartitionsGenerator(final int n) {
+        this(n, Math.min(n, 1), n);
+    }
+
+    /**
+     * The partitions of <code>n</code> elements into exactly <code>k</code> blocks.
+     *
+     * @param n
+     *            the number of elements, <code>n &gt;= 0</code>
+     * @param k
+     *            the number of blocks, <code>k &gt;= 0</code>
+     */
+    public SetPartitionsGenerator(final int n, final int k) {
+        this(n, k, k);
+    }
+
+    /**
+     * @param n
+     *            the number of elements
+     * @param minBlocks
+     *            the fewest blocks a partition may have
+     * @param maxBlocks
+     *            the most blocks a partition may have
+     */
+    private SetPartitionsGenerator(final int n, final int minBlocks, final int maxBlocks) {
+        if (n < 0 || minBlocks < 0) {
+            throw new IllegalArgumentException("n >= 0 and k >= 0!");
+        }
+        this.n = n;
+        this.minBlocks = minBlocks;
+        this.maxBlocks = maxBlocks;
+        completions = new long[n][];
+        for (int r = 0; r < n; ++r) {
+            // with r positions left, at most n - r blocks can have been used
+            final long[] row = new long[Math.min(n - r, maxBlocks) + 2];
+            for (int m = 1; m <= Math.min(n - r, maxBlocks); ++m) {
+                if (r == 0) {
+                    if (m >= minBlocks) {
+                        row[m] = 1;
+                    }
+                } else {
+                    final long[] previous = completions[r - 1];
+                    row[m] = Math.multiplyExact(m, previous[m]);
+                    if (m < maxBlocks) {
+                        row[m] = Math.addExact(row[m], previous[m + 1]);
+                    }
+                }
+            }
+            completions[r] = row;
+        }
+        if (n > 0) {
+            count = completions[n - 1][1];
+        } else if (minBlocks == 0) {
+            count = 1;
+        } else {
+            count = 0;
+        }
+    }
+
+    /**
+     * @return the number of elements being partitioned
+     */
+    public final int size() {
+        return n;
+    }
+
+    /**
+     * @return the total number of partitions
+     * @see jcombinatorics.Generator#count()
+     */
+    public final long count() {
+        return count;
+    }
+
+    /**
+     * Returns a {@link SetPartitionIterator} that computes the <i>fromInclusive</i>-th partition directly, then steps to each
+     * subsequent one.
+     *
+     * @param fromInclusive
+     *            the index of the first partition to return
+     * @param toExclusive
+     *            the index of the partition to stop at
+     * @return {@link Iterator}&lt;int[]&gt;
+     * @see jcombinatorics.Generator.Of#iterator(long, long)
+     */
+    public final Iterator<int[]> iterator(final long fromInclusive, final long toExclusive) {
+        return new SetPartitionIterator(this, fromInclusive, toExclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see jcombinatorics.Generator.Of#hasCheapSuccessor()
+     */
+    protected final boolean hasCheapSuccessor() {
+        return true;
+    }
+
+    /**
+     * Visits every partition in order, as a restricted growth string, passing the same array to the visitor every time.
+     *
+     * @param visitor
+     *            the {@link IntArrayVisitor} to call for every partition
+     * @return <code>true</code> if all partitions were visited, <code>false</code> if the visitor stopped early
+     */
+    public final boolean visitAll(final IntArrayVisitor visitor) {
+        return new SetPartitionIterator(this).visitAll(visitor);
+    }
+
+    /**
+     * Visits the partitions <code>fromInclusive</code> (inclusive) up to <code>toExclusive</code> (exclusive) in order, as restricted
+     * growth strings, passing the same array to the visitor every time.
+     *
+     * @param fromInclusive
+     *            the index of the first partition to visit
+     * @param toExclusive
+     *            the index of the partition to stop at
+     * @param visitor
+     *            the {@link IntArrayVisitor} to call for every partition
+     * @return <code>true</code> if all the partitions were visited, <code>false</code> if the visitor stopped early
+     * @see jcombinatorics.IntArrayVisitable#visitAll(long, long, IntArrayVisitor)
+     */
+    public final boolean visitAll(final long fromInclusive, final long toExclusive, final IntArrayVisitor visitor) {
+        return new SetPartitionIterator(this, fromInclusive, toExclusive).visitAll(visitor);
+    }
+
+    /**
+     * Visits every partition in order, as its blocks.
+     *
+     * @param visitor
+     *            the {@link SetPartitionIterator.BlockVisitor} to call for every partition
+     * @return <code>true</code> if all partitions were visited, <code>false</code> if the visitor stopped early
+     */
+    public final boolean visitAll(final SetPartitionIterator.BlockVisitor visitor) {
+        return new SetPartitionIterator(this).visitAll(visitor);
+    }
+
+    /**
+     * Visits every partition in parallel in the common {@link java.util.concurrent.ForkJoinPool}. The index range is split into
+     * chunks, and each chunk is visited by its own iterator with its own buffer.
+     *
+     * @param visitor
+     *            the {@link IntArrayVisitor}, which will be called concurrently from several threads
+     * @return <code>true</code> if all partitions were visited, <code>false</code> if the visitor stopped early
+     * @see ParallelIntArrays#visitAll(IntArrayVisitable, IntArrayVisitor)
+     */
+    public final boolean parallelVisitAll(final IntArrayVisitor visitor) {
+        return ParallelIntArrays.visitAll(this, visitor);
+    }
+
+    /**
+     * Retrieve the <i>l</i>-th partition, as a restricted growth string.
+     *
+     * @param l
+     *            long
+     * @return int[]
+     */
+    public final int[] get(final long l) {
+        return get(l, new int[n]);
+    }
+
+    /**
+     * Retrieve the <i>l</i>-th partition into the given array, as a restricted growth string.
+     *
+     * @param l
+     *            long
+     * @param a
+     *            the array to hold the partition, of length at least <code>n</code>
+     * @return <code>a</code>
+     */
+    public final int[] get(final long l, final int[] a) {
+        if (l < 0 || l >= count) {
+            throw new IllegalArgumentException("0 <= " + l + " < " + count + "!");
+        }
+        if (n == 0) {
+            return a;
+        }
+        a[0] = 0;
+        long r = l;
+        int m = 1;
+        for (int i = 1; i < n; ++i) {
+            // each of the m blocks used so far leads to the same number of completions
+            final long block = completions[n - 1 - i][m];
+            final long existing = m * block;
+            if (r < existing) {
+                a[i] = (int) (r / block);
+                r %= block;
+            } else {
+                r -= existing;
+                a[i] = m;
+                ++m;
+            }
+        }
+        return a;
+    }
+
+    /**
+     * Compute the index of the given partition, the inverse of {@link #get(long)}.
+     *
+     * @param a
+     *            a restricted growth string with <code>n</code> elements
+     * @return the index <code>l</code> such that <code>get(l)</code> is equal to <code>a</code>
+     */
+    public final long rank(final int[] a) {
+        if (count == 0) {
+            throw new IllegalArgumentException("There are no partitions of " + n + " elements into " + minBlocks + " blocks!");
+        }
+        if (n == 0) {
+            return 0;
+        }
+        if (a[0] != 0) {
+            throw new IllegalArgumentException("Element " + a[0] + " at index 0 is not 0!");
+        }
+        long r = 0;
+        int m = 1;
+        for (int i = 1; i < n; ++i) {
+            final int c = a[i];
+            if (c < 0 || c > m || c >= maxBlocks) {
+                throw new IllegalArgumentException("Element " + c + " at index " + i + " is not in 0.."
+                        + Math.min(m, maxBlocks - 1) + "!");
+            }
+            final long block = completions[n - 1 - i][m];
+            if (c < m) {
+                r += c * block;
+            } else {
+                r += m * block;
+                ++m;
+            }
+        }
+        if (m < minBlocks) {
+            throw new IllegalArgumentException("Partition has " + m + " blocks, not " + minBlocks + "!");
+        }
+        return r;
+    }
+
+    /**
+     * @return the fewest blocks a partition may have. Used by {@link SetPartitionIterator}.
+     */
+    final int minBlocks() {
+        return minBlocks;
+    }
+
+    /**
+     * @return the most blocks a partition may have. Used by {@link SetPartitionIterator}.
+     */
+    final int maxBlocks() {
+        return maxBlocks;
+    }
+
+}
@@ -0,0 +1,153 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import static jcombinatorics.util.MathUtils.binomial;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import jcombinatorics.Generator;
+
+/**
+ * Generates the combinations of <code>n</code> elements taken <code>k</code> at a time as bitmasks spread over an array of
+ * <code>long</code> words, where element <code>i</code> is bit <code>i % 64</code> of word <code>i / 64</code>, for when
+ * <code>n &gt; 64</code>. Combinations are indexed the same way as {@link CombinadicCombinationsGenerator}, and enumerated in that
+ * order by a {@link WordMaskIterator}.
+ *
+ * @author Alistair A. Israel
+ * @see MaskCombinationsGenerator
+ */
+public class WordMaskCombinationsGenerator extends Generator.Of<long[]> {
+
+    private final int n;
+
+    private final int k;
+
+    private final long count;
+
+    /**
+     * @param n
+     *            the number of elements to choose from
+     * @param k
+     *            taken <code>k</code> at a time
+     */
+    public WordMaskCombinationsGenerator(final int n, final int k) {
+        this.n = n;
+        this.k = k;
+        this.count = Combinations.count(n, k);
+    }
+
+    /**
+     * @param n
+     *            the number of elements
+     * @return the number of <code>long</code> words needed to hold a mask of <code>n</code> elements
+     */
+    public static int words(final int n) {
+        return (n + Long.SIZE - 1) >>> 6;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see jcombinatorics.Generator#count()
+     */
+    public final long count() {
+        return count;
+    }
+
+    /**
+     * Returns a {@link WordMaskIterator} that starts at the <i>fromInclusive</i>-th combination. The same array is returned for every
+     * combination.
+     *
+     * @param fromInclusive
+     *            the index of the first combination to return
+     * @param toExclusive
+     *            the index of the combination to stop at
+     * @return {@link Iterator}&lt;long[]&gt;
+     * @see jcombinatorics.Generator.Of#iterator(long, long)
+     */
+    public final Iterator<long[]> iterator(final long fromInclusive, final long toExclusive) {
+        return new WordMaskIterator(n, k, fromInclusive, toExclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see jcombinatorics.Generator.Of#hasCheapSuccessor()
+     */
+    protected final boolean hasCheapSuccessor() {
+        return true;
+    }
+
+    /**
+     * Retrieve the <i>l</i>-th combination as a bitmask.
+     *
+     * @param l
+     *            the index of the combination
+     * @return the combination, as {@link #words(int)} <code>long</code> words
+     */
+    public final long[] get(final long l) {
+        return get(l, new long[words(n)]);
+    }
+
+    /**
+     * Retrieve the <i>l</i>-th combination as a bitmask into the given array.
+     *
+     * @param l
+     *            the index of the combination
+     * @param w
+     *            the array to hold the mask, of length at least {@link #words(int)}
+     * @return <code>w</code>
+     */
+    public final long[] get(final long l, final long[] w) {
+        Arrays.fill(w, 0, words(n), 0);
+        long m = count - l - 1;
+        int v = n;
+        for (int i = k; i > 0; --i) {
+            v = CombinadicCombinationsGenerator.digit(v, i, m);
+            m -= binomial(v, i);
+            final int c = n - 1 - v;
+            w[c >>> 6] |= 1L << c;
+        }
+        return w;
+    }
+
+    /**
+     * Compute the index of the given combination, the inverse of {@link #get(long)}. Visits only the set bits.
+     *
+     * @param w
+     *            a bitmask with <code>k</code> of the lowest <code>n</code> bits set, as {@link #words(int)} <code>long</code> words
+     * @return the index <code>l</code> such that <code>get(l)</code> is equal to <code>w</code>
+     */
+    public final long rank(final long[] w) {
+        long m = 0;
+        int i = 0;
+        for (int j = 0; j < words(n); ++j) {
+            long x = w[j];
+            while (x != 0) {
+                final int c = (j << 6) + Long.numberOfTrailingZeros(x);
+                if (c >= n || i >= k) {
+                    throw new IllegalArgumentException("Mask " + Arrays.toString(w) + " is not a " + k + "-subset of 0.." + (n - 1) + "!");
+                }
+                m += binomial(n - 1 - c, k - i);
+                ++i;
+                x &= x - 1;
+            }
+        }
+        if (i != k) {
+            throw new IllegalArgumentException("Mask " + Arrays.toString(w) + " is not a " + k + "-subset of 0.." + (n - 1) + "!");
+        }
+        return count - 1 - m;
+    }
+
+}
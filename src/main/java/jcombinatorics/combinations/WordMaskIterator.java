@@ -0,0 +1,117 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import jcombinatorics.util.ReadOnlyIterator;
+
+/**
+ * <p>
+ * An iterator that enumerates the combinations of <code>n</code> elements taken <code>k</code> at a time as bitmasks spread over an
+ * array of <code>long</code> words, where element <code>i</code> is bit <code>i % 64</code> of word <code>i / 64</code>, in the same
+ * (lexicographic) order as {@link RosenIterator}.
+ * </p>
+ * <p>
+ * Steps using Rosen's algorithm, and only clears and sets the bits of the elements that changed. The same array is returned every time.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see WordMaskCombinationsGenerator
+ */
+public class WordMaskIterator extends ReadOnlyIterator<long[]> {
+
+    private final int n;
+
+    private final int k;
+
+    private final int[] a;
+
+    private final long[] words;
+
+    private boolean pending = true;
+
+    private long remaining;
+
+    /**
+     * Enumerates the combinations <code>fromInclusive</code> (inclusive) up to <code>toExclusive</code> (exclusive). The first
+     * combination is computed directly using a {@link CombinadicCombinationsGenerator}.
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     * @param fromInclusive
+     *            the index of the first combination to return
+     * @param toExclusive
+     *            the index of the combination to stop at
+     */
+    public WordMaskIterator(final int n, final int k, final long fromInclusive, final long toExclusive) {
+        final CombinadicCombinationsGenerator generator = new CombinadicCombinationsGenerator(n, k);
+        if (fromInclusive < 0 || fromInclusive > toExclusive || toExclusive > generator.count()) {
+            throw new IllegalArgumentException("0 <= " + fromInclusive + " <= " + toExclusive + " <= " + generator.count() + "!");
+        }
+        this.n = n;
+        this.k = k;
+        a = new int[k];
+        words = new long[WordMaskCombinationsGenerator.words(n)];
+        remaining = toExclusive - fromInclusive;
+        if (remaining > 0) {
+            generator.get(fromInclusive, a);
+            for (int j = 0; j < k; ++j) {
+                words[a[j] >>> 6] |= 1L << a[j];
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#hasNext()
+     */
+    public final boolean hasNext() {
+        return remaining > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#next()
+     */
+    public final long[] next() {
+        if (pending) {
+            pending = false;
+        } else {
+            computeNext();
+        }
+        --remaining;
+        return words;
+    }
+
+    /**
+     * Advance to the next combination by Rosen's algorithm, updating only the bits of the elements that move.
+     */
+    private void computeNext() {
+        int i = k - 1;
+        while (a[i] == n - k + i) {
+            i--;
+        }
+        for (int j = i; j < k; ++j) {
+            words[a[j] >>> 6] &= ~(1L << a[j]);
+        }
+        a[i] = a[i] + 1;
+        words[a[i] >>> 6] |= 1L << a[i];
+        for (int j = i + 1; j < k; j++) {
+            a[j] = a[i] + j - i;
+            words[a[j] >>> 6] |= 1L << a[j];
+        }
+    }
+
+}
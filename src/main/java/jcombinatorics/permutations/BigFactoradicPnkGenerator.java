@@ -0,0 +1,173 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.permutations;
+
+import java.math.BigInteger;
+
+import jcombinatorics.BigGenerator;
+
+/**
+ * P(n, k) generator in lexicographical order using factoradics, addressed by a {@link BigInteger} index so it isn't limited to
+ * <code>P(n, k) &lt;= </code>{@link java.lang.Long#MAX_VALUE}. Indexes that fit in a <code>long</code> are decoded using
+ * <code>long</code> arithmetic, and {@link BigInteger} arithmetic is used only for the digits that need it.
+ *
+ * @author Alistair A. Israel
+ * @see FactoradicPnkGenerator
+ */
+public class BigFactoradicPnkGenerator implements BigGenerator<int[]> {
+
+    private final int n;
+
+    private final int k;
+
+    private final BigInteger count;
+
+    /**
+     * Used for ranking if the count fits in a <code>long</code>, otherwise <code>null</code>.
+     */
+    private final FactoradicPnkGenerator generator;
+
+    /**
+     * P(n) generator.
+     *
+     * @param n
+     *            the number of elements
+     */
+    public BigFactoradicPnkGenerator(final int n) {
+        this(n, n);
+    }
+
+    /**
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     */
+    public BigFactoradicPnkGenerator(final int n, final int k) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Need at least 1 element!");
+        }
+        if (k < 0 || k > n) {
+            throw new IllegalArgumentException("0 <= k <= n!");
+        }
+        this.n = n;
+        this.k = k;
+        BigInteger c = BigInteger.ONE;
+        for (int i = n - k + 1; i <= n; ++i) {
+            c = c.multiply(BigInteger.valueOf(i));
+        }
+        this.count = c;
+        if (c.bitLength() < Long.SIZE) {
+            generator = new FactoradicPnkGenerator(n, k);
+        } else {
+            generator = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see jcombinatorics.BigGenerator#count()
+     */
+    public final BigInteger count() {
+        return count;
+    }
+
+    /**
+     * Retrieve the <i>i</i>-th permutation.
+     *
+     * @param i
+     *            the index
+     * @return int[]
+     */
+    public final int[] get(final BigInteger i) {
+        return get(i, new int[k]);
+    }
+
+    /**
+     * Retrieve the <i>i</i>-th permutation into the given array.
+     *
+     * @param i
+     *            the index
+     * @param a
+     *            the array to hold the permutation, of length at least <code>k</code>
+     * @return <code>a</code>
+     */
+    public final int[] get(final BigInteger i, final int[] a) {
+        if (i.signum() < 0 || i.compareTo(count) >= 0) {
+            throw new IllegalArgumentException("0 <= " + i + " < " + count + "!");
+        }
+        if (i.bitLength() < Long.SIZE) {
+            FactoradicPnkGenerator.factoradicNK(n, k, a, i.longValue());
+        } else {
+            factoradicNK(a, i);
+        }
+        FactoradicPnkGenerator.applyFactoradic(a, k);
+        return a;
+    }
+
+    /**
+     * Truncated factoradic of a {@link BigInteger}. Divides using {@link BigInteger} only until the remaining quotient fits in a
+     * <code>long</code>.
+     *
+     * @param f
+     *            the array to hold the factoradic
+     * @param i
+     *            the index
+     */
+    private void factoradicNK(final int[] f, final BigInteger i) {
+        BigInteger m = i;
+        int j = k - 1;
+        while (m.bitLength() >= Long.SIZE) {
+            final BigInteger[] qr = m.divideAndRemainder(BigInteger.valueOf(n - j));
+            f[j] = qr[1].intValue();
+            m = qr[0];
+            --j;
+        }
+        long l = m.longValue();
+        while (j >= 0) {
+            final int z = n - j;
+            f[j] = (int) (l % z);
+            l /= z;
+            --j;
+        }
+    }
+
+    /**
+     * Compute the index of the given permutation, the inverse of {@link #get(BigInteger)}.
+     *
+     * @param a
+     *            a permutation of <code>k</code> distinct elements from <code>0..n-1</code>
+     * @return the index <code>i</code> such that <code>get(i)</code> is equal to <code>a</code>
+     */
+    public final BigInteger rank(final int[] a) {
+        if (generator != null) {
+            return BigInteger.valueOf(generator.rank(a));
+        }
+        final int[] f = new int[k];
+        FactoradicPnkGenerator.rank(n, k, a, f);
+        // accumulate in a long for as long as we can
+        long l = 0;
+        int i = 0;
+        while (i < k && l <= (Long.MAX_VALUE - f[i]) / (n - i)) {
+            l = l * (n - i) + f[i];
+            ++i;
+        }
+        BigInteger r = BigInteger.valueOf(l);
+        while (i < k) {
+            r = r.multiply(BigInteger.valueOf(n - i)).add(BigInteger.valueOf(f[i]));
+            ++i;
+        }
+        return r;
+    }
+
+}
@@ -0,0 +1,259 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.permutations;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * <p>
+ * Finds a permutation of <code>n</code> elements taken <code>k</code> at a time with the least cost, for problems such as assignment,
+ * sequencing or a small travelling salesman, by branch and bound. The cost of a permutation is the sum of the cost of each element
+ * given the ones before it, and a prefix is pruned, using a {@link PermutationSearch}, as soon as its cost plus a lower bound on the
+ * cost of completing it is no better than the best permutation found so far.
+ * </p>
+ * <p>
+ * Each part of the search, on one thread, keeps the cost of every prefix on the way down to the current one, so the cost of each element
+ * is only worked out once per prefix. In parallel, every thread prunes against the best permutation found by any of them, which they
+ * share through an {@link AtomicReference} that's only replaced by one that's strictly better, without locking.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see Permutations#branchAndBound(int, int, BranchAndBound.CostFunction)
+ */
+public class BranchAndBound {
+
+    /**
+     * Defines the cost of a permutation, one element at a time. Costs should not be negative, and the cost of a permutation plus the
+     * lower bound for any prefix of it should fit in a <code>long</code>. Will be called concurrently from several threads when solving
+     * in parallel.
+     */
+    public interface CostFunction {
+
+        /**
+         * @param prefix
+         *            a (partial) permutation, in <code>prefix[0..length-1]</code>. Must not be modified.
+         * @param length
+         *            the length of the prefix, <code>1 &lt;= length &lt;= k</code>
+         * @return the cost of <code>prefix[length-1]</code> coming after <code>prefix[0..length-2]</code>, which for
+         *         <code>length == k</code> should include anything it costs to finish
+         */
+        long step(final int[] prefix, final int length);
+
+        /**
+         * @param prefix
+         *            a partial permutation, in <code>prefix[0..length-1]</code>. Must not be modified.
+         * @param length
+         *            the length of the prefix, <code>1 &lt;= length &lt; k</code>
+         * @return a lower bound on the cost of the remaining steps of any permutation starting with this prefix. Returning 0 is always
+         *         correct, but the closer the bound, the more can be pruned.
+         */
+        long lowerBound(final int[] prefix, final int length);
+
+    }
+
+    private final PermutationSearch search;
+
+    private final CostFunction costs;
+
+    /**
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     * @param costs
+     *            the {@link CostFunction}
+     */
+    public BranchAndBound(final int n, final int k, final CostFunction costs) {
+        this.search = new PermutationSearch(n, k);
+        this.costs = costs;
+    }
+
+    /**
+     * Solves in this thread.
+     *
+     * @return the {@link Solution}
+     */
+    public final Solution minimize() {
+        return minimize(Long.MAX_VALUE);
+    }
+
+    /**
+     * Solves in this thread, looking only for permutations that cost less than a known one.
+     *
+     * @param upperBound
+     *            the cost of a known solution, such as one found by a heuristic
+     * @return the {@link Solution}, which has no permutation if none costs less than <code>upperBound</code>
+     */
+    public final Solution minimize(final long upperBound) {
+        final Pruner pruner = new Pruner(upperBound);
+        final PermutationSearch.Result result = search.search(pruner);
+        return pruner.solution(result);
+    }
+
+    /**
+     * Solves in parallel in the common {@link ForkJoinPool}.
+     *
+     * @return the {@link Solution}
+     */
+    public final Solution parallelMinimize() {
+        return parallelMinimize(ForkJoinPool.commonPool(), Long.MAX_VALUE);
+    }
+
+    /**
+     * Solves in parallel in the given {@link ForkJoinPool}, looking only for permutations that cost less than a known one.
+     *
+     * @param pool
+     *            the {@link ForkJoinPool} to use
+     * @param upperBound
+     *            the cost of a known solution, or {@link Long#MAX_VALUE}
+     * @return the {@link Solution}, which has no permutation if none costs less than <code>upperBound</code>
+     */
+    public final Solution parallelMinimize(final ForkJoinPool pool, final long upperBound) {
+        final Pruner pruner = new Pruner(upperBound);
+        final PermutationSearch.Result result = search.parallelSearch(pool, pruner);
+        return pruner.solution(result);
+    }
+
+    /**
+     * The best permutation found, and how much of the search space was pruned finding it.
+     */
+    public static final class Solution {
+
+        private final long cost;
+
+        private final int[] permutation;
+
+        private final PermutationSearch.Result result;
+
+        /**
+         * @param cost
+         *            the cost of the permutation
+         * @param permutation
+         *            the permutation, or <code>null</code>
+         * @param result
+         *            the {@link PermutationSearch.Result}
+         */
+        Solution(final long cost, final int[] permutation, final PermutationSearch.Result result) {
+            this.cost = cost;
+            this.permutation = permutation;
+            this.result = result;
+        }
+
+        /**
+         * @return the least cost, or the upper bound if no permutation costs less
+         */
+        public long cost() {
+            return cost;
+        }
+
+        /**
+         * @return a copy of a permutation with the least cost, or <code>null</code> if no permutation costs less than the upper bound
+         */
+        public int[] permutation() {
+            if (permutation == null) {
+                return null;
+            }
+            return permutation.clone();
+        }
+
+        /**
+         * @return the {@link PermutationSearch.Result}, with the number of permutations costed and the number pruned
+         */
+        public PermutationSearch.Result result() {
+            return result;
+        }
+
+    }
+
+    /**
+     * Makes a {@link Bounder} for each part of the search, and holds the best solution found so far.
+     */
+    private final class Pruner implements PermutationSearch.PrefixVisitor.Factory {
+
+        private final AtomicReference<Solution> best;
+
+        /**
+         * @param upperBound
+         *            the cost to beat
+         */
+        Pruner(final long upperBound) {
+            best = new AtomicReference<Solution>(new Solution(upperBound, null, null));
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see jcombinatorics.permutations.PermutationSearch.PrefixVisitor.Factory#newVisitor()
+         */
+        public PermutationSearch.PrefixVisitor newVisitor() {
+            return new Bounder();
+        }
+
+        /**
+         * @param result
+         *            the {@link PermutationSearch.Result}
+         * @return the best {@link Solution} found
+         */
+        Solution solution(final PermutationSearch.Result result) {
+            final Solution solution = best.get();
+            return new Solution(solution.cost, solution.permutation, result);
+        }
+
+        /**
+         * Prunes one part of the search, adding the cost of each element to the cost of the prefix before it.
+         */
+        private final class Bounder implements PermutationSearch.PrefixVisitor {
+
+            /**
+             * <code>cost[length]</code> is the cost of the last prefix of that length accepted, which the search guarantees is the start
+             * of the next prefix it asks about.
+             */
+            private final long[] cost = new long[search.k() + 1];
+
+            /**
+             * {@inheritDoc}
+             *
+             * @see jcombinatorics.permutations.PermutationSearch.PrefixFilter#accept(int[], int)
+             */
+            public boolean accept(final int[] prefix, final int length) {
+                cost[length] = cost[length - 1] + costs.step(prefix, length);
+                return cost[length] + costs.lowerBound(prefix, length) < best.get().cost;
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @see jcombinatorics.IntArrayVisitor#visit(int[])
+             */
+            public boolean visit(final int[] a) {
+                long total = 0;
+                if (a.length > 0) {
+                    total = cost[a.length - 1] + costs.step(a, a.length);
+                }
+                Solution current = best.get();
+                while (total < current.cost) {
+                    final Solution better = new Solution(total, a.clone(), null);
+                    if (best.compareAndSet(current, better)) {
+                        break;
+                    }
+                    current = best.get();
+                }
+                return true;
+            }
+
+        }
+
+    }
+
+}
@@ -11,7 +11,10 @@
  */
 package jcombinatorics.permutations;
 
+import java.util.Iterator;
+
 import jcombinatorics.Generator;
+import jcombinatorics.IntArrayGenerator;
 import jcombinatorics.util.ArrayUtils;
 import jcombinatorics.util.MathUtils;
 import jcombinatorics.util.ReadOnlyIterator;
@@ -24,7 +27,7 @@ import jcombinatorics.util.ReadOnlyIterator;
  * @see <a href="http://en.wikipedia.org/wiki/Factoradic">http://en.wikipedia.org/wiki/Factoradic</a>
  * @since 0.1
  */
-public class FactoradicPnGenerator extends Generator.Of<int[]> {
+public class FactoradicPnGenerator extends Generator.Of<int[]> implements IntArrayGenerator {
 
     /**
      * <code>long</code> can only hold up to {@value #MAX_N}!
@@ -59,6 +62,29 @@ public class FactoradicPnGenerator extends Generator.Of<int[]> {
         return count;
     }
 
+    /**
+     * Returns a SEPA iterator that computes the <i>fromInclusive</i>-th permutation directly, then steps to each subsequent one.
+     *
+     * @param fromInclusive
+     *            the index of the first permutation to return
+     * @param toExclusive
+     *            the index of the permutation to stop at
+     * @return {@link Iterator}&lt;int[]&gt;
+     * @see jcombinatorics.Generator.Of#iterator(long, long)
+     */
+    public final Iterator<int[]> iterator(final long fromInclusive, final long toExclusive) {
+        return new SepaPnIterator(n, fromInclusive, toExclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see jcombinatorics.Generator.Of#hasCheapSuccessor()
+     */
+    protected final boolean hasCheapSuccessor() {
+        return true;
+    }
+
     /**
      * Retrieve the i-th permutation.
      *
@@ -67,15 +93,69 @@ public class FactoradicPnGenerator extends Generator.Of<int[]> {
      * @return int[]
      */
     public final int[] get(final long l) {
-        // For P(n) factoradic, last digit is always 0 so no need to compute
-        final int[] f = new int[n - 1];
-        factoradic(f, l);
-        final int[] a = new int[n];
+        return get(l, new int[n]);
+    }
+
+    /**
+     * Retrieve the <i>l</i>-th permutation into the given array. The factoradic digits are computed and applied one at a time, so no
+     * scratch space is needed.
+     *
+     * @param l
+     *            long
+     * @param a
+     *            the array to hold the permutation, of length at least <code>n</code>
+     * @return <code>a</code>
+     */
+    public final int[] get(final long l, final int[] a) {
         System.arraycopy(identity, 0, a, 0, n);
-        factoradicToPermutation(f, a);
+        long m = l;
+        // For P(n) factoradic, last digit is always 0 so no need to compute
+        for (int i = 0; i < n - 1; ++i) {
+            final long f = MathUtils.factorial(n - 1 - i);
+            final int d = (int) (m / f);
+            if (d != 0) {
+                m -= d * f;
+                final int t = a[i + d];
+                // shift right
+                System.arraycopy(a, i, a, i + 1, d);
+                a[i] = t;
+            }
+        }
         return a;
     }
 
+    /**
+     * Compute <code>items</code> consecutive permutations starting from the <i>fromInclusive</i>-th into <code>dest</code>, one after the
+     * other, so that the <i>j</i>-th one occupies <code>dest[j * n..j * n + n - 1]</code>. Only the first permutation is
+     * computed directly, the rest are stepped to by a {@link SepaPnIterator}.
+     *
+     * @param fromInclusive
+     *            the index of the first permutation
+     * @param items
+     *            the number of permutations
+     * @param dest
+     *            the array to hold the permutations, of length at least <code>items * n</code>
+     * @return <code>dest</code>
+     */
+    public final int[] getBlock(final long fromInclusive, final int items, final int[] dest) {
+        if (items < 0) {
+            throw new IllegalArgumentException("items < 0");
+        }
+        new SepaPnIterator(n, fromInclusive, fromInclusive + items).nextBlock(dest, items);
+        return dest;
+    }
+
+    /**
+     * Compute the index of the given permutation, the inverse of {@link #get(long)}. Takes O(n) time and does not allocate.
+     *
+     * @param a
+     *            a permutation of <code>0..n-1</code>
+     * @return the index <code>l</code> such that <code>get(l)</code> is equal to <code>a</code>
+     */
+    public final long rank(final int[] a) {
+        return FactoradicPnkGenerator.rank(n, n, a);
+    }
+
     /**
      * Optimized factoradic. Doesn't compute for the last digit (which is always 0).
      *
@@ -12,9 +12,10 @@
 package jcombinatorics.permutations;
 
 import java.util.Arrays;
+import java.util.Iterator;
 
 import jcombinatorics.Generator;
-import jcombinatorics.util.ArrayUtils;
+import jcombinatorics.IntArrayGenerator;
 import jcombinatorics.util.ReadOnlyIterator;
 
 /**
@@ -24,7 +25,7 @@ import jcombinatorics.util.ReadOnlyIterator;
  * @see <a href="http://en.wikipedia.org/wiki/Factoradic">http://en.wikipedia.org/wiki/Factoradic</a>
  * @since 0.1
  */
-public class FactoradicPnkGenerator extends Generator.Of<int[]> {
+public class FactoradicPnkGenerator extends Generator.Of<int[]> implements IntArrayGenerator {
 
     private final int n;
 
@@ -32,8 +33,6 @@ public class FactoradicPnkGenerator extends Generator.Of<int[]> {
 
     private final long count;
 
-    private final int[] identity;
-
     /**
      * @param n
      *            the number of elements
@@ -45,7 +44,6 @@ public class FactoradicPnkGenerator extends Generator.Of<int[]> {
         this.n = n;
         this.k = k;
         this.count = Permutations.count(n, k);
-        this.identity = ArrayUtils.identityPermutation(n);
     }
 
     /**
@@ -57,6 +55,29 @@ public class FactoradicPnkGenerator extends Generator.Of<int[]> {
         return count;
     }
 
+    /**
+     * Returns a SEPA iterator that computes the <i>fromInclusive</i>-th permutation directly, then steps to each subsequent one.
+     *
+     * @param fromInclusive
+     *            the index of the first permutation to return
+     * @param toExclusive
+     *            the index of the permutation to stop at
+     * @return {@link Iterator}&lt;int[]&gt;
+     * @see jcombinatorics.Generator.Of#iterator(long, long)
+     */
+    public final Iterator<int[]> iterator(final long fromInclusive, final long toExclusive) {
+        return new SepaPnkIterator(n, k, fromInclusive, toExclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see jcombinatorics.Generator.Of#hasCheapSuccessor()
+     */
+    protected final boolean hasCheapSuccessor() {
+        return true;
+    }
+
     /**
      * Retrieve the <i>l</i>-th permutation.
      *
@@ -65,34 +86,205 @@ public class FactoradicPnkGenerator extends Generator.Of<int[]> {
      * @return int[]
      */
     public final int[] get(final long l) {
-        final int[] f = new int[k];
-        factoradicNK(f, l);
-
-        final int[] a = new int[n];
-        System.arraycopy(identity, 0, a, 0, n);
-        applyFactoradic(f, a);
+        return get(l, new int[k]);
+    }
 
-        return f;
+    /**
+     * Retrieve the <i>l</i>-th permutation into the given array, without using any scratch space.
+     *
+     * @param l
+     *            long
+     * @param a
+     *            the array to hold the permutation, of length at least <code>k</code>
+     * @return <code>a</code>
+     */
+    public final int[] get(final long l, final int[] a) {
+        factoradicNK(a, l);
+        applyFactoradic(a, k);
+        return a;
     }
 
     /**
-     * Apply factoradic f to permutation a, but store the result back in f
+     * Apply the (truncated) factoradic f in place, turning it into the permutation it represents. Each digit <code>f[i]</code> is the
+     * index of the chosen element among those not chosen by <code>f[0..i-1]</code>, so working from right to left we only need to bump
+     * every later element that is at or above the current one.
      *
      * @param f
      *            int[]
+     * @param k
+     *            the number of digits in f
+     */
+    static void applyFactoradic(final int[] f, final int k) {
+        for (int i = k - 2; i >= 0; --i) {
+            final int d = f[i];
+            for (int j = i + 1; j < k; ++j) {
+                if (f[j] >= d) {
+                    ++f[j];
+                }
+            }
+        }
+    }
+
+    /**
+     * Compute <code>items</code> consecutive permutations starting from the <i>fromInclusive</i>-th into <code>dest</code>, one after the
+     * other, so that the <i>j</i>-th one occupies <code>dest[j * k..j * k + k - 1]</code>. Only the first permutation is
+     * computed directly, the rest are stepped to by a {@link SepaPnkIterator}.
+     *
+     * @param fromInclusive
+     *            the index of the first permutation
+     * @param items
+     *            the number of permutations
+     * @param dest
+     *            the array to hold the permutations, of length at least <code>items * k</code>
+     * @return <code>dest</code>
+     */
+    public final int[] getBlock(final long fromInclusive, final int items, final int[] dest) {
+        if (items < 0) {
+            throw new IllegalArgumentException("items < 0");
+        }
+        new SepaPnkIterator(n, k, fromInclusive, fromInclusive + items).nextBlock(dest, items);
+        return dest;
+    }
+
+    /**
+     * Compute the index of the given permutation, the inverse of {@link #get(long)}.
+     *
      * @param a
-     *            int[]
+     *            a permutation of <code>k</code> distinct elements from <code>0..n-1</code>
+     * @return the index <code>l</code> such that <code>get(l)</code> is equal to <code>a</code>
+     */
+    public final long rank(final int[] a) {
+        return rank(n, k, a);
+    }
+
+    /**
+     * Compute the index of a permutation in P(n, k), in O(k) time if n &lt;= 64 and O(k log n) time otherwise. Each factoradic digit is
+     * the number of elements, not already taken, that are less than <code>a[i]</code>.
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     * @param a
+     *            the permutation
+     * @return the index of the permutation
+     */
+    static long rank(final int n, final int k, final int[] a) {
+        return rank(n, k, a, null);
+    }
+
+    /**
+     * Compute the index of a permutation in P(n, k), and optionally its (truncated) factoradic. The index is only meaningful if it fits in
+     * a <code>long</code>.
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     * @param a
+     *            the permutation
+     * @param f
+     *            if not <code>null</code>, the array to hold the factoradic digits
+     * @return the index of the permutation
+     */
+    static long rank(final int n, final int k, final int[] a, final int[] f) {
+        if (n <= Long.SIZE) {
+            return rankByBitmask(n, k, a, f);
+        }
+        return rankByFenwickTree(n, k, a, f);
+    }
+
+    /**
+     * Keeps the elements already taken in a bitmask, so counting those less than <code>a[i]</code> is a single
+     * {@link Long#bitCount(long)}.
+     *
+     * @param n
+     *            the number of elements, at most 64
+     * @param k
+     *            taken k at a time
+     * @param a
+     *            the permutation
+     * @param f
+     *            if not <code>null</code>, the array to hold the factoradic digits
+     * @return the index of the permutation
+     */
+    private static long rankByBitmask(final int n, final int k, final int[] a, final int[] f) {
+        long taken = 0;
+        long l = 0;
+        for (int i = 0; i < k; ++i) {
+            final int v = a[i];
+            validate(n, a, i, v);
+            final long bit = 1L << v;
+            if ((taken & bit) != 0) {
+                throw new IllegalArgumentException("Duplicate element " + v + " at index " + i + "!");
+            }
+            final int d = v - Long.bitCount(taken & (bit - 1));
+            if (f != null) {
+                f[i] = d;
+            }
+            l = l * (n - i) + d;
+            taken |= bit;
+        }
+        return l;
+    }
+
+    /**
+     * Keeps the elements already taken in a Fenwick (binary indexed) tree, so counting those less than <code>a[i]</code> takes O(log n).
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     * @param a
+     *            the permutation
+     * @param f
+     *            if not <code>null</code>, the array to hold the factoradic digits
+     * @return the index of the permutation
+     * @see <a href="http://en.wikipedia.org/wiki/Fenwick_tree">http://en.wikipedia.org/wiki/Fenwick_tree</a>
      */
-    private void applyFactoradic(final int[] f, final int[] a) {
-        for (int i = 0; i < f.length; ++i) {
-            final int skip = f[i];
-            if (skip == 0) {
-                f[i] = a[i];
-            } else {
-                f[i] = a[i + skip];
-                // shift right
-                System.arraycopy(a, i, a, i + 1, skip);
+    private static long rankByFenwickTree(final int n, final int k, final int[] a, final int[] f) {
+        final int[] tree = new int[n + 1];
+        long l = 0;
+        for (int i = 0; i < k; ++i) {
+            final int v = a[i];
+            validate(n, a, i, v);
+            // number of elements taken that are less than v, and less than or equal to v
+            int less = 0;
+            for (int j = v; j > 0; j -= j & -j) {
+                less += tree[j];
             }
+            int lessOrEqual = 0;
+            for (int j = v + 1; j > 0; j -= j & -j) {
+                lessOrEqual += tree[j];
+            }
+            if (lessOrEqual != less) {
+                throw new IllegalArgumentException("Duplicate element " + v + " at index " + i + "!");
+            }
+            if (f != null) {
+                f[i] = v - less;
+            }
+            l = l * (n - i) + v - less;
+            for (int j = v + 1; j <= n; j += j & -j) {
+                ++tree[j];
+            }
+        }
+        return l;
+    }
+
+    /**
+     * @param n
+     *            the number of elements
+     * @param a
+     *            the permutation
+     * @param i
+     *            the index of the element
+     * @param v
+     *            the element, <code>a[i]</code>
+     */
+    private static void validate(final int n, final int[] a, final int i, final int v) {
+        if (v < 0 || v >= n) {
+            throw new IllegalArgumentException("Element " + v + " at index " + i + " of " + Arrays.toString(a) + " not in 0.." + (n - 1)
+                    + "!");
         }
     }
 
@@ -105,6 +297,22 @@ public class FactoradicPnkGenerator extends Generator.Of<int[]> {
      *            long
      */
     public final void factoradicNK(final int[] f, final long l) {
+        factoradicNK(n, k, f, l);
+    }
+
+    /**
+     * Truncated factoradic. Only computes up to <code>k</code> digits.
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     * @param f
+     *            the array to hold the factoradic
+     * @param l
+     *            long
+     */
+    static void factoradicNK(final int n, final int k, final int[] f, final long l) {
         long m = l;
         int z = 1;
         int j = k - 1;
@@ -114,7 +322,6 @@ public class FactoradicPnkGenerator extends Generator.Of<int[]> {
             f[j] = (int) (m % z);
             --j;
         }
-        System.out.println(String.format("factoradic(%d,%d)[%d]: %s", n, k, l, Arrays.toString(f)));
     }
 
     /**
@@ -127,8 +334,6 @@ public class FactoradicPnkGenerator extends Generator.Of<int[]> {
 
         private final int[] f = new int[k];
 
-        private final int[] a = new int[n];
-
         private long index;
 
         /**
@@ -147,8 +352,7 @@ public class FactoradicPnkGenerator extends Generator.Of<int[]> {
          */
         public final int[] next() {
             factoradicNK(f, index);
-            System.arraycopy(identity, 0, a, 0, n);
-            applyFactoradic(f, a);
+            applyFactoradic(f, k);
             ++index;
             return f;
         }
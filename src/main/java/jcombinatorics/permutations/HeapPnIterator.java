@@ -0,0 +1,172 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.permutations;
+
+import java.util.Iterator;
+
+import jcombinatorics.IntArrayVisitor;
+import jcombinatorics.util.ArrayUtils;
+import jcombinatorics.util.MathUtils;
+import jcombinatorics.util.ReadOnlyIterator;
+
+/**
+ * <p>
+ * An iterator that enumerates all permutations <code>P(n)</code> using (the non-recursive form of) Heap's algorithm. Each step is a
+ * single swap, with no suffix to reverse, so this is the fastest way to visit every permutation when the order doesn't matter. The
+ * order is <em>not</em> lexicographic, and the permutations can't be addressed by index.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see <a href="http://en.wikipedia.org/wiki/Heap%27s_algorithm">Heap's algorithm</a>
+ * @see SepaPnIterator
+ */
+public class HeapPnIterator extends ReadOnlyIterator<int[]> {
+
+    private final int n;
+
+    private final int[] a;
+
+    /**
+     * The loop counters of the recursive algorithm.
+     */
+    private final int[] c;
+
+    private int i = 1;
+
+    private boolean pending = true;
+
+    private long remaining;
+
+    /**
+     * @param n
+     *            the number of elements to permute, <code>0 &lt;= n &lt;= 20</code>
+     */
+    public HeapPnIterator(final int n) {
+        if (n < 0 || n > FactoradicPnGenerator.MAX_N) {
+            throw new IllegalArgumentException("0 <= n <= " + FactoradicPnGenerator.MAX_N + "!");
+        }
+        this.n = n;
+        a = ArrayUtils.identityPermutation(n);
+        c = new int[n];
+        remaining = MathUtils.factorial(n);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#hasNext()
+     */
+    public final boolean hasNext() {
+        return remaining > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#next()
+     */
+    public final int[] next() {
+        if (pending) {
+            pending = false;
+        } else {
+            computeNext();
+        }
+        --remaining;
+        return a;
+    }
+
+    /**
+     * Visits each of the remaining permutations in turn, in a tight loop without going through {@link #hasNext()} and {@link #next()}.
+     * The same array is passed to the visitor every time.
+     *
+     * @param visitor
+     *            the {@link IntArrayVisitor} to call for every permutation
+     * @return <code>true</code> if all remaining permutations were visited, <code>false</code> if the visitor stopped early
+     */
+    public final boolean visitAll(final IntArrayVisitor visitor) {
+        if (pending && remaining > 0) {
+            pending = false;
+            --remaining;
+            if (!visitor.visit(a)) {
+                return false;
+            }
+        }
+        while (remaining > 0) {
+            computeNext();
+            --remaining;
+            if (!visitor.visit(a)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resume the loop where the last swap left off. Termination is taken care of by counting the permutations.
+     */
+    private void computeNext() {
+        while (c[i] >= i) {
+            c[i] = 0;
+            ++i;
+        }
+        final int j;
+        if ((i & 1) == 0) {
+            j = 0;
+        } else {
+            j = c[i];
+        }
+        final int t = a[j];
+        a[j] = a[i];
+        a[i] = t;
+        ++c[i];
+        i = 1;
+    }
+
+    /**
+     *
+     * @author Alistair A. Israel
+     */
+    public static class Factory implements Iterable<int[]> {
+
+        private final int n;
+
+        /**
+         * @param n
+         *            the number of elements to permute
+         */
+        public Factory(final int n) {
+            this.n = n;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.lang.Iterable#iterator()
+         */
+        public final Iterator<int[]> iterator() {
+            return new HeapPnIterator(n);
+        }
+
+        /**
+         * Visits every permutation using {@link HeapPnIterator#visitAll(IntArrayVisitor)}.
+         *
+         * @param visitor
+         *            the {@link IntArrayVisitor} to call for every permutation
+         * @return <code>true</code> if all permutations were visited, <code>false</code> if the visitor stopped early
+         */
+        public final boolean visitAll(final IntArrayVisitor visitor) {
+            return new HeapPnIterator(n).visitAll(visitor);
+        }
+
+    }
+
+}
@@ -0,0 +1,165 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.permutations;
+
+import jcombinatorics.IntArrayVisitor;
+import jcombinatorics.util.ReadOnlyIterator;
+
+/**
+ * <p>
+ * An iterator that enumerates the distinct permutations of a multiset of <code>int</code> values in lexicographic order. Same as
+ * {@link SepaPnIterator}, except that it permutes the values themselves instead of indices, so when a value is repeated, ascents are
+ * strict and only distinct arrangements are generated.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see MultisetPermutationsGenerator
+ */
+public class MultisetPermutationIterator extends ReadOnlyIterator<int[]> {
+
+    private final int n;
+
+    private final int[] a;
+
+    private boolean pending = true;
+
+    private long remaining;
+
+    /**
+     * @param elements
+     *            the values to permute, which may contain duplicates. The array is not modified.
+     */
+    public MultisetPermutationIterator(final int... elements) {
+        this(new MultisetPermutationsGenerator(elements));
+    }
+
+    /**
+     * @param generator
+     *            the {@link MultisetPermutationsGenerator} whose permutations to enumerate
+     */
+    public MultisetPermutationIterator(final MultisetPermutationsGenerator generator) {
+        this(generator, 0, generator.count());
+    }
+
+    /**
+     * Enumerates the permutations <code>fromInclusive</code> (inclusive) up to <code>toExclusive</code> (exclusive). The first
+     * permutation is computed directly using the {@link MultisetPermutationsGenerator}.
+     *
+     * @param generator
+     *            the {@link MultisetPermutationsGenerator} whose permutations to enumerate
+     * @param fromInclusive
+     *            the index of the first permutation to return
+     * @param toExclusive
+     *            the index of the permutation to stop at
+     */
+    public MultisetPermutationIterator(final MultisetPermutationsGenerator generator, final long fromInclusive, final long toExclusive) {
+        if (fromInclusive < 0 || fromInclusive > toExclusive || toExclusive > generator.count()) {
+            throw new IllegalArgumentException("0 <= " + fromInclusive + " <= " + toExclusive + " <= " + generator.count() + "!");
+        }
+        n = generator.size();
+        remaining = toExclusive - fromInclusive;
+        if (fromInclusive > 0 && remaining > 0) {
+            a = generator.get(fromInclusive);
+        } else {
+            a = generator.sorted();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#hasNext()
+     */
+    public final boolean hasNext() {
+        return remaining > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#next()
+     */
+    public final int[] next() {
+        if (pending) {
+            pending = false;
+        } else {
+            computeNext();
+        }
+        --remaining;
+        return a;
+    }
+
+    /**
+     * Visits each of the remaining permutations in turn, in a tight loop without going through {@link #hasNext()} and {@link #next()}.
+     * The same array is passed to the visitor every time.
+     *
+     * @param visitor
+     *            the {@link IntArrayVisitor} to call for every permutation
+     * @return <code>true</code> if all remaining permutations were visited, <code>false</code> if the visitor stopped early
+     */
+    public final boolean visitAll(final IntArrayVisitor visitor) {
+        if (pending && remaining > 0) {
+            pending = false;
+            --remaining;
+            if (!visitor.visit(a)) {
+                return false;
+            }
+        }
+        while (remaining > 0) {
+            computeNext();
+            --remaining;
+            if (!visitor.visit(a)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Termination is taken care of by counting the permutations.
+     */
+    private void computeNext() {
+        // find rightmost (strict) ascent, or i where a[i + 1] > a[i]
+        int i = n - 2;
+        while (a[i] >= a[i + 1]) {
+            --i;
+        }
+        // find smallest (rightmost) a[j] where a[j] > a[i]
+        int j = n - 1;
+        while (a[i] >= a[j]) {
+            --j;
+        }
+        swap(i, j);
+
+        // reverse to right of i (sort to ascending order)
+        i++;
+        j = n - 1;
+        while (i < j) {
+            swap(i, j);
+            i++;
+            j--;
+        }
+    }
+
+    /**
+     * @param x
+     *            first position
+     * @param y
+     *            second position
+     */
+    private void swap(final int x, final int y) {
+        final int t = a[x];
+        a[x] = a[y];
+        a[y] = t;
+    }
+
+}
@@ -0,0 +1,238 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.permutations;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import jcombinatorics.Generator;
+import jcombinatorics.IntArrayGenerator;
+import jcombinatorics.util.MathUtils;
+
+/**
+ * <p>
+ * Generates the distinct permutations of a multiset of <code>int</code> values, that is, an array that may contain duplicates, in
+ * lexicographic order. Each distinct arrangement is generated once, so there are <code>n! / m<sub>0</sub>! m<sub>1</sub>! ...</code>
+ * of them, where <code>m<sub>j</sub></code> is the number of times the <i>j</i>-th distinct value occurs.
+ * </p>
+ * <p>
+ * To compute the <i>l</i>-th permutation directly, each position is filled in turn: the permutations that start with the <i>j</i>-th
+ * distinct value (of those left) form a block of <code>R * m<sub>j</sub> / len</code> permutations, where <code>R</code> is the number
+ * of permutations of the <code>len</code> values left. Only <code>int</code> comparisons are ever made.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see MultisetPermutationIterator
+ */
+public class MultisetPermutationsGenerator extends Generator.Of<int[]> implements IntArrayGenerator {
+
+    private final int n;
+
+    /**
+     * The distinct values, in ascending order.
+     */
+    private final int[] values;
+
+    /**
+     * The number of times each distinct value occurs.
+     */
+    private final int[] multiplicities;
+
+    private final long count;
+
+    /**
+     * @param elements
+     *            the values to permute, which may contain duplicates. The array is not modified.
+     */
+    public MultisetPermutationsGenerator(final int... elements) {
+        final int[] sorted = elements.clone();
+        Arrays.sort(sorted);
+        n = sorted.length;
+        int d = 0;
+        for (int i = 0; i < n; ++i) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                ++d;
+            }
+        }
+        values = new int[d];
+        multiplicities = new int[d];
+        int j = -1;
+        for (int i = 0; i < n; ++i) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                ++j;
+                values[j] = sorted[i];
+            }
+            ++multiplicities[j];
+        }
+        count = MathUtils.multinomial(multiplicities);
+    }
+
+    /**
+     * @return the number of values being permuted
+     */
+    public final int size() {
+        return n;
+    }
+
+    /**
+     * @return the total number of distinct permutations
+     * @see jcombinatorics.Generator#count()
+     */
+    public final long count() {
+        return count;
+    }
+
+    /**
+     * Returns a {@link MultisetPermutationIterator} that computes the <i>fromInclusive</i>-th permutation directly, then steps to each
+     * subsequent one.
+     *
+     * @param fromInclusive
+     *            the index of the first permutation to return
+     * @param toExclusive
+     *            the index of the permutation to stop at
+     * @return {@link Iterator}&lt;int[]&gt;
+     * @see jcombinatorics.Generator.Of#iterator(long, long)
+     */
+    public final Iterator<int[]> iterator(final long fromInclusive, final long toExclusive) {
+        return new MultisetPermutationIterator(this, fromInclusive, toExclusive);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see jcombinatorics.Generator.Of#hasCheapSuccessor()
+     */
+    protected final boolean hasCheapSuccessor() {
+        return true;
+    }
+
+    /**
+     * Retrieve the <i>l</i>-th distinct permutation.
+     *
+     * @param l
+     *            long
+     * @return int[]
+     */
+    public final int[] get(final long l) {
+        return get(l, new int[n]);
+    }
+
+    /**
+     * Retrieve the <i>l</i>-th distinct permutation into the given array.
+     *
+     * @param l
+     *            long
+     * @param a
+     *            the array to hold the permutation, of length at least <code>n</code>
+     * @return <code>a</code>
+     */
+    public final int[] get(final long l, final int[] a) {
+        if (l < 0 || l >= count) {
+            throw new IllegalArgumentException("0 <= " + l + " < " + count + "!");
+        }
+        long r = l;
+        long c = count;
+        for (int p = 0, len = n; len > 0; ++p, --len) {
+            int j = 0;
+            long block = block(c, multiplicities[j] - placed(a, p, values[j]), len);
+            while (r >= block) {
+                r -= block;
+                ++j;
+                block = block(c, multiplicities[j] - placed(a, p, values[j]), len);
+            }
+            a[p] = values[j];
+            c = block;
+        }
+        return a;
+    }
+
+    /**
+     * Compute the index of the given permutation, the inverse of {@link #get(long)}.
+     *
+     * @param a
+     *            a permutation of the values
+     * @return the index <code>l</code> such that <code>get(l)</code> is equal to <code>a</code>
+     */
+    public final long rank(final int[] a) {
+        long r = 0;
+        long c = count;
+        for (int p = 0, len = n; len > 0; ++p, --len) {
+            final int j = Arrays.binarySearch(values, a[p]);
+            int left = 0;
+            if (j >= 0) {
+                left = multiplicities[j] - placed(a, p, a[p]);
+            }
+            if (left <= 0) {
+                throw new IllegalArgumentException("Element " + a[p] + " at index " + p + " is not one of the values left!");
+            }
+            // the values left are a[p..n-1], so the permutations before this one start with those smaller than a[p]
+            int smaller = 0;
+            for (int q = p + 1; q < n; ++q) {
+                if (a[q] < a[p]) {
+                    ++smaller;
+                }
+            }
+            r += block(c, smaller, len);
+            c = block(c, left, len);
+        }
+        return r;
+    }
+
+    /**
+     * Counts the copies of a value already placed, so the multiplicities never need to be copied and decremented.
+     *
+     * @param a
+     *            a (partial) permutation
+     * @param p
+     *            the number of values placed, in <code>a[0..p-1]</code>
+     * @param v
+     *            a value
+     * @return the number of times <code>v</code> occurs in <code>a[0..p-1]</code>
+     */
+    private static int placed(final int[] a, final int p, final int v) {
+        int placed = 0;
+        for (int q = 0; q < p; ++q) {
+            if (a[q] == v) {
+                ++placed;
+            }
+        }
+        return placed;
+    }
+
+    /**
+     * @param c
+     *            the number of permutations of the <code>len</code> values left
+     * @param mj
+     *            how many of a particular value are left
+     * @param len
+     *            the number of values left
+     * @return the number of those permutations that start with that value, <code>c * mj / len</code>, without overflowing
+     */
+    private static long block(final long c, final int mj, final int len) {
+        final long g = MathUtils.gcd(mj, len);
+        return c / (len / g) * (mj / g);
+    }
+
+    /**
+     * @return the values being permuted, in ascending order. Used by {@link MultisetPermutationIterator} for the first permutation.
+     */
+    final int[] sorted() {
+        final int[] a = new int[n];
+        for (int j = 0, p = 0; j < values.length; ++j) {
+            for (int i = 0; i < multiplicities[j]; ++i, ++p) {
+                a[p] = values[j];
+            }
+        }
+        return a;
+    }
+
+}
@@ -0,0 +1,559 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.permutations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jcombinatorics.IntArrayVisitor;
+import jcombinatorics.ParallelIntArrays;
+
+/**
+ * <p>
+ * A depth-first search over the permutations of <code>n</code> elements taken <code>k</code> at a time, in lexicographic order, that
+ * consults a {@link PrefixFilter} on each partial permutation as it's built up, and skips every permutation starting with a prefix the
+ * filter rejects. So when constraints can be checked on a prefix, only the permutations that get through, and the prefixes along the
+ * way, cost anything, rather than all <code>P(n, k)</code> of them.
+ * </p>
+ * <p>
+ * The search can also run in parallel, on a {@link ForkJoinPool}, with a task for each prefix up to the smallest length that gives
+ * about {@value jcombinatorics.ParallelIntArrays#CHUNKS_PER_THREAD} of them per thread. Given a {@link PrefixVisitor.Factory}, each
+ * part of the search gets a {@link PrefixVisitor} of its own, which can carry state from one prefix to the next.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see Permutations#search(int, int)
+ */
+public class PermutationSearch {
+
+    /**
+     * Decides whether a partial permutation is worth completing.
+     */
+    public interface PrefixFilter {
+
+        /**
+         * @param prefix
+         *            the partial permutation, in <code>prefix[0..length-1]</code>, of which only <code>prefix[length-1]</code> is new since
+         *            the filter last accepted the prefix before it. Must not be modified.
+         * @param length
+         *            the length of the prefix, <code>1 &lt;= length &lt; k</code>
+         * @return <code>true</code> to go on to the permutations starting with this prefix, <code>false</code> to skip them all
+         */
+        boolean accept(final int[] prefix, final int length);
+
+    }
+
+    /**
+     * A {@link PrefixFilter} that accepts everything.
+     */
+    public static final PrefixFilter ACCEPT_ALL = new PrefixFilter() {
+        public boolean accept(final int[] prefix, final int length) {
+            return true;
+        }
+    };
+
+    /**
+     * <p>
+     * A {@link PrefixFilter} and an {@link IntArrayVisitor} in one, for a part of a search that runs on one thread, which can carry
+     * state from each prefix it accepts on to its extensions, such as the cost of the prefix so far.
+     * </p>
+     * <p>
+     * A new one is first shown the prefix its part of the search starts from, one element at a time, and after that only extensions of
+     * prefixes it has accepted, depth first. So when it's asked about <code>prefix[0..length-1]</code>, the last prefix of length
+     * <code>length - 1</code> it accepted was <code>prefix[0..length-2]</code>, and each permutation it visits extends the last prefix of
+     * length <code>k - 1</code> it accepted.
+     * </p>
+     */
+    public interface PrefixVisitor extends PrefixFilter, IntArrayVisitor {
+
+        /**
+         * Makes a {@link PrefixVisitor} for each part of a search.
+         */
+        interface Factory {
+
+            /**
+             * @return a new {@link PrefixVisitor}, which will only be called from one thread. When searching in parallel, this is
+             *         called concurrently from several threads.
+             */
+            PrefixVisitor newVisitor();
+
+        }
+
+    }
+
+    private final int n;
+
+    private final int k;
+
+    /**
+     * <code>subtree[length]</code> is the number of permutations starting with any one prefix of that length, or
+     * {@link Long#MAX_VALUE} if that's too many to count.
+     */
+    private final long[] subtree;
+
+    /**
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     */
+    public PermutationSearch(final int n, final int k) {
+        if (k < 0 || k > n) {
+            throw new IllegalArgumentException("0 <= k <= " + n + "!");
+        }
+        this.n = n;
+        this.k = k;
+        subtree = new long[k + 1];
+        subtree[k] = 1;
+        for (int length = k - 1; length >= 0; --length) {
+            final long m = n - length;
+            if (subtree[length + 1] > Long.MAX_VALUE / m) {
+                subtree[length] = Long.MAX_VALUE;
+            } else {
+                subtree[length] = subtree[length + 1] * m;
+            }
+        }
+    }
+
+    /**
+     * @return the number of elements
+     */
+    public final int n() {
+        return n;
+    }
+
+    /**
+     * @return the number of elements taken at a time
+     */
+    public final int k() {
+        return k;
+    }
+
+    /**
+     * Searches the permutations in lexicographic order, in this thread.
+     *
+     * @param filter
+     *            the {@link PrefixFilter} to consult on each prefix
+     * @param visitor
+     *            the {@link IntArrayVisitor} to call for each permutation that gets through, which can return <code>false</code> to stop
+     *            the search
+     * @return the {@link Result}
+     */
+    public final Result search(final PrefixFilter filter, final IntArrayVisitor visitor) {
+        return search(new Stateless(filter, visitor));
+    }
+
+    /**
+     * Searches the permutations in lexicographic order, in this thread, with a single {@link PrefixVisitor}.
+     *
+     * @param visitors
+     *            makes the {@link PrefixVisitor} to consult on each prefix and call for each permutation that gets through
+     * @return the {@link Result}
+     */
+    public final Result search(final PrefixVisitor.Factory visitors) {
+        final Walker walker = new Walker(visitors.newVisitor(), new AtomicBoolean(), new int[k], 0);
+        walker.descend(0);
+        return new Result(walker.visited, walker.pruned, walker.completed);
+    }
+
+    /**
+     * Searches the permutations in parallel in the common {@link ForkJoinPool}.
+     *
+     * @param filter
+     *            the {@link PrefixFilter} to consult on each prefix, which will be called concurrently from several threads, and may be
+     *            asked again about a prefix it accepted when another thread picks up the search from there
+     * @param visitor
+     *            the {@link IntArrayVisitor} to call for each permutation that gets through, which will be called concurrently from several
+     *            threads. Returning <code>false</code> stops all threads, though other threads may still visit a few more permutations.
+     * @return the {@link Result}
+     */
+    public final Result parallelSearch(final PrefixFilter filter, final IntArrayVisitor visitor) {
+        return parallelSearch(ForkJoinPool.commonPool(), new Stateless(filter, visitor));
+    }
+
+    /**
+     * Searches the permutations in parallel in the common {@link ForkJoinPool}, with a {@link PrefixVisitor} for each part of the search.
+     *
+     * @param visitors
+     *            makes a {@link PrefixVisitor} for each part of the search, to consult on each prefix and call for each permutation that
+     *            gets through. Returning <code>false</code> from any of them stops all threads.
+     * @return the {@link Result}
+     */
+    public final Result parallelSearch(final PrefixVisitor.Factory visitors) {
+        return parallelSearch(ForkJoinPool.commonPool(), visitors);
+    }
+
+    /**
+     * Searches the permutations in parallel in the given {@link ForkJoinPool}.
+     *
+     * @param pool
+     *            the {@link ForkJoinPool} to use
+     * @param filter
+     *            the {@link PrefixFilter} to consult on each prefix, which will be called concurrently from several threads
+     * @param visitor
+     *            the {@link IntArrayVisitor} to call for each permutation that gets through, which will be called concurrently from several
+     *            threads
+     * @return the {@link Result}
+     * @see #parallelSearch(PrefixFilter, IntArrayVisitor)
+     */
+    public final Result parallelSearch(final ForkJoinPool pool, final PrefixFilter filter, final IntArrayVisitor visitor) {
+        return parallelSearch(pool, new Stateless(filter, visitor));
+    }
+
+    /**
+     * Searches the permutations in parallel in the given {@link ForkJoinPool}, with a {@link PrefixVisitor} for each part of the search.
+     *
+     * @param pool
+     *            the {@link ForkJoinPool} to use
+     * @param visitors
+     *            makes a {@link PrefixVisitor} for each part of the search
+     * @return the {@link Result}
+     * @see #parallelSearch(PrefixVisitor.Factory)
+     */
+    public final Result parallelSearch(final ForkJoinPool pool, final PrefixVisitor.Factory visitors) {
+        final long tasks = (long) pool.getParallelism() * ParallelIntArrays.CHUNKS_PER_THREAD;
+        int splitDepth = 0;
+        long prefixes = 1;
+        while (splitDepth < k && prefixes < tasks) {
+            prefixes *= n - splitDepth;
+            ++splitDepth;
+        }
+        final SearchTask task = new SearchTask(visitors, new AtomicBoolean(), new int[k], 0, splitDepth);
+        return pool.invoke(task);
+    }
+
+    /**
+     * Shows a new {@link PrefixVisitor} the prefix its part of the search starts from, up to a length of <code>k - 1</code>.
+     *
+     * @param visitor
+     *            the {@link PrefixVisitor}
+     * @param prefix
+     *            the prefix
+     * @param length
+     *            its length
+     * @return <code>false</code> if the visitor rejects any of it
+     */
+    private boolean replay(final PrefixVisitor visitor, final int[] prefix, final int length) {
+        for (int i = 1; i <= length && i < k; ++i) {
+            if (!visitor.accept(prefix, i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param x
+     *            a count
+     * @param y
+     *            another count
+     * @return their sum, or {@link Long#MAX_VALUE} if that's too many to count
+     */
+    private static long add(final long x, final long y) {
+        final long sum = x + y;
+        if (sum < 0) {
+            return Long.MAX_VALUE;
+        }
+        return sum;
+    }
+
+    /**
+     * What a search found: the number of permutations it visited, and the number it skipped. Counts too large for a <code>long</code>
+     * are given as {@link Long#MAX_VALUE}.
+     */
+    public static final class Result {
+
+        private final long visited;
+
+        private final long pruned;
+
+        private final boolean completed;
+
+        /**
+         * @param visited
+         *            the number of permutations passed to the visitor
+         * @param pruned
+         *            the number of permutations skipped because the filter rejected one of their prefixes
+         * @param completed
+         *            <code>false</code> if the visitor stopped the search
+         */
+        Result(final long visited, final long pruned, final boolean completed) {
+            this.visited = visited;
+            this.pruned = pruned;
+            this.completed = completed;
+        }
+
+        /**
+         * @return the number of permutations passed to the visitor
+         */
+        public long visited() {
+            return visited;
+        }
+
+        /**
+         * @return the number of permutations skipped because the filter rejected one of their prefixes
+         */
+        public long pruned() {
+            return pruned;
+        }
+
+        /**
+         * @return <code>true</code> if the whole search space was either visited or pruned, <code>false</code> if the visitor stopped the
+         *         search
+         */
+        public boolean isCompleted() {
+            return completed;
+        }
+
+        /**
+         * @param other
+         *            the result of searching another part of the space
+         * @return the result of searching both
+         */
+        Result plus(final Result other) {
+            return new Result(add(visited, other.visited), add(pruned, other.pruned), completed && other.completed);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString() {
+            return "visited " + visited + ", pruned " + pruned + ", completed " + completed;
+        }
+
+    }
+
+    /**
+     * Searches the permutations starting with a given prefix, depth first, using one array throughout.
+     */
+    private final class Walker {
+
+        private final PrefixVisitor visitor;
+
+        private final AtomicBoolean stopped;
+
+        private final int[] a;
+
+        private final boolean[] used = new boolean[n];
+
+        private long visited;
+
+        private long pruned;
+
+        private boolean completed = true;
+
+        /**
+         * @param visitor
+         *            the {@link PrefixVisitor}, which has already accepted the prefix
+         * @param stopped
+         *            set when the visitor stops the search
+         * @param a
+         *            holds the prefix to start with, and is then used for every permutation
+         * @param length
+         *            the length of the prefix
+         */
+        Walker(final PrefixVisitor visitor, final AtomicBoolean stopped, final int[] a, final int length) {
+            this.visitor = visitor;
+            this.stopped = stopped;
+            this.a = a;
+            for (int i = 0; i < length; ++i) {
+                used[a[i]] = true;
+            }
+        }
+
+        /**
+         * @param length
+         *            the length of the prefix in <code>a</code>, which has already been accepted
+         * @return <code>false</code> if the search was stopped
+         */
+        boolean descend(final int length) {
+            if (length == k) {
+                ++visited;
+                if (!visitor.visit(a) || stopped.get()) {
+                    stopped.set(true);
+                    completed = false;
+                    return false;
+                }
+                return true;
+            }
+            for (int v = 0; v < n; ++v) {
+                if (!used[v]) {
+                    a[length] = v;
+                    if (length + 1 < k && !visitor.accept(a, length + 1)) {
+                        pruned = add(pruned, subtree[length + 1]);
+                    } else {
+                        used[v] = true;
+                        final boolean go = descend(length + 1);
+                        used[v] = false;
+                        if (!go) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+
+    }
+
+    /**
+     * Searches the permutations starting with a given prefix, with a subtask for each accepted extension of it until it's long enough.
+     */
+    private final class SearchTask extends RecursiveTask<Result> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final PrefixVisitor.Factory visitors;
+
+        private final AtomicBoolean stopped;
+
+        private final int[] prefix;
+
+        private final int length;
+
+        private final int splitDepth;
+
+        /**
+         * @param visitors
+         *            makes the {@link PrefixVisitor} for this task
+         * @param stopped
+         *            set when the visitor stops the search
+         * @param prefix
+         *            the prefix, in an array of length <code>k</code> that this task owns
+         * @param length
+         *            the length of the prefix, which has already been accepted
+         * @param splitDepth
+         *            the length of prefix to stop splitting at
+         */
+        SearchTask(final PrefixVisitor.Factory visitors, final AtomicBoolean stopped, final int[] prefix, final int length,
+                final int splitDepth) {
+            this.visitors = visitors;
+            this.stopped = stopped;
+            this.prefix = prefix;
+            this.length = length;
+            this.splitDepth = splitDepth;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.concurrent.RecursiveTask#compute()
+         */
+        @Override
+        protected Result compute() {
+            if (stopped.get()) {
+                return new Result(0, 0, false);
+            }
+            final PrefixVisitor visitor = visitors.newVisitor();
+            if (!replay(visitor, prefix, length)) {
+                // the prefix was accepted, but since then the visitor has changed its mind
+                return new Result(0, subtree[length], true);
+            }
+            if (length >= splitDepth) {
+                final Walker walker = new Walker(visitor, stopped, prefix, length);
+                walker.descend(length);
+                return new Result(walker.visited, walker.pruned, walker.completed);
+            }
+            return split(visitor);
+        }
+
+        /**
+         * @param visitor
+         *            the {@link PrefixVisitor}, which has already accepted the prefix
+         * @return the {@link Result} of a subtask for each accepted extension of the prefix
+         */
+        private Result split(final PrefixVisitor visitor) {
+            final boolean[] used = new boolean[n];
+            for (int i = 0; i < length; ++i) {
+                used[prefix[i]] = true;
+            }
+            long pruned = 0;
+            final List<SearchTask> subtasks = new ArrayList<SearchTask>();
+            for (int v = 0; v < n; ++v) {
+                if (!used[v]) {
+                    final int[] a = prefix.clone();
+                    a[length] = v;
+                    if (length + 1 < k && !visitor.accept(a, length + 1)) {
+                        pruned = add(pruned, subtree[length + 1]);
+                    } else {
+                        subtasks.add(new SearchTask(visitors, stopped, a, length + 1, splitDepth));
+                    }
+                }
+            }
+            Result result = new Result(0, pruned, true);
+            for (final SearchTask subtask : invokeAll(subtasks)) {
+                result = result.plus(subtask.join());
+            }
+            if (stopped.get()) {
+                return new Result(result.visited, result.pruned, false);
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * A {@link PrefixVisitor} made of a {@link PrefixFilter} and an {@link IntArrayVisitor}, which is shared by every part of the search.
+     */
+    private static final class Stateless implements PrefixVisitor, PrefixVisitor.Factory {
+
+        private final PrefixFilter filter;
+
+        private final IntArrayVisitor visitor;
+
+        /**
+         * @param filter
+         *            the {@link PrefixFilter}
+         * @param visitor
+         *            the {@link IntArrayVisitor}
+         */
+        Stateless(final PrefixFilter filter, final IntArrayVisitor visitor) {
+            this.filter = filter;
+            this.visitor = visitor;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see jcombinatorics.permutations.PermutationSearch.PrefixFilter#accept(int[], int)
+         */
+        public boolean accept(final int[] prefix, final int length) {
+            return filter.accept(prefix, length);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see jcombinatorics.IntArrayVisitor#visit(int[])
+         */
+        public boolean visit(final int[] a) {
+            return visitor.visit(a);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see jcombinatorics.permutations.PermutationSearch.PrefixVisitor.Factory#newVisitor()
+         */
+        public PrefixVisitor newVisitor() {
+            return this;
+        }
+
+    }
+
+}
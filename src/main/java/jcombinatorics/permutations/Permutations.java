@@ -12,17 +12,30 @@
 package jcombinatorics.permutations;
 
 import java.util.Iterator;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
 
 import jcombinatorics.Generator;
+import jcombinatorics.IntArrayGenerator;
+import jcombinatorics.IntArraySampler;
+import jcombinatorics.IntArrayVisitable;
+import jcombinatorics.IntArrayVisitor;
+import jcombinatorics.ParallelIntArrays;
+import jcombinatorics.RandomSamples;
 import jcombinatorics.util.ArrayUtils;
 import jcombinatorics.util.IntArrayIteratorWrapper;
+import jcombinatorics.util.RandomSampling;
 import jcombinatorics.util.ReadOnlyIterator;
 
 /**
  * @author Alistair A. Israel
  * @since 0.1
  */
+// CHECKSTYLE:OFF
 public final class Permutations {
+    // CHECKSTYLE:ON
 
     /**
      * Utility classes should not have a public or default constructor.
@@ -57,10 +70,117 @@ public final class Permutations {
      *            the number of elements
      * @param k
      *            taken k at a time
-     * @return {@link Permutations.GeneratorImpl}
+     * @return {@link Permutations.Permuter}
      */
-    public static Generator<int[]> permute(final int n, final int k) {
-        return new GeneratorImpl(n, k);
+    public static Permuter permute(final int n, final int k) {
+        return new Permuter(n, k);
+    }
+
+    /**
+     * Like {@link #permute(int, int)}, but addressed by a {@link java.math.BigInteger} index, for when <code>P(n, k)</code> is too many
+     * to count in a <code>long</code>.
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     * @return {@link BigFactoradicPnkGenerator}
+     */
+    public static BigFactoradicPnkGenerator permuteBig(final int n, final int k) {
+        return new BigFactoradicPnkGenerator(n, k);
+    }
+
+    /**
+     * A depth-first search of the permutations of <code>n</code> elements taken <code>k</code> at a time, that can skip every
+     * permutation starting with a prefix that's already no good. Unlike {@link #permute(int, int)}, <code>n</code> isn't limited by
+     * what a <code>long</code> can count.
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     * @return {@link PermutationSearch}
+     */
+    public static PermutationSearch search(final int n, final int k) {
+        return new PermutationSearch(n, k);
+    }
+
+    /**
+     * Finds a permutation of <code>n</code> elements taken <code>k</code> at a time with the least cost, by branch and bound.
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     * @param costs
+     *            the {@link BranchAndBound.CostFunction}
+     * @return {@link BranchAndBound}
+     */
+    public static BranchAndBound branchAndBound(final int n, final int k, final BranchAndBound.CostFunction costs) {
+        return new BranchAndBound(n, k, costs);
+    }
+
+    /**
+     * Draws uniformly random permutations of <code>n</code> elements taken <code>k</code> at a time, without going through their
+     * indices, so <code>n</code> can be as large as an array allows. <code>P(n, n)</code> uses the Fisher-Yates shuffle directly. Other
+     * <code>k</code> draw a random <code>k</code>-subset, then shuffle it, which gives the same distribution as stopping a
+     * Fisher-Yates shuffle after <code>k</code> steps, without an <code>n</code>-element scratch array.
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     * @return an {@link IntArraySampler}
+     * @see RandomSamples
+     */
+    public static IntArraySampler sampler(final int n, final int k) {
+        if (k < 0 || k > n) {
+            throw new IllegalArgumentException("0 <= k <= " + n + "!");
+        }
+        return new Sampler(n, k);
+    }
+
+    /**
+     * Implements {@link Permutations#sampler(int, int)}.
+     */
+    private static final class Sampler implements IntArraySampler {
+
+        private final int n;
+
+        private final int k;
+
+        /**
+         * @param n
+         *            the number of elements
+         * @param k
+         *            taken k at a time
+         */
+        Sampler(final int n, final int k) {
+            this.n = n;
+            this.k = k;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see jcombinatorics.IntArraySampler#sample(java.util.SplittableRandom)
+         */
+        public int[] sample(final SplittableRandom random) {
+            return sample(random, new int[k]);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see jcombinatorics.IntArraySampler#sample(java.util.SplittableRandom, int[])
+         */
+        public int[] sample(final SplittableRandom random, final int[] a) {
+            if (k == n) {
+                return RandomSampling.permutation(random, n, a);
+            }
+            return RandomSampling.shuffle(random, RandomSampling.subset(random, n, k, a), k);
+        }
+
     }
 
     /**
@@ -68,11 +188,15 @@ public final class Permutations {
      *
      * @author Alistair A. Israel
      */
-    private static class GeneratorImpl implements Generator<int[]>, Iterable<int[]> {
+    public static final class Permuter extends Generator.Of<int[]> implements IntArrayGenerator, IntArrayVisitable, IntArraySampler {
 
-        private final Iterable<int[]> iteratorFactory;
+        private final int n;
 
-        private final Generator<int[]> factoradic;
+        private final int k;
+
+        private final IntArrayGenerator factoradic;
+
+        private final IntArraySampler sampler;
 
         /**
          * @param n
@@ -80,23 +204,118 @@ public final class Permutations {
          * @param k
          *            taken k at a time
          */
-        GeneratorImpl(final int n, final int k) {
+        private Permuter(final int n, final int k) {
+            this.n = n;
+            this.k = k;
             if (k != n) {
-                iteratorFactory = new SepaPnkIterator.Factory(n, k);
                 factoradic = new FactoradicPnkGenerator(n, k);
             } else {
-                iteratorFactory = new SepaPnIterator.Factory(n);
                 factoradic = new FactoradicPnGenerator(n);
             }
+            sampler = new Sampler(n, k);
+        }
+
+        /**
+         * Returns a SEPA iterator that starts at the <i>fromInclusive</i>-th permutation.
+         *
+         * @param fromInclusive
+         *            the index of the first permutation to return
+         * @param toExclusive
+         *            the index of the permutation to stop at
+         * @return {@link Iterator}&lt;int[]&gt;
+         * @see jcombinatorics.Generator.Of#iterator(long, long)
+         */
+        public Iterator<int[]> iterator(final long fromInclusive, final long toExclusive) {
+            if (k != n) {
+                return new SepaPnkIterator(n, k, fromInclusive, toExclusive);
+            }
+            return new SepaPnIterator(n, fromInclusive, toExclusive);
         }
 
         /**
          * {@inheritDoc}
          *
-         * @see java.lang.Iterable#iterator()
+         * @see jcombinatorics.Generator.Of#hasCheapSuccessor()
+         */
+        protected boolean hasCheapSuccessor() {
+            return true;
+        }
+
+        /**
+         * When the order doesn't matter, visits every permutation using Heap's algorithm, which takes a single swap per permutation.
+         * Only available for <code>P(n, n)</code>, since Heap's algorithm can't be stopped after <code>k</code> elements.
+         *
+         * @return a {@link HeapPnIterator.Factory}
          */
-        public final Iterator<int[]> iterator() {
-            return iteratorFactory.iterator();
+        public HeapPnIterator.Factory inAnyOrder() {
+            if (k != n) {
+                throw new IllegalArgumentException("Only P(n, n) can be generated in any order!");
+            }
+            return new HeapPnIterator.Factory(n);
+        }
+
+        /**
+         * Visits every permutation in lexicographic order using a SEPA iterator, passing the same array to the visitor every time. This
+         * avoids the per-item {@link Iterator#hasNext()} and {@link Iterator#next()} calls of {@link #iterator()}.
+         *
+         * @param visitor
+         *            the {@link IntArrayVisitor} to call for every permutation
+         * @return <code>true</code> if all permutations were visited, <code>false</code> if the visitor stopped early
+         */
+        public boolean visitAll(final IntArrayVisitor visitor) {
+            return visitAll(0, count(), visitor);
+        }
+
+        /**
+         * Visits the permutations <code>fromInclusive</code> (inclusive) up to <code>toExclusive</code> (exclusive) in lexicographic order
+         * using a SEPA iterator, passing the same array to the visitor every time.
+         *
+         * @param fromInclusive
+         *            the index of the first permutation to visit
+         * @param toExclusive
+         *            the index of the permutation to stop at
+         * @param visitor
+         *            the {@link IntArrayVisitor} to call for every permutation
+         * @return <code>true</code> if all the permutations were visited, <code>false</code> if the visitor stopped early
+         * @see jcombinatorics.IntArrayVisitable#visitAll(long, long, IntArrayVisitor)
+         */
+        public boolean visitAll(final long fromInclusive, final long toExclusive, final IntArrayVisitor visitor) {
+            if (k != n) {
+                return new SepaPnkIterator(n, k, fromInclusive, toExclusive).visitAll(visitor);
+            }
+            return new SepaPnIterator(n, fromInclusive, toExclusive).visitAll(visitor);
+        }
+
+        /**
+         * Visits every permutation in parallel in the common {@link java.util.concurrent.ForkJoinPool}. The index range is split into
+         * chunks, and each chunk is visited by its own SEPA iterator with its own buffer.
+         *
+         * @param visitor
+         *            the {@link IntArrayVisitor}, which will be called concurrently from several threads
+         * @return <code>true</code> if all permutations were visited, <code>false</code> if the visitor stopped early
+         * @see ParallelIntArrays#visitAll(IntArrayVisitable, IntArrayVisitor)
+         */
+        public boolean parallelVisitAll(final IntArrayVisitor visitor) {
+            return ParallelIntArrays.visitAll(this, visitor);
+        }
+
+        /**
+         * Reduces every permutation in parallel in the common {@link java.util.concurrent.ForkJoinPool}, folding each chunk into its
+         * own accumulator starting from <code>identity</code>, then combining the per-chunk results.
+         *
+         * @param <R>
+         *            the result type
+         * @param identity
+         *            the identity value for <code>combiner</code>
+         * @param accumulator
+         *            folds a permutation into a partial result. The array passed is reused, so must not be kept.
+         * @param combiner
+         *            combines two partial results
+         * @return the result of the reduction
+         * @see ParallelIntArrays#reduce(IntArrayVisitable, Object, BiFunction, BinaryOperator)
+         */
+        public <R> R parallelReduce(final R identity, final BiFunction<R, int[], R> accumulator, final BinaryOperator<R> combiner) {
+            return ParallelIntArrays.reduce(this, identity, accumulator, combiner);
         }
 
         /**
@@ -107,6 +326,56 @@ public final class Permutations {
             return factoradic.count();
         }
 
+        /**
+         * Draw a uniformly random permutation.
+         *
+         * @param random
+         *            the source of randomness
+         * @return a new array holding the permutation
+         * @see Permutations#sampler(int, int)
+         */
+        public int[] sample(final SplittableRandom random) {
+            return sampler.sample(random);
+        }
+
+        /**
+         * Draw a uniformly random permutation into the given array.
+         *
+         * @param random
+         *            the source of randomness
+         * @param a
+         *            the array to hold the permutation, of length at least <code>k</code>
+         * @return <code>a</code>
+         * @see Permutations#sampler(int, int)
+         */
+        public int[] sample(final SplittableRandom random, final int[] a) {
+            return sampler.sample(random, a);
+        }
+
+        /**
+         * @param size
+         *            the number of samples
+         * @param random
+         *            the source of randomness, which the stream takes over
+         * @return a sequential {@link Stream} of <code>size</code> uniformly random permutations, in a reused array
+         * @see RandomSamples#stream(IntArraySampler, long, SplittableRandom)
+         */
+        public Stream<int[]> samples(final long size, final SplittableRandom random) {
+            return RandomSamples.stream(sampler, size, random);
+        }
+
+        /**
+         * @param size
+         *            the number of samples
+         * @param random
+         *            the source of randomness, which the stream takes over, and splits for each worker
+         * @return a parallel {@link Stream} of <code>size</code> uniformly random permutations, each worker reusing its own array
+         * @see RandomSamples#parallelStream(IntArraySampler, long, SplittableRandom)
+         */
+        public Stream<int[]> parallelSamples(final long size, final SplittableRandom random) {
+            return RandomSamples.parallelStream(sampler, size, random);
+        }
+
         /**
          * Retrieve the <i>l</i>-th permutation.
          *
@@ -114,10 +383,34 @@ public final class Permutations {
          *            long
          * @return int[]
          */
-        public final int[] get(final long l) {
+        public int[] get(final long l) {
             return factoradic.get(l);
         }
 
+        /**
+         * Retrieve the <i>l</i>-th permutation into the given array.
+         *
+         * @param l
+         *            long
+         * @param a
+         *            the array to hold the permutation, of length at least <code>k</code>
+         * @return <code>a</code>
+         */
+        public int[] get(final long l, final int[] a) {
+            return factoradic.get(l, a);
+        }
+
+        /**
+         * Compute the index of the given permutation, the inverse of {@link #get(long)}.
+         *
+         * @param a
+         *            a permutation of <code>k</code> distinct elements from <code>0..n-1</code>
+         * @return the index <code>l</code> such that <code>get(l)</code> is equal to <code>a</code>
+         */
+        public long rank(final int[] a) {
+            return FactoradicPnkGenerator.rank(n, k, a);
+        }
+
     }
 
     /**
@@ -136,12 +429,10 @@ public final class Permutations {
      *            a type
      * @author Alistair A. Israel
      */
-    public static class Over<T> implements Generator<T[]>, Iterable<T[]> {
+    public static class Over<T> extends Generator.Of<T[]> {
 
         private final T[] elements;
 
-        private final Iterable<int[]> iteratorFactory;
-
         private final Generator<int[]> factoradic;
 
         /**
@@ -150,7 +441,6 @@ public final class Permutations {
          */
         public Over(final T[] elements) {
             this.elements = elements;
-            this.iteratorFactory = new SepaPnIterator.Factory(elements.length);
             this.factoradic = new FactoradicPnGenerator(elements.length);
         }
 
@@ -172,13 +462,27 @@ public final class Permutations {
             return factoradic.count();
         }
 
+        /**
+         * Returns a SEPA iterator that starts at the <i>fromInclusive</i>-th permutation, mapped onto the elements.
+         *
+         * @param fromInclusive
+         *            the index of the first permutation to return
+         * @param toExclusive
+         *            the index of the permutation to stop at
+         * @return {@link Iterator}&lt;T[]&gt;
+         * @see jcombinatorics.Generator.Of#iterator(long, long)
+         */
+        public final Iterator<T[]> iterator(final long fromInclusive, final long toExclusive) {
+            return new IntArrayIteratorWrapper<T>(elements, new SepaPnIterator(elements.length, fromInclusive, toExclusive));
+        }
+
         /**
          * {@inheritDoc}
          *
-         * @see java.lang.Iterable#iterator()
+         * @see jcombinatorics.Generator.Of#hasCheapSuccessor()
          */
-        public final Iterator<T[]> iterator() {
-            return new IntArrayIteratorWrapper<T>(elements, iteratorFactory.iterator());
+        protected final boolean hasCheapSuccessor() {
+            return true;
         }
 
     }
@@ -195,6 +499,18 @@ public final class Permutations {
         return new IntPermutator(elements);
     }
 
+    /**
+     * Unlike {@link #of(int...)}, generates each distinct arrangement of the elements only once, even if there are duplicates, and isn't
+     * limited to 12 elements.
+     *
+     * @param elements
+     *            int[], which may contain duplicates
+     * @return {@link MultisetPermutationsGenerator}
+     */
+    public static MultisetPermutationsGenerator ofMultiset(final int... elements) {
+        return new MultisetPermutationsGenerator(elements);
+    }
+
     /**
      * A base class for type-specific iterators, that just delegates to an internal {@link Iterator} returned by a
      * {@link SepaNPermutationsGenerator}.
@@ -13,6 +13,8 @@ package jcombinatorics.permutations;
 
 import java.util.Iterator;
 
+import jcombinatorics.IntArrayVisitor;
+import jcombinatorics.util.ArrayUtils;
 import jcombinatorics.util.ReadOnlyIterator;
 
 /**
@@ -28,10 +30,14 @@ public class SepaPnIterator extends ReadOnlyIterator<int[]> {
 
     private final int n;
 
-    private int[] a;
+    private final int[] a;
 
     private int ascent;
 
+    private boolean pending = true;
+
+    private long remaining;
+
     /**
      * @param n
      *            the number of elements to permute
@@ -41,17 +47,38 @@ public class SepaPnIterator extends ReadOnlyIterator<int[]> {
             throw new IllegalArgumentException("n < 0");
         }
         this.n = n;
+        a = ArrayUtils.identityPermutation(n);
         ascent = n - 1 - 1;
+        remaining = Long.MAX_VALUE;
     }
 
     /**
+     * Enumerates the permutations <code>fromInclusive</code> (inclusive) up to <code>toExclusive</code> (exclusive), in lexicographic
+     * order. The first permutation is computed directly using a {@link FactoradicPnGenerator}, and every subsequent one by SEPA.
      *
+     * @param n
+     *            the number of elements to permute
+     * @param fromInclusive
+     *            the index of the first permutation to return
+     * @param toExclusive
+     *            the index of the permutation to stop at
      */
-    private void initialize() {
-        a = new int[n];
-        for (int i = 0; i < n; i++) {
-            a[i] = i;
+    public SepaPnIterator(final int n, final long fromInclusive, final long toExclusive) {
+        final FactoradicPnGenerator generator = new FactoradicPnGenerator(n);
+        if (fromInclusive < 0 || fromInclusive > toExclusive || toExclusive > generator.count()) {
+            throw new IllegalArgumentException("0 <= " + fromInclusive + " <= " + toExclusive + " <= " + generator.count() + "!");
+        }
+        this.n = n;
+        remaining = toExclusive - fromInclusive;
+        a = ArrayUtils.identityPermutation(n);
+        if (remaining > 0) {
+            generator.get(fromInclusive, a);
+        }
+        int i = n - 2;
+        while (i >= 0 && a[i] >= a[i + 1]) {
+            --i;
         }
+        ascent = i;
     }
 
     /**
@@ -60,7 +87,7 @@ public class SepaPnIterator extends ReadOnlyIterator<int[]> {
      * @see java.util.Iterator#hasNext()
      */
     public final boolean hasNext() {
-        return ascent >= 0;
+        return remaining > 0 && (pending || ascent >= 0);
     }
 
     /**
@@ -69,54 +96,123 @@ public class SepaPnIterator extends ReadOnlyIterator<int[]> {
      * @see java.util.Iterator#next()
      */
     public final int[] next() {
-        if (a == null) {
-            initialize();
+        if (pending) {
+            pending = false;
         } else {
-            computeNext();
+            computeNext(a, 0);
         }
+        --remaining;
         return a;
     }
 
     /**
+     * Visits each of the remaining permutations in turn, in a tight loop without going through {@link #hasNext()} and {@link #next()}. The
+     * same array is passed to the visitor every time.
      *
+     * @param visitor
+     *            the {@link IntArrayVisitor} to call for every permutation
+     * @return <code>true</code> if all remaining permutations were visited, <code>false</code> if the visitor stopped early
      */
-    private void computeNext() {
-        // find rightmost ascent, or i where a[i + 1] > a[i]
+    public final boolean visitAll(final IntArrayVisitor visitor) {
+        if (pending && remaining > 0) {
+            pending = false;
+            --remaining;
+            if (!visitor.visit(a)) {
+                return false;
+            }
+        }
+        while (remaining > 0 && ascent >= 0) {
+            computeNext(a, 0);
+            --remaining;
+            if (!visitor.visit(a)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies up to <code>maxItems</code> of the remaining permutations into <code>dest</code>, one after the other, so that the
+     * <i>j</i>-th one occupies <code>dest[j * n..j * n + n - 1]</code>. Each permutation after the first is computed in place in
+     * <code>dest</code>, from a copy of the one before it.
+     *
+     * @param dest
+     *            the array to hold the permutations, of length at least <code>maxItems * n</code>
+     * @param maxItems
+     *            the maximum number of permutations to copy
+     * @return the number of permutations copied, which is less than <code>maxItems</code> only if there are no more
+     */
+    public final int nextBlock(final int[] dest, final int maxItems) {
+        if (maxItems < 0 || (long) maxItems * n > dest.length) {
+            throw new IllegalArgumentException("0 <= " + maxItems + " * " + n + " <= " + dest.length + "!");
+        }
+        if (maxItems == 0 || !hasNext()) {
+            return 0;
+        }
+        System.arraycopy(next(), 0, dest, 0, n);
+        int m = 1;
+        int offset = 0;
+        while (m < maxItems && remaining > 0 && ascent >= 0) {
+            System.arraycopy(dest, offset, dest, offset + n, n);
+            offset += n;
+            computeNext(dest, offset);
+            --remaining;
+            ++m;
+        }
+        if (offset > 0) {
+            // carry on from the last one
+            System.arraycopy(dest, offset, a, 0, n);
+        }
+        return m;
+    }
+
+    /**
+     * Advance the permutation in <code>b[offset..offset+n-1]</code> to the next one, and find its rightmost ascent.
+     *
+     * @param b
+     *            the array holding the permutation
+     * @param offset
+     *            where it starts
+     */
+    private void computeNext(final int[] b, final int offset) {
+        // find rightmost ascent, or i where b[i + 1] > b[i]
         int i = ascent;
-        // find smallest (rightmost) a[j] where a[j] > a[i]
+        // find smallest (rightmost) b[j] where b[j] > b[i]
         int j = n - 1;
-        while (j > i && a[i] >= a[j]) {
+        while (j > i && b[offset + i] >= b[offset + j]) {
             --j;
         }
 
-        swap(i, j);
+        swap(b, offset + i, offset + j);
 
         // reverse to right of i (sort to ascending order)
         i++;
         j = n - 1;
         while (i < j) {
-            swap(i, j);
+            swap(b, offset + i, offset + j);
             i++;
             j--;
         }
 
         i = n - 2;
-        while (i >= 0 && a[i] >= a[i + 1]) {
+        while (i >= 0 && b[offset + i] >= b[offset + i + 1]) {
             --i;
         }
         ascent = i;
     }
 
     /**
+     * @param b
+     *            an array
      * @param x
      *            first position
      * @param y
      *            second position
      */
-    private void swap(final int x, final int y) {
-        final int t = a[x];
-        a[x] = a[y];
-        a[y] = t;
+    private static void swap(final int[] b, final int x, final int y) {
+        final int t = b[x];
+        b[x] = b[y];
+        b[y] = t;
     }
 
     /**
@@ -13,6 +13,7 @@ package jcombinatorics.permutations;
 
 import java.util.Iterator;
 
+import jcombinatorics.IntArrayVisitor;
 import jcombinatorics.util.ArrayUtils;
 import jcombinatorics.util.ReadOnlyIterator;
 
@@ -37,6 +38,8 @@ public class SepaPnkIterator extends ReadOnlyIterator<int[]> {
 
     private final int[] result;
 
+    private long remaining;
+
     /**
      * @param n
      *            the number of elements
@@ -54,6 +57,44 @@ public class SepaPnkIterator extends ReadOnlyIterator<int[]> {
         this.k = k;
         a = ArrayUtils.identityPermutation(n);
         result = new int[k];
+        remaining = Long.MAX_VALUE;
+    }
+
+    /**
+     * Enumerates the permutations <code>fromInclusive</code> (inclusive) up to <code>toExclusive</code> (exclusive), in lexicographic
+     * order. The first permutation is computed directly using a {@link FactoradicPnkGenerator}, and every subsequent one by SEPA.
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     * @param fromInclusive
+     *            the index of the first permutation to return
+     * @param toExclusive
+     *            the index of the permutation to stop at
+     */
+    public SepaPnkIterator(final int n, final int k, final long fromInclusive, final long toExclusive) {
+        this(n, k);
+        final long count = Permutations.count(n, k);
+        if (fromInclusive < 0 || fromInclusive > toExclusive || toExclusive > count) {
+            throw new IllegalArgumentException("0 <= " + fromInclusive + " <= " + toExclusive + " <= " + count + "!");
+        }
+        remaining = toExclusive - fromInclusive;
+        if (remaining > 0) {
+            new FactoradicPnkGenerator(n, k).get(fromInclusive, a);
+            // the elements not taken follow in ascending order
+            final boolean[] taken = new boolean[n];
+            for (int i = 0; i < k; ++i) {
+                taken[a[i]] = true;
+            }
+            int j = k;
+            for (int i = 0; i < n; ++i) {
+                if (!taken[i]) {
+                    a[j] = i;
+                    ++j;
+                }
+            }
+        }
     }
 
     /**
@@ -62,7 +103,7 @@ public class SepaPnkIterator extends ReadOnlyIterator<int[]> {
      * @see java.util.Iterator#hasNext()
      */
     public final boolean hasNext() {
-        return hasNext;
+        return hasNext && remaining > 0;
     }
 
     /**
@@ -73,13 +114,63 @@ public class SepaPnkIterator extends ReadOnlyIterator<int[]> {
     public final int[] next() {
         System.arraycopy(a, 0, result, 0, k);
         computeNext();
+        --remaining;
         return result;
     }
 
+    /**
+     * Visits each of the remaining permutations in turn, in a tight loop without going through {@link #hasNext()} and {@link #next()}. The
+     * same array is passed to the visitor every time.
+     *
+     * @param visitor
+     *            the {@link IntArrayVisitor} to call for every permutation
+     * @return <code>true</code> if all remaining permutations were visited, <code>false</code> if the visitor stopped early
+     */
+    public final boolean visitAll(final IntArrayVisitor visitor) {
+        while (hasNext && remaining > 0) {
+            System.arraycopy(a, 0, result, 0, k);
+            computeNext();
+            --remaining;
+            if (!visitor.visit(result)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies up to <code>maxItems</code> of the remaining permutations into <code>dest</code>, one after the other, so that the
+     * <i>j</i>-th one occupies <code>dest[j * k..j * k + k - 1]</code>. Only the first <code>k</code>
+     * of the <code>n</code> elements SEPA works on are copied, straight into <code>dest</code>.
+     *
+     * @param dest
+     *            the array to hold the permutations, of length at least <code>maxItems * k</code>
+     * @param maxItems
+     *            the maximum number of permutations to copy
+     * @return the number of permutations copied, which is less than <code>maxItems</code> only if there are no more
+     */
+    public final int nextBlock(final int[] dest, final int maxItems) {
+        if (maxItems < 0 || (long) maxItems * k > dest.length) {
+            throw new IllegalArgumentException("0 <= " + maxItems + " * " + k + " <= " + dest.length + "!");
+        }
+        int m = 0;
+        for (int offset = 0; m < maxItems && hasNext && remaining > 0; ++m, offset += k) {
+            System.arraycopy(a, 0, dest, offset, k);
+            computeNext();
+            --remaining;
+        }
+        return m;
+    }
+
     /**
      *
      */
     private void computeNext() {
+        if (k == 0) {
+            // P(n, 0) is just the one, empty permutation
+            hasNext = false;
+            return;
+        }
         int i = k - 1;
         int j = k;
         // find smallest j > k - 1 where a[j] > a[k - 1]
@@ -0,0 +1,174 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.permutations;
+
+import jcombinatorics.util.ArrayUtils;
+import jcombinatorics.util.MathUtils;
+import jcombinatorics.util.ReadOnlyIterator;
+
+/**
+ * <p>
+ * Steinhaus-Johnson-Trotter ("plain changes") iterator that enumerates all permutations <code>P(n)</code> so that each one differs from
+ * the one before by swapping a single pair of adjacent elements. After each call to {@link #next()}, {@link #swapped()} tells which
+ * pair, so that a value computed over the previous permutation can be updated instead of recomputed.
+ * </p>
+ * <p>
+ * Uses Knuth's Algorithm P (TAOCP 7.2.1.2), which keeps an inversion count and a direction for every element instead of searching for
+ * the largest 'mobile' element, so each step takes amortized constant time.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see <a href="http://en.wikipedia.org/wiki/Steinhaus%E2%80%93Johnson%E2%80%93Trotter_algorithm">Steinhaus-Johnson-Trotter
+ *      algorithm</a>
+ */
+public class SjtPnIterator extends ReadOnlyIterator<int[]> {
+
+    private final int n;
+
+    private final int[] a;
+
+    /**
+     * The inversion count of each element, 1-based as in Algorithm P.
+     */
+    private final int[] c;
+
+    /**
+     * The direction each element is moving in, +1 or -1.
+     */
+    private final int[] o;
+
+    private boolean pending = true;
+
+    private long remaining;
+
+    private int swapped = -1;
+
+    /**
+     * @param n
+     *            the number of elements to permute, <code>0 &lt;= n &lt;= 20</code>
+     */
+    public SjtPnIterator(final int n) {
+        if (n < 0 || n > FactoradicPnGenerator.MAX_N) {
+            throw new IllegalArgumentException("0 <= n <= " + FactoradicPnGenerator.MAX_N + "!");
+        }
+        this.n = n;
+        a = ArrayUtils.identityPermutation(n);
+        c = new int[n + 1];
+        o = new int[n + 1];
+        for (int j = 1; j <= n; ++j) {
+            o[j] = 1;
+        }
+        remaining = MathUtils.factorial(n);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#hasNext()
+     */
+    public final boolean hasNext() {
+        return remaining > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#next()
+     */
+    public final int[] next() {
+        if (pending) {
+            pending = false;
+        } else {
+            computeNext();
+        }
+        --remaining;
+        return a;
+    }
+
+    /**
+     * @return the index <code>i</code> such that the last call to {@link #next()} swapped <code>a[i]</code> and <code>a[i + 1]</code>, or
+     *         <code>-1</code> if it returned the first (identity) permutation
+     */
+    public final int swapped() {
+        return swapped;
+    }
+
+    /**
+     * Visits each of the remaining permutations in turn, in a tight loop, along with the swap that produced it. The same array is passed
+     * to the visitor every time.
+     *
+     * @param visitor
+     *            the {@link SwapVisitor} to call for every permutation
+     * @return <code>true</code> if all remaining permutations were visited, <code>false</code> if the visitor stopped early
+     */
+    public final boolean visitAll(final SwapVisitor visitor) {
+        if (pending && remaining > 0) {
+            pending = false;
+            --remaining;
+            if (!visitor.visit(a, swapped)) {
+                return false;
+            }
+        }
+        while (remaining > 0) {
+            computeNext();
+            --remaining;
+            if (!visitor.visit(a, swapped)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Algorithm P, steps P3 to P7. Termination (step P6) is taken care of by counting the permutations instead.
+     */
+    private void computeNext() {
+        int s = 0;
+        for (int j = n;; --j) {
+            final int q = c[j] + o[j];
+            if (q == j) {
+                ++s;
+            } else if (q >= 0) {
+                final int x = j - c[j] + s - 1;
+                final int y = j - q + s - 1;
+                final int t = a[x];
+                a[x] = a[y];
+                a[y] = t;
+                c[j] = q;
+                swapped = Math.min(x, y);
+                return;
+            }
+            o[j] = -o[j];
+        }
+    }
+
+    /**
+     * A callback for {@link SjtPnIterator#visitAll(SwapVisitor)}.
+     *
+     * @author Alistair A. Israel
+     */
+    public interface SwapVisitor {
+
+        /**
+         * Visit the next permutation.
+         *
+         * @param a
+         *            the current permutation. Must not be modified.
+         * @param i
+         *            <code>a[i]</code> and <code>a[i + 1]</code> were just swapped, or <code>-1</code> for the first permutation
+         * @return <code>true</code> to continue the enumeration, <code>false</code> to stop
+         */
+        boolean visit(final int[] a, final int i);
+
+    }
+
+}
@@ -42,6 +42,28 @@ public final class MathUtils {
         }
     }
 
+    /**
+     * Rows of Pascal's triangle below this are cached, larger ones are computed directly.
+     */
+    private static final int MAX_PASCAL_N = 1024;
+
+    /**
+     * The cached rows of Pascal's triangle, grown as needed. Row <code>n</code> holds <code>C(n, 0)..C(n, j)</code> where <code>j</code> is
+     * <code>n / 2</code>, or just short of the first entry that would overflow a <code>long</code>, whichever is less.
+     */
+    private static volatile long[][] pascal = new long[0][];
+
+    /**
+     * We only support partition numbers up to <code>p(405)</code>, since <code>p(406) &gt; </code>{@link java.lang.Long#MAX_VALUE}.
+     */
+    public static final int MAX_PARTITIONS_N = 405;
+
+    /**
+     * The cached partition numbers, grown as needed. Row <code>m</code> holds <code>p(m, 0)..p(m, m)</code>, where <code>p(m, j)</code>
+     * is the number of partitions of <code>m</code> into parts no larger than <code>j</code>.
+     */
+    private static volatile long[][] partitionTable = new long[0][];
+
     /**
      * Return <code>n!</code>, or <code>n * (n - 1) * (n - 2) * ... * 3 * 2 * 1</code>. <code>0!</code> = 1
      *
@@ -55,4 +77,283 @@ public final class MathUtils {
         }
         return FACTORIALS[n];
     }
+
+    /**
+     * Return the binomial coefficient <code>C(n, k)</code>, or <code>n! / k! (n - k)!</code>, which is the number of ways of choosing
+     * <code>k</code> elements from <code>n</code>. Values for <code>n &lt; </code>{@value #MAX_PASCAL_N} are looked up in a cached
+     * Pascal's triangle. Throws an {@link ArithmeticException} if <code>C(n, k) &gt; </code>{@link java.lang.Long#MAX_VALUE}.
+     *
+     * @param n
+     *            the number of elements, <code>n &gt;= 0</code>
+     * @param k
+     *            taken k at a time
+     * @return C(n, k), or 0 if <code>k &lt; 0</code> or <code>k &gt; n</code>
+     */
+    public static long binomial(final int n, final int k) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative!");
+        }
+        if (k < 0 || k > n) {
+            return 0;
+        }
+        final int j = Math.min(k, n - k);
+        if (n >= MAX_PASCAL_N) {
+            return multiplicativeBinomial(n, j);
+        }
+        long[][] rows = pascal;
+        if (n >= rows.length) {
+            rows = growPascal(n);
+        }
+        final long[] row = rows[n];
+        if (j >= row.length) {
+            throw new ArithmeticException("C(" + n + ", " + k + ") > Long.MAX_VALUE!");
+        }
+        return row[j];
+    }
+
+    /**
+     * Grow the cached Pascal's triangle to include row <code>n</code>.
+     *
+     * @param n
+     *            the row required
+     * @return the new triangle
+     */
+    private static synchronized long[][] growPascal(final int n) {
+        final long[][] old = pascal;
+        if (n < old.length) {
+            return old;
+        }
+        final int len = Math.min(MAX_PASCAL_N, Math.max(n + 1, 2 * old.length));
+        final long[][] rows = new long[len][];
+        System.arraycopy(old, 0, rows, 0, old.length);
+        for (int m = old.length; m < len; ++m) {
+            final long[] row = new long[m / 2 + 1];
+            row[0] = 1;
+            int j = 1;
+            while (j < row.length) {
+                final long x = pascalEntry(rows[m - 1], m - 1, j - 1);
+                final long y = pascalEntry(rows[m - 1], m - 1, j);
+                if (x < 0 || y < 0 || x > Long.MAX_VALUE - y) {
+                    break;
+                }
+                row[j] = x + y;
+                ++j;
+            }
+            if (j < row.length) {
+                final long[] truncated = new long[j];
+                System.arraycopy(row, 0, truncated, 0, j);
+                rows[m] = truncated;
+            } else {
+                rows[m] = row;
+            }
+        }
+        pascal = rows;
+        return rows;
+    }
+
+    /**
+     * @param row
+     *            row <code>m</code> of Pascal's triangle
+     * @param m
+     *            the row number
+     * @param k
+     *            the column
+     * @return C(m, k), or -1 if it overflows
+     */
+    private static long pascalEntry(final long[] row, final int m, final int k) {
+        if (k > m) {
+            return 0;
+        }
+        final int j = Math.min(k, m - k);
+        if (j >= row.length) {
+            return -1;
+        }
+        return row[j];
+    }
+
+    /**
+     * Computes <code>C(n, k)</code> as <code>n/1 * (n-1)/2 * ... * (n-k+1)/k</code>, dividing out common factors at each step so the
+     * only way the multiplication can overflow is if the result does.
+     *
+     * @param n
+     *            n
+     * @param k
+     *            k &lt;= n / 2
+     * @return C(n, k)
+     */
+    private static long multiplicativeBinomial(final int n, final int k) {
+        long c = 1;
+        for (int i = 0; i < k; ++i) {
+            // c * (n - i) is always divisible by (i + 1)
+            final long g = gcd(c, i + 1);
+            c = Math.multiplyExact(c / g, (n - i) / ((i + 1) / g));
+        }
+        return c;
+    }
+
+    /**
+     * Return the multinomial coefficient <code>(m<sub>0</sub> + m<sub>1</sub> + ...)! / m<sub>0</sub>! m<sub>1</sub>! ...</code>, which
+     * is the number of distinct arrangements of a multiset with the given multiplicities. Computed as a product of binomial coefficients,
+     * and throws an {@link ArithmeticException} if the result is greater than {@link java.lang.Long#MAX_VALUE}.
+     *
+     * @param m
+     *            the multiplicities, each <code>&gt;= 0</code>
+     * @return the multinomial coefficient
+     */
+    public static long multinomial(final int... m) {
+        long c = 1;
+        int n = 0;
+        for (final int mi : m) {
+            n += mi;
+            c = Math.multiplyExact(c, binomial(n, mi));
+        }
+        return c;
+    }
+
+    /**
+     * Return the Stirling number of the second kind <code>S(n, k)</code>, the number of ways to partition a set of <code>n</code>
+     * elements into exactly <code>k</code> non-empty blocks. Uses <code>S(i, j) = j * S(i - 1, j) + S(i - 1, j - 1)</code>, but only
+     * computes the entries that can still lead to <code>S(n, k)</code>, none of which are larger than it, so this throws an
+     * {@link ArithmeticException} only if the result is greater than {@link java.lang.Long#MAX_VALUE}.
+     *
+     * @param n
+     *            the number of elements, <code>n &gt;= 0</code>
+     * @param k
+     *            the number of blocks, <code>k &gt;= 0</code>
+     * @return S(n, k), or 0 if <code>k &gt; n</code>
+     */
+    public static long stirling2(final int n, final int k) {
+        if (n < 0 || k < 0) {
+            throw new IllegalArgumentException("n >= 0 and k >= 0!");
+        }
+        if (k > n) {
+            return 0;
+        }
+        final long[] s = new long[k + 1];
+        s[0] = 1;
+        for (int i = 1; i <= n; ++i) {
+            final int lo = Math.max(1, k - (n - i));
+            for (int j = Math.min(i, k); j >= lo; --j) {
+                s[j] = Math.addExact(Math.multiplyExact(j, s[j]), s[j - 1]);
+            }
+            s[0] = 0;
+        }
+        return s[k];
+    }
+
+    /**
+     * Return the Bell number <code>B(n)</code>, the number of partitions of a set of <code>n</code> elements. Computed using the Bell
+     * triangle, whose entries up to that point are all no larger than <code>B(n)</code>, and throws an {@link ArithmeticException} if
+     * the result is greater than {@link java.lang.Long#MAX_VALUE} (that is, if <code>n &gt; 25</code>).
+     *
+     * @param n
+     *            the number of elements, <code>n &gt;= 0</code>
+     * @return B(n)
+     */
+    public static long bell(final int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n >= 0!");
+        }
+        if (n == 0) {
+            return 1;
+        }
+        final long[] row = new long[n];
+        row[0] = 1;
+        for (int i = 1; i < n; ++i) {
+            // each row starts with the last entry of the one before, and each entry adds the one above-left of it
+            long above = row[0];
+            row[0] = row[i - 1];
+            for (int j = 1; j <= i; ++j) {
+                final long next = row[j];
+                row[j] = Math.addExact(row[j - 1], above);
+                above = next;
+            }
+        }
+        return row[n - 1];
+    }
+
+    /**
+     * Return the partition number <code>p(n)</code>, the number of ways of writing <code>n</code> as a sum of positive integers,
+     * regardless of order.
+     *
+     * @param n
+     *            <code>0 &lt;= n &lt;= </code>{@value #MAX_PARTITIONS_N}
+     * @return p(n)
+     */
+    public static long partitions(final int n) {
+        return partitions(n, n);
+    }
+
+    /**
+     * Return <code>p(n, maxPart)</code>, the number of partitions of <code>n</code> into parts no larger than <code>maxPart</code>, which
+     * is also the number of partitions of <code>n</code> into at most <code>maxPart</code> parts. Values are looked up in a cached
+     * table, built using <code>p(n, j) = p(n, j - 1) + p(n - j, j)</code>.
+     *
+     * @param n
+     *            <code>0 &lt;= n &lt;= </code>{@value #MAX_PARTITIONS_N}
+     * @param maxPart
+     *            the largest part allowed
+     * @return p(n, maxPart), or 0 if <code>maxPart &lt; 0</code>
+     */
+    public static long partitions(final int n, final int maxPart) {
+        if (n < 0 || n > MAX_PARTITIONS_N) {
+            throw new IllegalArgumentException("0 <= n <= " + MAX_PARTITIONS_N + "!");
+        }
+        if (maxPart < 0) {
+            return 0;
+        }
+        long[][] rows = partitionTable;
+        if (n >= rows.length) {
+            rows = growPartitionTable(n);
+        }
+        return rows[n][Math.min(n, maxPart)];
+    }
+
+    /**
+     * Grow the cached partition numbers to include row <code>n</code>.
+     *
+     * @param n
+     *            the row required
+     * @return the new table
+     */
+    private static synchronized long[][] growPartitionTable(final int n) {
+        final long[][] old = partitionTable;
+        if (n < old.length) {
+            return old;
+        }
+        final int len = Math.min(MAX_PARTITIONS_N + 1, Math.max(n + 1, 2 * old.length));
+        final long[][] rows = new long[len][];
+        System.arraycopy(old, 0, rows, 0, old.length);
+        for (int m = old.length; m < len; ++m) {
+            final long[] row = new long[m + 1];
+            if (m == 0) {
+                row[0] = 1;
+            }
+            for (int j = 1; j <= m; ++j) {
+                // the partitions with no part j, and those with at least one
+                row[j] = row[j - 1] + rows[m - j][Math.min(j, m - j)];
+            }
+            rows[m] = row;
+        }
+        partitionTable = rows;
+        return rows;
+    }
+
+    /**
+     * @param a
+     *            a
+     * @param b
+     *            b
+     * @return the greatest common divisor of a and b
+     */
+    public static long gcd(final long a, final long b) {
+        long x = a;
+        long y = b;
+        while (y != 0) {
+            final long t = x % y;
+            x = y;
+            y = t;
+        }
+        return x;
+    }
 }
@@ -0,0 +1,145 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.util;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Draws uniformly random permutations and subsets directly into a caller's array, without enumerating or unranking them, and without
+ * any scratch space.
+ *
+ * @author Alistair A. Israel
+ */
+public final class RandomSampling {
+
+    /**
+     * Floyd's algorithm shifts about <code>k<sup>2</sup> / 4</code> elements to keep its sample sorted, which is much cheaper than the
+     * <code>n</code> random numbers selection sampling needs, until <code>k<sup>2</sup></code> is this many times <code>n</code>.
+     */
+    private static final long FLOYD_FACTOR = 8;
+
+    /**
+     * Utility classes should not have a public or default constructor.
+     */
+    private RandomSampling() {
+        // noop
+    }
+
+    /**
+     * Fills <code>a[0..n-1]</code> with a uniformly random permutation of <code>0..n-1</code>, using the "inside-out" Fisher-Yates
+     * shuffle, which builds it up from the identity permutation in a single pass.
+     *
+     * @param random
+     *            the source of randomness
+     * @param n
+     *            the number of elements
+     * @param a
+     *            the array to hold the permutation, of length at least <code>n</code>
+     * @return <code>a</code>
+     * @see <a href="http://en.wikipedia.org/wiki/Fisher%E2%80%93Yates_shuffle">Fisher-Yates shuffle</a>
+     */
+    public static int[] permutation(final SplittableRandom random, final int n, final int[] a) {
+        for (int i = 0; i < n; ++i) {
+            final int j = random.nextInt(i + 1);
+            a[i] = a[j];
+            a[j] = i;
+        }
+        return a;
+    }
+
+    /**
+     * Shuffles <code>a[0..k-1]</code> uniformly at random, using the Fisher-Yates shuffle.
+     *
+     * @param random
+     *            the source of randomness
+     * @param a
+     *            the array to shuffle
+     * @param k
+     *            the number of elements to shuffle
+     * @return <code>a</code>
+     */
+    public static int[] shuffle(final SplittableRandom random, final int[] a, final int k) {
+        for (int i = k - 1; i > 0; --i) {
+            final int j = random.nextInt(i + 1);
+            final int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+        return a;
+    }
+
+    /**
+     * Fills <code>a[0..k-1]</code> with a uniformly random <code>k</code>-subset of <code>0..n-1</code>, in ascending order. Small
+     * samples use Floyd's algorithm, which needs only <code>k</code> random numbers, and keeps the sample sorted so it can tell whether
+     * an element has already been chosen using a binary search. Larger ones use selection sampling (Knuth's Algorithm S), which
+     * considers each of the <code>n</code> elements in turn.
+     *
+     * @param random
+     *            the source of randomness
+     * @param n
+     *            the number of elements to choose from
+     * @param k
+     *            the number of elements to choose, <code>0 &lt;= k &lt;= n</code>
+     * @param a
+     *            the array to hold the subset, of length at least <code>k</code>
+     * @return <code>a</code>
+     * @see "Bentley and Floyd, A sample of brilliance, CACM 30(9), 1987"
+     */
+    public static int[] subset(final SplittableRandom random, final int n, final int k, final int[] a) {
+        if ((long) k * k <= FLOYD_FACTOR * n) {
+            return floyd(random, n, k, a);
+        }
+        int m = 0;
+        for (int t = 0; m < k; ++t) {
+            // choose t with probability (k - m) / (n - t)
+            if (random.nextInt(n - t) < k - m) {
+                a[m] = t;
+                ++m;
+            }
+        }
+        return a;
+    }
+
+    /**
+     * Floyd's algorithm: for each <code>j</code> from <code>n - k</code> up to <code>n - 1</code>, pick a random <code>t</code> in
+     * <code>0..j</code>, and add it to the sample unless it's already there, in which case add <code>j</code>, which can't be.
+     *
+     * @param random
+     *            the source of randomness
+     * @param n
+     *            the number of elements to choose from
+     * @param k
+     *            the number of elements to choose
+     * @param a
+     *            the array to hold the subset
+     * @return <code>a</code>
+     */
+    private static int[] floyd(final SplittableRandom random, final int n, final int k, final int[] a) {
+        int m = 0;
+        for (int j = n - k; j < n; ++j) {
+            final int t = random.nextInt(j + 1);
+            final int i = Arrays.binarySearch(a, 0, m, t);
+            if (i >= 0) {
+                // everything chosen so far is less than j
+                a[m] = j;
+            } else {
+                final int at = -i - 1;
+                System.arraycopy(a, at, a, at + 1, m - at);
+                a[at] = t;
+            }
+            ++m;
+        }
+        return a;
+    }
+
+}
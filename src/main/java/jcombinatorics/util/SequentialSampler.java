@@ -0,0 +1,207 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.util;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.SplittableRandom;
+
+/**
+ * <p>
+ * Draws <code>m</code> distinct numbers uniformly at random from <code>0..count-1</code>, and returns them in ascending order, one at a
+ * time, using Vitter's Algorithm D. Rather than considering every number in turn, each step draws how many numbers to skip over before
+ * the next one chosen, so it takes <code>O(m)</code> time on average however large <code>count</code> is, and constant space.
+ * </p>
+ * <p>
+ * Once the numbers left to choose are more than a thirteenth of the numbers left to choose from, it switches to the simpler Algorithm
+ * A, which is faster then. The skips are computed in double precision, so are only exact up to a <code>count</code> of
+ * <code>2<sup>53</sup></code>.
+ * </p>
+ *
+ * @author Alistair A. Israel
+ * @see "Vitter, An efficient algorithm for sequential random sampling, ACM TOMS 13(1), 1987"
+ */
+public final class SequentialSampler implements PrimitiveIterator.OfLong {
+
+    /**
+     * Algorithm D is used while the numbers left to choose from are more than this many times the numbers left to choose.
+     */
+    private static final long ALPHA_INV = 13;
+
+    private final SplittableRandom random;
+
+    /**
+     * The numbers left to choose.
+     */
+    private long n;
+
+    /**
+     * The numbers left to choose from.
+     */
+    private long left;
+
+    /**
+     * The first of the numbers left to choose from.
+     */
+    private long position;
+
+    /**
+     * A uniform random number raised to the power <code>1 / n</code>, carried over from one step of Algorithm D to the next.
+     */
+    private double vPrime;
+
+    private boolean algorithmA;
+
+    /**
+     * @param random
+     *            the source of randomness
+     * @param count
+     *            the number of numbers to choose from
+     * @param m
+     *            the number of numbers to choose, <code>0 &lt;= m &lt;= count</code>
+     */
+    public SequentialSampler(final SplittableRandom random, final long count, final long m) {
+        if (m < 0 || m > count) {
+            throw new IllegalArgumentException("0 <= " + m + " <= " + count + "!");
+        }
+        this.random = random;
+        this.n = m;
+        this.left = count;
+        if (m > 0) {
+            vPrime = Math.pow(uniform(), 1.0 / m);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.Iterator#hasNext()
+     */
+    public boolean hasNext() {
+        return n > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.util.PrimitiveIterator.OfLong#nextLong()
+     */
+    public long nextLong() {
+        if (n <= 0) {
+            throw new NoSuchElementException();
+        }
+        final long skip;
+        if (n == 1) {
+            skip = random.nextLong(left);
+        } else if (!algorithmA && n < left / ALPHA_INV) {
+            skip = skipD();
+        } else {
+            algorithmA = true;
+            skip = skipA();
+        }
+        final long next = position + skip;
+        position = next + 1;
+        left -= skip + 1;
+        --n;
+        return next;
+    }
+
+    /**
+     * @return a uniform random number in <code>(0, 1]</code>
+     */
+    private double uniform() {
+        return 1.0 - random.nextDouble();
+    }
+
+    /**
+     * Algorithm A: the chance of skipping at least <code>s + 1</code> numbers is the chance of skipping at least <code>s</code>, times
+     * the chance that the next number isn't chosen either, so find the first <code>s</code> where that drops below a uniform random
+     * number.
+     *
+     * @return the number of numbers to skip
+     */
+    private long skipA() {
+        final double v = random.nextDouble();
+        double top = left - n;
+        double bottom = left;
+        double quotient = top / bottom;
+        long s = 0;
+        while (quotient > v) {
+            ++s;
+            --top;
+            --bottom;
+            quotient *= top / bottom;
+        }
+        return s;
+    }
+
+    /**
+     * Algorithm D: draw a candidate skip from a continuous distribution that's close to the real one, then accept it or try again by
+     * comparing the two, which seldom needs more than a couple of tries.
+     *
+     * @return the number of numbers to skip
+     */
+    private long skipD() {
+        final double nReal = n;
+        final double nInv = 1.0 / nReal;
+        final double nMin1Inv = 1.0 / (nReal - 1);
+        final double bigN = left;
+        final long qu1 = left - n + 1;
+        final double qu1Real = qu1;
+        while (true) {
+            double x = bigN * (1.0 - vPrime);
+            while (x >= qu1) {
+                vPrime = Math.pow(uniform(), nInv);
+                x = bigN * (1.0 - vPrime);
+            }
+            final long s = (long) x;
+            final double y1 = Math.pow(uniform() * bigN / qu1Real, nMin1Inv);
+            vPrime = y1 * (1.0 - x / bigN) * (qu1Real / (qu1Real - s));
+            if (vPrime <= 1.0) {
+                // accepted, and vPrime can be used for the next step
+                return s;
+            }
+            if (bigN / (bigN - x) >= y1 * Math.pow(ratio(s), nMin1Inv)) {
+                vPrime = Math.pow(uniform(), nMin1Inv);
+                return s;
+            }
+            vPrime = Math.pow(uniform(), nInv);
+        }
+    }
+
+    /**
+     * @param s
+     *            a candidate skip
+     * @return the ratio of the exact probability of skipping <code>s</code> numbers to its continuous approximation, less the part
+     *         computed directly
+     */
+    private double ratio(final long s) {
+        double y2 = 1.0;
+        double top = left - 1;
+        double bottom;
+        final long limit;
+        if (n - 1 > s) {
+            bottom = left - n;
+            limit = left - s;
+        } else {
+            bottom = left - s - 1;
+            limit = left - n + 1;
+        }
+        for (long t = left - 1; t >= limit; --t) {
+            y2 = y2 * top / bottom;
+            --top;
+            --bottom;
+        }
+        return y2;
+    }
+
+}
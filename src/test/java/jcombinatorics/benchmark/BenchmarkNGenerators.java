@@ -11,6 +11,7 @@
  */
 package jcombinatorics.benchmark;
 
+import jcombinatorics.permutations.HeapPnIterator;
 import jcombinatorics.permutations.SepaPnIterator;
 import jcombinatorics.permutations.SepaPnkIterator;
 import jcombinatorics.util.MathUtils;
@@ -37,6 +38,7 @@ public class BenchmarkNGenerators implements Runnable {
         final GeneratorBenchmark benchmark = new GeneratorBenchmark(pn + " generators benchmark", REPS, P);
         benchmark.bench("SEPA " + pn, new SepaPnIterator.Factory(N));
         benchmark.bench("SEPA P(" + N + "," + N + ")", new SepaPnkIterator.Factory(N, N));
+        benchmark.bench("Heap " + pn, new HeapPnIterator.Factory(N));
 //        benchmark.bench("Factoradic " + pn, new FactoradicPnGenerator(N));
 //        benchmark.bench("Factoradic P(" + N + "," + N + ")", new FactoradicPnkGenerator(N, N));
         benchmark.benchmarkAll();
@@ -41,7 +41,7 @@ public class BenchmarkNKGenerators implements Runnable {
                 + ") generators benchmark", REPS, EXPECTED_PERMUTATIONS);
         final String pnk = " P(" + N + ", " + K + ")";
         benchmark.bench("a.SEPA" + pnk, new SepaPnkIterator.Factory(N, K));
-        benchmark.bench("b.Factoradic" + pnk, new FactoradicPnkGenerator(N, K));
+        benchmark.bench("b.Factoradic" + pnk, GeneratorBenchmark.unranking(new FactoradicPnkGenerator(N, K)));
         benchmark.benchmarkAll();
         benchmark.prettyPrint();
     }
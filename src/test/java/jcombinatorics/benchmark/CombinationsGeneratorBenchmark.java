@@ -15,6 +15,7 @@ import static java.lang.String.format;
 import jcombinatorics.benchmark.PermutatedOrderBenchmark.Task;
 import jcombinatorics.combinations.CombinadicCombinationsGenerator;
 import jcombinatorics.combinations.Combinations;
+import jcombinatorics.combinations.CoolLexIterator;
 import jcombinatorics.combinations.RosenIterator;
 
 /**
@@ -40,9 +41,11 @@ public class CombinationsGeneratorBenchmark implements Runnable {
         final String cnk = " C(" + N + "," + K + ")";
         final PermutatedOrderBenchmark benchmark = new PermutatedOrderBenchmark(REPS);
         benchmark.addTask("Combinadic" + cnk, new CombinationsGeneratorBenchmarkTask(
-                new CombinadicCombinationsGenerator(N, K)));
+                GeneratorBenchmark.unranking(new CombinadicCombinationsGenerator(N, K))));
         benchmark.addTask("Rosen" + cnk, new CombinationsGeneratorBenchmarkTask(new RosenIterator.Factory(
                 N, K)));
+        benchmark.addTask("Cool-lex" + cnk, new CombinationsGeneratorBenchmarkTask(new CoolLexIterator.Factory(
+                N, K)));
         benchmark.benchmarkAll();
         for (final Task task : benchmark.getTasks()) {
             printResult(task);
@@ -45,7 +45,7 @@ public class CompareNKGenerators implements Runnable {
         final NKGeneratorFactory factoradicFactory = new NKGeneratorFactory() {
 
             public Iterable<int[]> generator(final int n, final int k) {
-                return new FactoradicPnkGenerator(n, k);
+                return GeneratorBenchmark.unranking(new FactoradicPnkGenerator(n, k));
             }
         };
         final float[][] factoradic = collectTimings("Factoradic", factoradicFactory);
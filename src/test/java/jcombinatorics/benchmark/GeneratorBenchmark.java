@@ -11,6 +11,9 @@
  */
 package jcombinatorics.benchmark;
 
+import java.util.Iterator;
+
+import jcombinatorics.Generator;
 import jcombinatorics.permutations.Permutations;
 
 /**
@@ -48,6 +51,21 @@ public class GeneratorBenchmark extends PermutatedOrderBenchmark {
         addTask(generatorName, bench);
     }
 
+    /**
+     * Returns an {@link Iterable} that computes every item directly with {@link Generator#get(long)}.
+     *
+     * @param generator
+     *        the generator
+     * @return an {@link Iterable} that returns a {@link Generator.ForwardIterator}
+     */
+    public static Iterable<int[]> unranking(final Generator<int[]> generator) {
+        return new Iterable<int[]>() {
+            public Iterator<int[]> iterator() {
+                return new Generator.ForwardIterator<int[]>(generator);
+            }
+        };
+    }
+
     /**
      *
      */
@@ -0,0 +1,98 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.benchmark;
+
+import static java.lang.String.format;
+
+import java.util.SplittableRandom;
+import java.util.function.ToLongFunction;
+
+import jcombinatorics.permutations.FactoradicPnGenerator;
+import jcombinatorics.permutations.Permutations;
+
+/**
+ * Compares drawing random permutations directly against unranking a random <code>long</code> through
+ * {@link FactoradicPnGenerator#get(long, int[])}, and a sequential against a parallel sample stream.
+ *
+ * @author Alistair A. Israel
+ */
+public class SamplingBenchmark implements Runnable {
+
+    private static final int N = 20;
+
+    private static final int SAMPLES = 2000000;
+
+    private static final long SEED = 42;
+
+    private static final ToLongFunction<int[]> FIRST = new ToLongFunction<int[]>() {
+        public long applyAsLong(final int[] a) {
+            return a[0];
+        }
+    };
+
+    private long checksum;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.lang.Runnable#run()
+     */
+    public final void run() {
+        final Permutations.Permuter permuter = Permutations.permute(N, N);
+        final FactoradicPnGenerator factoradic = new FactoradicPnGenerator(N);
+        final Benchmark benchmark = new Benchmark("P(" + N + ") sampling benchmark");
+        for (int rep = 0; rep < 3; ++rep) {
+            benchmark.bench("Fisher-Yates", new Runnable() {
+                public void run() {
+                    final SplittableRandom random = new SplittableRandom(SEED);
+                    final int[] a = new int[N];
+                    for (int i = 0; i < SAMPLES; ++i) {
+                        checksum += permuter.sample(random, a)[0];
+                    }
+                }
+            });
+            benchmark.bench("Factoradic unranking", new Runnable() {
+                public void run() {
+                    final SplittableRandom random = new SplittableRandom(SEED);
+                    final long count = factoradic.count();
+                    final int[] a = new int[N];
+                    for (int i = 0; i < SAMPLES; ++i) {
+                        checksum += factoradic.get(random.nextLong(count), a)[0];
+                    }
+                }
+            });
+            benchmark.bench("Sequential stream", new Runnable() {
+                public void run() {
+                    checksum += permuter.samples(SAMPLES, new SplittableRandom(SEED)).mapToLong(FIRST).sum();
+                }
+            });
+            benchmark.bench("Parallel stream", new Runnable() {
+                public void run() {
+                    checksum += permuter.parallelSamples(SAMPLES, new SplittableRandom(SEED)).mapToLong(FIRST).sum();
+                }
+            });
+            for (final Benchmark.Result result : benchmark.getResults()) {
+                final float ms = result.getNanos() / 1000000.f;
+                System.out.println(format("%s : %,1.2fms", result.getName(), ms));
+            }
+        }
+        System.out.println("(checksum " + checksum + ")");
+    }
+
+    /**
+     * @param args
+     *        String[]
+     */
+    public static void main(final String[] args) {
+        new SamplingBenchmark().run();
+    }
+}
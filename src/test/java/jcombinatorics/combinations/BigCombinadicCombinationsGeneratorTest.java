@@ -0,0 +1,115 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import jcombinatorics.BigGenerator;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link BigCombinadicCombinationsGenerator}.
+ *
+ * @author Alistair A. Israel
+ */
+public final class BigCombinadicCombinationsGeneratorTest {
+
+    /**
+     * Compare against {@link RosenIterator} where the count fits in a <code>long</code>.
+     */
+    @Test
+    public void testCompareWithRosen() {
+        for (int n = 1; n < 10; ++n) {
+            for (int k = 0; k <= n; ++k) {
+                final BigCombinadicCombinationsGenerator generator = new BigCombinadicCombinationsGenerator(n, k);
+                assertEquals(BigInteger.valueOf(Combinations.count(n, k)), generator.count());
+                final RosenIterator iter = new RosenIterator(n, k);
+                long l = 0;
+                while (iter.hasNext()) {
+                    final int[] expected = iter.next();
+                    final BigInteger i = BigInteger.valueOf(l);
+                    assertArrayEquals(format("C(%d,%d)[%d]", n, k, l), expected, generator.get(i));
+                    assertEquals(i, generator.rank(expected));
+                    ++l;
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for {@link Combinations#chooseBig(int, int)}, through the {@link BigGenerator} interface.
+     */
+    @Test
+    public void testChooseBig() {
+        final BigGenerator<int[]> generator = Combinations.chooseBig(80, 40);
+        final Random random = new Random(80);
+        for (int t = 0; t < 100; ++t) {
+            final BigInteger i = new BigInteger(generator.count().bitLength(), random).mod(generator.count());
+            assertEquals(i, generator.rank(generator.get(i)));
+        }
+    }
+
+    /**
+     * Test for C(100, 50), which is &gt; {@link Long#MAX_VALUE}.
+     */
+    @Test
+    public void testC100x50() {
+        final BigCombinadicCombinationsGenerator generator = new BigCombinadicCombinationsGenerator(100, 50);
+        assertEquals(new BigInteger("100891344545564193334812497256"), generator.count());
+        final int[] first = new int[50];
+        final int[] last = new int[50];
+        for (int i = 0; i < 50; ++i) {
+            first[i] = i;
+            last[i] = 50 + i;
+        }
+        assertArrayEquals(first, generator.get(BigInteger.ZERO));
+        assertArrayEquals(last, generator.get(generator.count().subtract(BigInteger.ONE)));
+        final Random random = new Random(100);
+        final int[] a = new int[50];
+        for (int t = 0; t < 100; ++t) {
+            final BigInteger i = new BigInteger(generator.count().bitLength(), random).mod(generator.count());
+            generator.get(i, a);
+            assertEquals(i, generator.rank(a));
+            // the next combination is the lexicographic successor
+            if (i.add(BigInteger.ONE).compareTo(generator.count()) < 0) {
+                assertArrayEquals(successor(a, 100), generator.get(i.add(BigInteger.ONE)));
+            }
+        }
+    }
+
+    /**
+     * @param a
+     *        a combination
+     * @param n
+     *        the number of elements
+     * @return the next combination in lexicographic order
+     */
+    private static int[] successor(final int[] a, final int n) {
+        final int[] b = a.clone();
+        final int k = b.length;
+        int i = k - 1;
+        while (b[i] == n - k + i) {
+            --i;
+        }
+        ++b[i];
+        for (int j = i + 1; j < k; ++j) {
+            b[j] = b[i] + j - i;
+        }
+        return b;
+    }
+}
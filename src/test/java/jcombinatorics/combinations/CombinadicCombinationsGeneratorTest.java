@@ -13,8 +13,13 @@ package jcombinatorics.combinations;
 
 import static java.lang.String.format;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 
+import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.Iterator;
 
 import org.junit.Test;
 
@@ -59,6 +64,19 @@ public final class CombinadicCombinationsGeneratorTest {
         }
     }
 
+    /**
+     * Test for {@link CombinadicCombinationsGenerator#get(long, int[])}.
+     */
+    @Test
+    public void testGetIntoArray() {
+        final CombinadicCombinationsGenerator generator = new CombinadicCombinationsGenerator(5, 3);
+        final int[] a = new int[3];
+        for (int i = 0; i < C_5_3.length; ++i) {
+            assertSame(a, generator.get(i, a));
+            assertArrayEquals(C_5_3[i], a);
+        }
+    }
+
     /**
      *
      */
@@ -78,4 +96,114 @@ public final class CombinadicCombinationsGeneratorTest {
         }
     }
 
+
+    /**
+     * Test for {@link CombinadicCombinationsGenerator#iterator(long, long)}.
+     */
+    @Test
+    public void testIteratorRange() {
+        final CombinadicCombinationsGenerator generator = new CombinadicCombinationsGenerator(5, 3);
+        for (int from = 0; from < C_5_3.length; ++from) {
+            for (int to = from; to <= C_5_3.length; ++to) {
+                final Iterator<int[]> iter = generator.iterator(from, to);
+                for (int i = from; i < to; ++i) {
+                    assertArrayEquals(format("C(5,3)[%d]", i), C_5_3[i], iter.next());
+                }
+                assertFalse(iter.hasNext());
+            }
+        }
+    }
+
+    /**
+     * Test for {@link CombinadicCombinationsGenerator#rank(int[])}, against the order of {@link RosenIterator}.
+     */
+    @Test
+    public void testRank() {
+        for (int n = 1; n < 10; ++n) {
+            for (int k = 0; k <= n; ++k) {
+                final CombinadicCombinationsGenerator generator = new CombinadicCombinationsGenerator(n, k);
+                long l = 0;
+                final RosenIterator iter = new RosenIterator(n, k);
+                while (iter.hasNext()) {
+                    assertEquals(format("C(%d,%d)[%d]", n, k, l), l, generator.rank(iter.next()));
+                    ++l;
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for {@link CombinadicCombinationsGenerator#rank(int[], long[])}.
+     */
+    @Test
+    public void testRankBatch() {
+        final CombinadicCombinationsGenerator generator = new CombinadicCombinationsGenerator(5, 3);
+        final int[] flat = new int[C_5_3.length * 3];
+        for (int i = 0; i < C_5_3.length; ++i) {
+            // in reverse order
+            System.arraycopy(C_5_3[i], 0, flat, (C_5_3.length - 1 - i) * 3, 3);
+        }
+        final long[] ranks = generator.rank(flat, new long[C_5_3.length]);
+        for (int i = 0; i < C_5_3.length; ++i) {
+            assertEquals(C_5_3.length - 1 - i, ranks[i]);
+        }
+    }
+
+    /**
+     * Test for {@link CombinadicCombinationsGenerator#rank(int[])} with elements not in ascending order.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRankUnordered() {
+        new CombinadicCombinationsGenerator(5, 3).rank(new int[] { 0, 3, 2 });
+    }
+
+    /**
+     * Test for {@link CombinadicCombinationsGenerator#get(long)} where intermediate binomials are large, against
+     * {@link BigCombinadicCombinationsGenerator}.
+     */
+    @Test
+    public void testGetLarge() {
+        final int[][] nk = { { 40, 20 }, { 60, 30 }, { 66, 33 }, { 200, 5 } };
+        for (final int[] p : nk) {
+            final CombinadicCombinationsGenerator generator = new CombinadicCombinationsGenerator(p[0], p[1]);
+            final BigCombinadicCombinationsGenerator big = new BigCombinadicCombinationsGenerator(p[0], p[1]);
+            final long count = generator.count();
+            assertEquals(big.count(), BigInteger.valueOf(count));
+            final long[] indices = { 0, 1, count / 3, count / 2, count - 2, count - 1 };
+            for (final long l : indices) {
+                final int[] a = generator.get(l);
+                assertArrayEquals(big.get(BigInteger.valueOf(l)), a);
+                assertEquals(l, generator.rank(a));
+            }
+        }
+    }
+
+    /**
+     * Test that a generator whose count exceeds {@link Long#MAX_VALUE} can't be created.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testCountOverflow() {
+        new CombinadicCombinationsGenerator(68, 34);
+    }
+
+    /**
+     * Test for {@link CombinadicCombinationsGenerator#getBlock(long, int, int[])}.
+     */
+    @Test
+    public void testGetBlock() {
+        for (int n = 1; n < 8; ++n) {
+            for (int k = 1; k <= n; ++k) {
+                final CombinadicCombinationsGenerator generator = new CombinadicCombinationsGenerator(n, k);
+                final long count = generator.count();
+                final int[] block = new int[k * 3];
+                for (long from = 0; from <= count - 3; ++from) {
+                    generator.getBlock(from, 3, block);
+                    for (int j = 0; j < 3; ++j) {
+                        assertArrayEquals(format("C(%d,%d)[%d]", n, k, from + j), generator.get(from + j),
+                                Arrays.copyOfRange(block, j * k, j * k + k));
+                    }
+                }
+            }
+        }
+    }
 }
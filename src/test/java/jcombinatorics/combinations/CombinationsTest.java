@@ -16,6 +16,18 @@ import static jcombinatorics.util.MathUtils.factorial;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import jcombinatorics.permutations.Permutations;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jcombinatorics.IntArrayVisitor;
 import jcombinatorics.util.MathUtils;
 
 import org.junit.Test;
@@ -54,6 +66,9 @@ public final class CombinationsTest {
     public void testChooseIntInt() {
         final int[] expected = { 1, 2, 4 };
         assertArrayEquals(expected, Combinations.choose(5, 3).get(7));
+        assertArrayEquals(expected, Combinations.choose(5, 3).get(7, new int[3]));
+        assertEquals(7, Combinations.choose(5, 3).rank(expected));
+        assertEquals(C_5_3.length, Combinations.choose(5, 3).count());
         int i = 0;
         for (final int[] actual : Combinations.choose(5, 3)) {
             assertArrayEquals(C_5_3[i], actual);
@@ -61,6 +76,23 @@ public final class CombinationsTest {
         }
     }
 
+    /**
+     * Test for {@link Combinations.Chooser#parallelStream()}.
+     */
+    @Test
+    public void testChooseParallelStream() {
+        final List<int[]> actual = Combinations.choose(5, 3).parallelStream().map(new Function<int[], int[]>() {
+            public int[] apply(final int[] a) {
+                return a.clone();
+            }
+        }).collect(Collectors.<int[]> toList());
+        assertEquals(C_5_3.length, actual.size());
+        for (int i = 0; i < C_5_3.length; ++i) {
+            assertArrayEquals(C_5_3[i], actual.get(i));
+        }
+        assertEquals(Combinations.count(20, 10), Combinations.choose(20, 10).parallelStream().count());
+    }
+
     /**
      * Test for {@link Combinations#of(Object...)}.
      */
@@ -89,4 +121,142 @@ public final class CombinationsTest {
         }
         return sb.toString();
     }
+
+    /**
+     * Test for {@link Combinations.Chooser#visitAll(IntArrayVisitor)}, including stopping early.
+     */
+    @Test
+    public void testChooseVisitAll() {
+        final Combinations.Chooser chooser = Combinations.choose(6, 3);
+        final long[] l = { 0 };
+        assertEquals(true, chooser.visitAll(new IntArrayVisitor() {
+            public boolean visit(final int[] a) {
+                assertArrayEquals(chooser.get(l[0]++), a);
+                return true;
+            }
+        }));
+        assertEquals(chooser.count(), l[0]);
+
+        l[0] = 0;
+        assertEquals(false, chooser.visitAll(new IntArrayVisitor() {
+            public boolean visit(final int[] a) {
+                return ++l[0] < 5;
+            }
+        }));
+        assertEquals(5, l[0]);
+    }
+
+    /**
+     * Test for {@link Combinations.Chooser#parallelVisitAll(IntArrayVisitor)}.
+     */
+    @Test
+    public void testChooseParallelVisitAll() {
+        final Combinations.Chooser chooser = Combinations.choose(20, 6);
+        final boolean[] seen = new boolean[(int) chooser.count()];
+        assertEquals(true, chooser.parallelVisitAll(new IntArrayVisitor() {
+            public boolean visit(final int[] a) {
+                seen[(int) chooser.rank(a)] = true;
+                return true;
+            }
+        }));
+        for (int i = 0; i < seen.length; ++i) {
+            assertEquals(true, seen[i]);
+        }
+    }
+
+    /**
+     * Test for {@link Combinations.Chooser#parallelReduce(Object, BiFunction, BinaryOperator)}, which should combine the partial
+     * results in order.
+     */
+    @Test
+    public void testChooseParallelReduce() {
+        final Combinations.Chooser chooser = Combinations.choose(12, 4);
+        final List<String> expected = chooser.stream().map(new Function<int[], String>() {
+            public String apply(final int[] a) {
+                return Arrays.toString(a);
+            }
+        }).collect(Collectors.<String> toList());
+        final List<String> actual = chooser.parallelReduce(Collections.<String> emptyList(),
+                new BiFunction<List<String>, int[], List<String>>() {
+                    public List<String> apply(final List<String> r, final int[] a) {
+                        final List<String> list = new ArrayList<String>(r);
+                        list.add(Arrays.toString(a));
+                        return list;
+                    }
+                }, new BinaryOperator<List<String>>() {
+                    public List<String> apply(final List<String> x, final List<String> y) {
+                        final List<String> list = new ArrayList<String>(x);
+                        list.addAll(y);
+                        return list;
+                    }
+                });
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * Test that {@link Combinations.Chooser#sample(SplittableRandom, int[])} draws every combination about equally often, both when
+     * it uses Floyd's algorithm and when it uses selection sampling.
+     */
+    @Test
+    public void testChooseSample() {
+        final int[][] nks = { { 6, 3 }, { 10, 2 }, { 8, 7 }, { 5, 0 }, { 5, 5 } };
+        final SplittableRandom random = new SplittableRandom(42);
+        for (final int[] nk : nks) {
+            final Combinations.Chooser chooser = Combinations.choose(nk[0], nk[1]);
+            final int count = (int) chooser.count();
+            final int[] counts = new int[count];
+            final int[] a = new int[nk[1]];
+            for (int i = 0; i < 2000 * count; ++i) {
+                ++counts[(int) chooser.rank(chooser.sample(random, a))];
+            }
+            for (final int c : counts) {
+                assertEquals(format("C(%d, %d)", nk[0], nk[1]), 2000, c, 250);
+            }
+        }
+    }
+
+    /**
+     * Test for {@link Combinations.Chooser#parallelSamples(long, SplittableRandom)}, and that the same seed gives the same sequential
+     * samples.
+     */
+    @Test
+    public void testChooseSamples() {
+        final Combinations.Chooser chooser = Combinations.choose(30, 4);
+        assertEquals(50000, chooser.parallelSamples(50000, new SplittableRandom(3)).count());
+        final Function<int[], String> toString = new Function<int[], String>() {
+            public String apply(final int[] a) {
+                return Arrays.toString(a);
+            }
+        };
+        final List<String> first = chooser.samples(100, new SplittableRandom(3)).map(toString).collect(Collectors.<String> toList());
+        final List<String> second = chooser.samples(100, new SplittableRandom(3)).map(toString).collect(Collectors.<String> toList());
+        assertEquals(first, second);
+        final int[] a = Combinations.sampler(1 << 30, 1000).sample(new SplittableRandom(3));
+        for (int i = 1; i < a.length; ++i) {
+            assertEquals(true, a[i - 1] < a[i]);
+        }
+    }
+
+    /**
+     * Test for {@link Combinations.Chooser#sample(long, SplittableRandom)}, which should return distinct combinations in order, the same
+     * as computing each directly.
+     */
+    @Test
+    public void testChooseSampleWithoutReplacement() {
+        final Combinations.Chooser chooser = Combinations.choose(20, 6);
+        for (final long m : new long[] { 0, 1, 100, 10000, chooser.count() }) {
+            final Iterator<int[]> iter = chooser.sample(m, new SplittableRandom(m));
+            long previous = -1;
+            long n = 0;
+            while (iter.hasNext()) {
+                final int[] a = iter.next();
+                final long l = chooser.rank(a);
+                assertEquals(true, l > previous);
+                assertArrayEquals(chooser.get(l), a);
+                previous = l;
+                ++n;
+            }
+            assertEquals(m, n);
+        }
+    }
 }
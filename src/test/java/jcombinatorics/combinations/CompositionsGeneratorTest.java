@@ -0,0 +1,157 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link CompositionsGenerator} and {@link CompositionIterator}.
+ *
+ * @author Alistair A. Israel
+ */
+public final class CompositionsGeneratorTest {
+
+    /**
+     * Compositions into positive parts should be counted by <code>C(n - 1, k - 1)</code>, and the iterator should reuse its array.
+     */
+    @Test
+    public void testPositiveParts() {
+        for (int n = 1; n < 10; ++n) {
+            for (int k = 1; k <= n; ++k) {
+                final CompositionsGenerator generator = Partitions.compositionsOf(n, k);
+                assertEquals(Combinations.count(n - 1, k - 1), generator.count());
+                check(n, k, filled(k, 1), filled(k, n), generator);
+            }
+        }
+        final Iterator<int[]> iter = Partitions.compositionsOf(6, 3).iterator();
+        assertSame(iter.next(), iter.next());
+    }
+
+    /**
+     * Compositions with random bounds should match a brute force enumeration, whether or not the upper bounds get in the way.
+     */
+    @Test
+    public void testRandomBounds() {
+        final Random random = new Random(42);
+        for (int trial = 0; trial < 200; ++trial) {
+            final int k = random.nextInt(5);
+            final int[] lower = new int[k];
+            final int[] upper = new int[k];
+            for (int i = 0; i < k; ++i) {
+                lower[i] = random.nextInt(3);
+                upper[i] = lower[i] + random.nextInt(6);
+            }
+            final int n = random.nextInt(12);
+            check(n, k, lower, upper, Partitions.compositionsOf(n, k, lower, upper));
+        }
+    }
+
+    /**
+     * Weak compositions, with no upper bounds in the way, go through the combinadic mapping.
+     */
+    @Test
+    public void testWeakCompositions() {
+        final int[] lower = new int[4];
+        final int[] upper = filled(4, 7);
+        final CompositionsGenerator generator = Partitions.compositionsOf(7, 4, lower, upper);
+        assertEquals(Combinations.count(10, 3), generator.count());
+        check(7, 4, lower, upper, generator);
+    }
+
+    /**
+     * Ranking should be rejected when no composition meets the bounds at all.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRankNoCompositions() {
+        Partitions.compositionsOf(5, 2, filled(2, 1), filled(2, 2)).rank(new int[] { 2, 2 });
+    }
+
+    /**
+     * @param n
+     *            the number to compose
+     * @param k
+     *            the number of parts
+     * @param lower
+     *            the lower bounds
+     * @param upper
+     *            the upper bounds
+     * @param generator
+     *            the {@link CompositionsGenerator} to check
+     */
+    private static void check(final int n, final int k, final int[] lower, final int[] upper, final CompositionsGenerator generator) {
+        final List<int[]> expected = new ArrayList<int[]>();
+        bruteForce(n, lower, upper, new int[k], 0, expected);
+        final String bounds = Arrays.toString(lower) + ".." + Arrays.toString(upper);
+        assertEquals(format("n = %d, %s", n, bounds), expected.size(), generator.count());
+        final Iterator<int[]> iter = generator.iterator();
+        for (int l = 0; l < expected.size(); ++l) {
+            final String message = format("n = %d, %s [%d]", n, bounds, l);
+            final int[] a = iter.next();
+            assertArrayEquals(message, expected.get(l), a);
+            assertArrayEquals(message, a, generator.get(l));
+            assertEquals(message, l, generator.rank(a));
+        }
+        assertEquals(false, iter.hasNext());
+    }
+
+    /**
+     * @param m
+     *            the sum left
+     * @param lower
+     *            the lower bounds
+     * @param upper
+     *            the upper bounds
+     * @param a
+     *            the parts so far
+     * @param i
+     *            the next part
+     * @param result
+     *            receives every composition, in lexicographic order
+     */
+    private static void bruteForce(final int m, final int[] lower, final int[] upper, final int[] a, final int i,
+            final List<int[]> result) {
+        if (i == a.length) {
+            if (m == 0) {
+                result.add(a.clone());
+            }
+            return;
+        }
+        for (int x = lower[i]; x <= Math.min(upper[i], m); ++x) {
+            a[i] = x;
+            bruteForce(m - x, lower, upper, a, i + 1, result);
+        }
+    }
+
+    /**
+     * @param k
+     *            the length
+     * @param value
+     *            the value
+     * @return an array of <code>k</code> copies of <code>value</code>
+     */
+    private static int[] filled(final int k, final int value) {
+        final int[] a = new int[k];
+        Arrays.fill(a, value);
+        return a;
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link CoolLexIterator}.
+ *
+ * @author Alistair A. Israel
+ */
+public final class CoolLexIteratorTest {
+
+    private static final int[][] C_5_3 = { { 0, 1, 2 }, { 1, 2, 3 }, { 0, 2, 3 }, { 0, 1, 3 }, { 1, 2, 4 }, { 0, 2, 4 },
+            { 1, 3, 4 }, { 2, 3, 4 }, { 0, 3, 4 }, { 0, 1, 4 } };
+
+    /**
+     * Compare against C(5,3) in cool-lex order.
+     */
+    @Test
+    public void testGenerateC53() {
+        final CoolLexIterator iter = new CoolLexIterator(5, 3);
+        for (int i = 0; i < C_5_3.length; ++i) {
+            final int[] a = iter.next().clone();
+            Arrays.sort(a);
+            assertArrayEquals(C_5_3[i], a);
+        }
+        assertEquals(false, iter.hasNext());
+    }
+
+    /**
+     * Every combination should be generated exactly once, with at most two elements changing, in place, each time.
+     */
+    @Test
+    public void testAllCombinations() {
+        for (int n = 1; n < 11; ++n) {
+            for (int k = 0; k <= n; ++k) {
+                final Set<String> seen = new HashSet<String>();
+                int[] previous = null;
+                for (final int[] a : new CoolLexIterator.Factory(n, k)) {
+                    final String message = format("C(%d,%d)[%d] %s", n, k, seen.size(), Arrays.toString(a));
+                    if (previous != null) {
+                        int changed = 0;
+                        for (int i = 0; i < k; ++i) {
+                            if (a[i] != previous[i]) {
+                                ++changed;
+                            }
+                        }
+                        assertEquals(message, true, changed <= 2);
+                    }
+                    previous = a.clone();
+                    final int[] sorted = a.clone();
+                    Arrays.sort(sorted);
+                    for (int i = 0; i < k; ++i) {
+                        assertEquals(message, true, sorted[i] >= 0 && sorted[i] < n && (i == 0 || sorted[i] > sorted[i - 1]));
+                    }
+                    seen.add(Arrays.toString(sorted));
+                }
+                assertEquals(Combinations.count(n, k), seen.size());
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link IntegerPartitionsGenerator} and {@link IntegerPartitionIterator}.
+ *
+ * @author Alistair A. Israel
+ */
+public final class IntegerPartitionsGeneratorTest {
+
+    private static final int[][] P_5 = { { 5, 0, 0, 0, 0 }, { 4, 1, 0, 0, 0 }, { 3, 2, 0, 0, 0 }, { 3, 1, 1, 0, 0 },
+            { 2, 2, 1, 0, 0 }, { 2, 1, 1, 1, 0 }, { 1, 1, 1, 1, 1 } };
+
+    /**
+     * Compare against the partitions of 5.
+     */
+    @Test
+    public void testGenerateP5() {
+        final IntegerPartitionsGenerator generator = Partitions.ofInteger(5);
+        assertEquals(P_5.length, generator.count());
+        assertEquals(P_5.length, Partitions.countOfInteger(5));
+        int i = 0;
+        for (final int[] a : generator) {
+            assertArrayEquals(P_5[i], a);
+            assertArrayEquals(P_5[i], generator.get(i));
+            assertEquals(i, generator.rank(P_5[i]));
+            ++i;
+        }
+        assertEquals(P_5.length, i);
+    }
+
+    /**
+     * All partitions, and those with bounded parts, should match a brute force enumeration in reverse lexicographic order.
+     */
+    @Test
+    public void testAgainstBruteForce() {
+        for (int n = 0; n < 13; ++n) {
+            for (int maxPart = 0; maxPart <= n + 1; ++maxPart) {
+                final List<int[]> expected = new ArrayList<int[]>();
+                bruteForce(n, maxPart, new int[n], 0, expected);
+                final IntegerPartitionsGenerator generator = IntegerPartitionsGenerator.withMaxPart(n, maxPart);
+                assertEquals(expected.size(), generator.count());
+                final Iterator<int[]> iter = generator.iterator();
+                for (int l = 0; l < expected.size(); ++l) {
+                    final String message = format("p(%d, %d)[%d]", n, maxPart, l);
+                    final int[] a = iter.next();
+                    assertArrayEquals(message, expected.get(l), a);
+                    assertArrayEquals(message, a, generator.get(l));
+                    assertEquals(message, l, generator.rank(a));
+                }
+                assertEquals(false, iter.hasNext());
+            }
+        }
+    }
+
+    /**
+     * @param m
+     *            the sum left
+     * @param v
+     *            the largest part allowed
+     * @param a
+     *            the parts so far
+     * @param i
+     *            the number of parts so far
+     * @param result
+     *            receives every partition, in reverse lexicographic order
+     */
+    private static void bruteForce(final int m, final int v, final int[] a, final int i, final List<int[]> result) {
+        if (m == 0) {
+            result.add(a.clone());
+            return;
+        }
+        for (int w = Math.min(v, m); w > 0; --w) {
+            a[i] = w;
+            bruteForce(m - w, w, a, i + 1, result);
+            a[i] = 0;
+        }
+    }
+
+    /**
+     * Partitions into exactly <code>k</code> parts should each have <code>k</code> parts, all be distinct, and agree with
+     * {@link IntegerPartitionsGenerator#get(long)} and {@link IntegerPartitionsGenerator#rank(int[])}.
+     */
+    @Test
+    public void testIntoParts() {
+        for (int n = 0; n < 13; ++n) {
+            long total = 0;
+            for (int k = 0; k <= n + 1; ++k) {
+                final IntegerPartitionsGenerator generator = Partitions.ofInteger(n, k);
+                assertEquals(k, generator.length());
+                final Set<String> seen = new HashSet<String>();
+                long l = 0;
+                for (final int[] a : generator) {
+                    final String message = format("p(%d, k = %d)[%d] %s", n, k, l, Arrays.toString(a));
+                    int sum = 0;
+                    for (int j = 0; j < k; ++j) {
+                        assertEquals(message, true, a[j] > 0);
+                        assertEquals(message, true, j == 0 || a[j] <= a[j - 1]);
+                        sum += a[j];
+                    }
+                    assertEquals(message, n, sum);
+                    assertEquals(message, true, seen.add(Arrays.toString(a)));
+                    assertArrayEquals(message, a, generator.get(l));
+                    assertEquals(message, l, generator.rank(a));
+                    ++l;
+                }
+                assertEquals(generator.count(), l);
+                total += l;
+            }
+            assertEquals(Partitions.countOfInteger(n), total);
+        }
+    }
+
+    /**
+     * The multiplicity form should describe the same partitions as the arrays of parts, both with and without conjugating.
+     */
+    @Test
+    public void testPartVisitor() {
+        final IntegerPartitionsGenerator[] generators = { Partitions.ofInteger(15), Partitions.ofInteger(15, 4) };
+        for (final IntegerPartitionsGenerator generator : generators) {
+            final Iterator<int[]> iter = generator.iterator();
+            assertEquals(true, generator.visitAll(new IntegerPartitionIterator.PartVisitor() {
+                public boolean visit(final int[] values, final int[] multiplicities, final int distinct) {
+                    final int[] a = new int[generator.length()];
+                    int j = 0;
+                    for (int t = 0; t < distinct; ++t) {
+                        assertEquals(true, t == 0 || values[t] < values[t - 1]);
+                        for (int i = 0; i < multiplicities[t]; ++i, ++j) {
+                            a[j] = values[t];
+                        }
+                    }
+                    assertArrayEquals(iter.next(), a);
+                    return true;
+                }
+            }));
+            assertEquals(false, iter.hasNext());
+        }
+    }
+
+    /**
+     * {@link IntegerPartitionIterator#next()} should carry on where {@link IntegerPartitionIterator#visitAll(
+     * IntegerPartitionIterator.PartVisitor)} stopped.
+     */
+    @Test
+    public void testNextAfterPartVisitor() {
+        final IntegerPartitionsGenerator generator = Partitions.ofInteger(12);
+        final IntegerPartitionIterator iter = new IntegerPartitionIterator(generator, 10, 40);
+        final int[] visited = { 0 };
+        assertEquals(false, iter.visitAll(new IntegerPartitionIterator.PartVisitor() {
+            public boolean visit(final int[] values, final int[] multiplicities, final int distinct) {
+                return ++visited[0] < 7;
+            }
+        }));
+        assertArrayEquals(generator.get(17), iter.next());
+    }
+
+    /**
+     * Parts must not be larger than the ones before.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRankOutOfOrder() {
+        Partitions.ofInteger(6).rank(new int[] { 2, 3, 1, 0, 0, 0 });
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertEquals;
+
+import java.util.function.LongConsumer;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link MaskCombinationsGenerator} and {@link GosperMaskIterator}.
+ *
+ * @author Alistair A. Israel
+ */
+public final class MaskCombinationsGeneratorTest {
+
+    /**
+     * @param a
+     *            a combination
+     * @return the combination as a bitmask
+     */
+    private static long toMask(final int[] a) {
+        long mask = 0;
+        for (final int c : a) {
+            mask |= 1L << c;
+        }
+        return mask;
+    }
+
+    /**
+     * {@link GosperMaskIterator} should return the same combinations as {@link RosenIterator}, and {@link MaskCombinationsGenerator}
+     * should index them the same way.
+     */
+    @Test
+    public void testCompareWithRosenIterator() {
+        for (int n = 0; n < 10; ++n) {
+            for (int k = 0; k <= n; ++k) {
+                final MaskCombinationsGenerator generator = Combinations.chooseMasks(n, k);
+                final RosenIterator rosen = new RosenIterator(n, k);
+                final GosperMaskIterator iter = generator.iterator();
+                long l = 0;
+                while (rosen.hasNext()) {
+                    final long expected = toMask(rosen.next());
+                    assertEquals(format("C(%d,%d)[%d]", n, k, l), expected, iter.nextLong());
+                    assertEquals(expected, generator.get(l));
+                    assertEquals(l, generator.rank(expected));
+                    ++l;
+                }
+                assertEquals(false, iter.hasNext());
+                assertEquals(generator.count(), l);
+            }
+        }
+    }
+
+    /**
+     * Test combinations that use the sign bit, against {@link CombinadicCombinationsGenerator}.
+     */
+    @Test
+    public void testN64() {
+        final int[] ks = { 1, 2, 5, 32, 63, 64 };
+        for (final int k : ks) {
+            final MaskCombinationsGenerator generator = Combinations.chooseMasks(64, k);
+            final CombinadicCombinationsGenerator combinadic = new CombinadicCombinationsGenerator(64, k);
+            final long count = generator.count();
+            final long from = Math.max(0, count - 100);
+            final GosperMaskIterator iter = generator.iterator(from, count);
+            for (long l = from; l < count; ++l) {
+                final long mask = iter.nextLong();
+                assertEquals(toMask(combinadic.get(l)), mask);
+                assertEquals(l, generator.rank(mask));
+            }
+            assertEquals(false, iter.hasNext());
+        }
+    }
+
+    /**
+     * Test {@link MaskCombinationsGenerator#forEach(LongConsumer)} and streams.
+     */
+    @Test
+    public void testForEachAndStream() {
+        final MaskCombinationsGenerator generator = Combinations.chooseMasks(20, 7);
+        final long[] l = { 0 };
+        generator.forEach(new LongConsumer() {
+            public void accept(final long mask) {
+                assertEquals(l[0], generator.rank(mask));
+                ++l[0];
+            }
+        });
+        assertEquals(generator.count(), l[0]);
+        assertEquals(generator.count(), generator.stream().distinct().count());
+        assertEquals(generator.stream().sum(), generator.parallelStream().sum());
+        final long[] sequential = generator.stream().toArray();
+        final long[] parallel = generator.parallelStream().toArray();
+        for (int i = 0; i < sequential.length; ++i) {
+            assertEquals(sequential[i], parallel[i]);
+            assertEquals(i, generator.rank(parallel[i]));
+        }
+    }
+
+    /**
+     * Mask with the wrong number of bits.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRankWrongBitCount() {
+        Combinations.chooseMasks(10, 3).rank(0x3L);
+    }
+
+    /**
+     * Mask with a bit out of range.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRankOutOfRange() {
+        Combinations.chooseMasks(10, 3).rank(0x403L);
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jcombinatorics.IntArrayVisitor;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link MultichooseGenerator} and {@link MultichooseIterator}.
+ *
+ * @author Alistair A. Israel
+ */
+public final class MultichooseGeneratorTest {
+
+    private static final int[][] M_3_2 = { { 0, 0 }, { 0, 1 }, { 0, 2 }, { 1, 1 }, { 1, 2 }, { 2, 2 } };
+
+    /**
+     * Compare against multichoose(3, 2).
+     */
+    @Test
+    public void testGenerateM32() {
+        final MultichooseGenerator generator = Combinations.multichoose(3, 2);
+        assertEquals(M_3_2.length, generator.count());
+        int i = 0;
+        for (final int[] a : generator) {
+            assertArrayEquals(M_3_2[i], a);
+            assertArrayEquals(M_3_2[i], generator.get(i));
+            assertEquals(i, generator.rank(M_3_2[i]));
+            ++i;
+        }
+        assertEquals(M_3_2.length, i);
+    }
+
+    /**
+     * The iterator, {@link MultichooseGenerator#get(long)} and {@link MultichooseGenerator#rank(int[])} should agree, and every
+     * multiset should be non-decreasing and come after the one before.
+     */
+    @Test
+    public void testIteratorGetAndRank() {
+        for (int n = 1; n < 7; ++n) {
+            for (int k = 0; k < 6; ++k) {
+                final MultichooseGenerator generator = new MultichooseGenerator(n, k);
+                assertEquals(Combinations.count(n + k - 1, k), generator.count());
+                final MultichooseIterator iter = new MultichooseIterator(n, k);
+                String previous = null;
+                long l = 0;
+                while (iter.hasNext()) {
+                    final int[] a = iter.next();
+                    final String message = format("M(%d,%d)[%d] %s", n, k, l, Arrays.toString(a));
+                    for (int i = 1; i < k; ++i) {
+                        assertEquals(message, true, a[i - 1] <= a[i]);
+                    }
+                    assertArrayEquals(message, generator.get(l), a);
+                    assertEquals(message, l, generator.rank(a));
+                    final String s = Arrays.toString(a);
+                    assertEquals(message, true, previous == null || !previous.equals(s));
+                    previous = s;
+                    ++l;
+                }
+                assertEquals(generator.count(), l);
+            }
+        }
+    }
+
+    /**
+     * {@link MultichooseIterator#visitAll(IntArrayVisitor)} over a range should visit the same multisets as the generator.
+     */
+    @Test
+    public void testForEachRange() {
+        final MultichooseGenerator generator = Combinations.multichoose(5, 4);
+        final long[] l = { 17 };
+        assertEquals(true, new MultichooseIterator(5, 4, 17, 42).visitAll(new IntArrayVisitor() {
+            public boolean visit(final int[] a) {
+                assertArrayEquals(generator.get(l[0]), a);
+                ++l[0];
+                return true;
+            }
+        }));
+        assertEquals(42, l[0]);
+    }
+
+    /**
+     * A parallel stream should split by seeking, and return the same multisets in order.
+     */
+    @Test
+    public void testParallelStream() {
+        final MultichooseGenerator generator = Combinations.multichoose(8, 5);
+        final Function<int[], String> toString = new Function<int[], String>() {
+            public String apply(final int[] a) {
+                return Arrays.toString(a);
+            }
+        };
+        final List<String> sequential = generator.stream().map(toString).collect(Collectors.<String> toList());
+        final List<String> parallel = generator.parallelStream().map(toString).collect(Collectors.<String> toList());
+        assertEquals(generator.count(), sequential.size());
+        assertEquals(sequential, parallel);
+    }
+
+    /**
+     * Multisets must be non-decreasing.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRankDecreasing() {
+        Combinations.multichoose(4, 3).rank(new int[] { 1, 0, 2 });
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link RevolvingDoorCombinationsGenerator} and {@link RevolvingDoorIterator}.
+ *
+ * @author Alistair A. Israel
+ */
+public final class RevolvingDoorCombinationsGeneratorTest {
+
+    private static final int[][] C_5_3 = { { 0, 1, 2 }, { 0, 2, 3 }, { 1, 2, 3 }, { 0, 1, 3 }, { 0, 3, 4 }, { 1, 3, 4 },
+            { 2, 3, 4 }, { 0, 2, 4 }, { 1, 2, 4 }, { 0, 1, 4 } };
+
+    /**
+     * Compare against C(5,3) in revolving door order.
+     */
+    @Test
+    public void testGenerateC53() {
+        final RevolvingDoorCombinationsGenerator generator = new RevolvingDoorCombinationsGenerator(5, 3);
+        final RevolvingDoorIterator iter = new RevolvingDoorIterator(5, 3);
+        for (int i = 0; i < C_5_3.length; ++i) {
+            assertArrayEquals(C_5_3[i], iter.next());
+            assertArrayEquals(C_5_3[i], generator.get(i));
+            assertEquals(i, generator.rank(C_5_3[i]));
+        }
+        assertEquals(false, iter.hasNext());
+    }
+
+    /**
+     * Every combination should be generated exactly once, each differing from the previous by the reported element going out and
+     * coming in, and agree with {@link RevolvingDoorCombinationsGenerator}.
+     */
+    @Test
+    public void testRevolvingDoor() {
+        for (int n = 1; n < 10; ++n) {
+            for (int k = 0; k <= n; ++k) {
+                final RevolvingDoorCombinationsGenerator generator = new RevolvingDoorCombinationsGenerator(n, k);
+                final RevolvingDoorIterator iter = new RevolvingDoorIterator(n, k);
+                final Set<String> seen = new HashSet<String>();
+                Set<Integer> previous = null;
+                long l = 0;
+                while (iter.hasNext()) {
+                    final int[] a = iter.next();
+                    final String message = format("C(%d,%d)[%d] %s", n, k, l, Arrays.toString(a));
+                    assertArrayEquals(message, generator.get(l), a);
+                    assertEquals(message, l, generator.rank(a));
+                    final Set<Integer> current = new HashSet<Integer>();
+                    for (final int c : a) {
+                        current.add(c);
+                    }
+                    if (previous != null) {
+                        assertEquals(message, true, previous.remove(iter.out()));
+                        previous.add(iter.in());
+                        assertEquals(message, previous, current);
+                    }
+                    seen.add(Arrays.toString(a));
+                    previous = current;
+                    ++l;
+                }
+                assertEquals(generator.count(), seen.size());
+            }
+        }
+    }
+
+    /**
+     * Test for {@link RevolvingDoorCombinationsGenerator#iterator(long, long)}.
+     */
+    @Test
+    public void testRange() {
+        final RevolvingDoorCombinationsGenerator generator = new RevolvingDoorCombinationsGenerator(30, 6);
+        final long count = generator.count();
+        final long[] froms = { 0, 1, count / 3, count - 20 };
+        for (final long from : froms) {
+            final Iterator<int[]> iter = generator.iterator(from, from + 20);
+            for (long l = from; l < from + 20; ++l) {
+                assertArrayEquals(generator.get(l), iter.next());
+            }
+            assertEquals(false, iter.hasNext());
+        }
+    }
+
+    /**
+     * Test for {@link RevolvingDoorIterator#visitAll(RevolvingDoorIterator.DoorVisitor)}.
+     */
+    @Test
+    public void testVisitAll() {
+        final RevolvingDoorIterator expected = new RevolvingDoorIterator(8, 4);
+        final int[] count = { 0 };
+        assertEquals(true, new RevolvingDoorIterator(8, 4).visitAll(new RevolvingDoorIterator.DoorVisitor() {
+            public boolean visit(final int[] a, final int in, final int out) {
+                assertArrayEquals(expected.next(), a);
+                assertEquals(expected.in(), in);
+                assertEquals(expected.out(), out);
+                ++count[0];
+                return true;
+            }
+        }));
+        assertEquals(70, count[0]);
+    }
+}
@@ -17,6 +17,8 @@ import static org.junit.Assert.assertEquals;
 
 import java.util.Arrays;
 
+import jcombinatorics.IntArrayVisitor;
+
 import org.junit.Test;
 
 /**
@@ -46,4 +48,86 @@ public final class RosenIteratorTest {
         }
         assertEquals(EXPECTED_COUNT, count);
     }
+
+    /**
+     * Test for {@link RosenIterator#RosenIterator(int, int, long, long)}.
+     */
+    @Test
+    public void testRange() {
+        for (int n = 1; n < 8; ++n) {
+            for (int k = 1; k <= n; ++k) {
+                final CombinadicCombinationsGenerator combinadic = new CombinadicCombinationsGenerator(n, k);
+                final long count = combinadic.count();
+                for (long from = 0; from <= count; ++from) {
+                    final long to = Math.min(count, from + k + 1);
+                    final RosenIterator iter = new RosenIterator(n, k, from, to);
+                    long l = from;
+                    while (iter.hasNext()) {
+                        assertArrayEquals(format("C(%d,%d)[%d]", n, k, l), combinadic.get(l), iter.next());
+                        ++l;
+                    }
+                    assertEquals(to, l);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for {@link RosenIterator#visitAll(IntArrayVisitor)}, from the start, over a range, and after a call to
+     * {@link RosenIterator#next()}.
+     */
+    @Test
+    public void testVisitAll() {
+        for (int n = 1; n < 8; ++n) {
+            for (int k = 0; k <= n; ++k) {
+                final CombinadicCombinationsGenerator combinadic = new CombinadicCombinationsGenerator(n, k);
+                final long count = combinadic.count();
+                final long[] l = { 0 };
+                final IntArrayVisitor visitor = new IntArrayVisitor() {
+                    public boolean visit(final int[] a) {
+                        assertArrayEquals(Arrays.toString(a), combinadic.get(l[0]), a);
+                        ++l[0];
+                        return true;
+                    }
+                };
+                assertEquals(true, new RosenIterator(n, k).visitAll(visitor));
+                assertEquals(count, l[0]);
+                for (long from = 0; from < count; ++from) {
+                    final long to = Math.min(count, from + k + 1);
+                    final RosenIterator iter = new RosenIterator(n, k, from, to);
+                    l[0] = from;
+                    assertArrayEquals(combinadic.get(l[0]++), iter.next());
+                    iter.visitAll(visitor);
+                    assertEquals(to, l[0]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for {@link RosenIterator#nextBlock(int[], int)}, which should return the same sequence as
+     * {@link RosenIterator#next()} in blocks, and pick up from
+     * the end of each block.
+     */
+    @Test
+    public void testNextBlock() {
+        for (int n = 1; n < 9; ++n) {
+            for (int k = 0; k <= n; ++k) {
+                final int[] block = new int[k * 4];
+                final RosenIterator expected = new RosenIterator(n, k);
+                final RosenIterator iter = new RosenIterator(n, k);
+                int m;
+                do {
+                    m = iter.nextBlock(block, 4);
+                    for (int j = 0; j < m; ++j) {
+                        assertArrayEquals(expected.next(), Arrays.copyOfRange(block, j * k, j * k + k));
+                    }
+                    if (iter.hasNext()) {
+                        assertArrayEquals(expected.next(), iter.next());
+                    }
+                } while (m == 4);
+                assertEquals(false, expected.hasNext());
+            }
+        }
+    }
 }
@@ -0,0 +1,178 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jcombinatorics.IntArrayVisitor;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link SetPartitionsGenerator} and {@link SetPartitionIterator}.
+ *
+ * @author Alistair A. Israel
+ */
+public final class SetPartitionsGeneratorTest {
+
+    private static final int[][] P_3 = { { 0, 0, 0 }, { 0, 0, 1 }, { 0, 1, 0 }, { 0, 1, 1 }, { 0, 1, 2 } };
+
+    /**
+     * Compare against the partitions of 3 elements.
+     */
+    @Test
+    public void testGenerateP3() {
+        final SetPartitionsGenerator generator = Partitions.ofSet(3);
+        assertEquals(P_3.length, generator.count());
+        int i = 0;
+        for (final int[] a : generator) {
+            assertArrayEquals(P_3[i], a);
+            assertArrayEquals(P_3[i], generator.get(i));
+            assertEquals(i, generator.rank(P_3[i]));
+            ++i;
+        }
+        assertEquals(P_3.length, i);
+    }
+
+    /**
+     * The iterator, {@link SetPartitionsGenerator#get(long)} and {@link SetPartitionsGenerator#rank(int[])} should agree with a brute
+     * force enumeration of all the restricted growth strings, for all partitions and for partitions into exactly <code>k</code>
+     * blocks.
+     */
+    @Test
+    public void testAgainstBruteForce() {
+        for (int n = 0; n < 7; ++n) {
+            check(n, -1, Partitions.ofSet(n));
+            assertEquals(Partitions.count(n), Partitions.ofSet(n).count());
+            for (int k = 0; k <= n + 1; ++k) {
+                check(n, k, Partitions.ofSet(n, k));
+                assertEquals(Partitions.count(n, k), Partitions.ofSet(n, k).count());
+            }
+        }
+    }
+
+    /**
+     * @param n
+     *            the number of elements
+     * @param k
+     *            the number of blocks, or -1 for any
+     * @param generator
+     *            the {@link SetPartitionsGenerator} to check
+     */
+    private static void check(final int n, final int k, final SetPartitionsGenerator generator) {
+        final List<int[]> expected = bruteForce(n, k);
+        assertEquals(format("count(%d, %d)", n, k), expected.size(), generator.count());
+        final Iterator<int[]> iter = generator.iterator();
+        for (int l = 0; l < expected.size(); ++l) {
+            final String message = format("P(%d, %d)[%d]", n, k, l);
+            final int[] a = iter.next();
+            assertArrayEquals(message, expected.get(l), a);
+            assertArrayEquals(message, expected.get(l), generator.get(l));
+            assertEquals(message, l, generator.rank(a));
+        }
+        assertEquals(false, iter.hasNext());
+    }
+
+    /**
+     * @param n
+     *            the number of elements
+     * @param k
+     *            the number of blocks, or -1 for any
+     * @return every restricted growth string of length <code>n</code> with <code>k</code> blocks, in lexicographic order
+     */
+    private static List<int[]> bruteForce(final int n, final int k) {
+        final List<int[]> result = new ArrayList<int[]>();
+        final int[] a = new int[n];
+        while (true) {
+            int m = 0;
+            boolean valid = true;
+            for (int i = 0; i < n && valid; ++i) {
+                valid = a[i] <= m;
+                m = Math.max(m, a[i] + 1);
+            }
+            if (valid && (k < 0 || m == k)) {
+                result.add(a.clone());
+            }
+            int i = n - 1;
+            while (i >= 0 && a[i] == n - 1) {
+                a[i] = 0;
+                --i;
+            }
+            if (i < 0) {
+                return result;
+            }
+            ++a[i];
+        }
+    }
+
+    /**
+     * The block visitor should lay out each partition as its blocks.
+     */
+    @Test
+    public void testBlockVisitor() {
+        final SetPartitionsGenerator generator = Partitions.ofSet(5, 3);
+        final Iterator<int[]> iter = generator.iterator();
+        assertEquals(true, generator.visitAll(new SetPartitionIterator.BlockVisitor() {
+            public boolean visit(final int[] elements, final int[] offsets, final int count) {
+                final int[] a = iter.next();
+                assertEquals(3, count);
+                assertEquals(0, offsets[0]);
+                assertEquals(5, offsets[count]);
+                final int[] rgs = new int[5];
+                for (int b = 0; b < count; ++b) {
+                    for (int j = offsets[b]; j < offsets[b + 1]; ++j) {
+                        rgs[elements[j]] = b;
+                        if (j > offsets[b]) {
+                            assertEquals(true, elements[j - 1] < elements[j]);
+                        }
+                    }
+                }
+                assertEquals(Arrays.toString(a), Arrays.toString(rgs));
+                return true;
+            }
+        }));
+        assertEquals(false, iter.hasNext());
+    }
+
+    /**
+     * Parallel iteration should visit every partition once.
+     */
+    @Test
+    public void testParallelVisitAll() {
+        final SetPartitionsGenerator generator = Partitions.ofSet(10);
+        final AtomicLong sum = new AtomicLong();
+        assertEquals(true, generator.parallelVisitAll(new IntArrayVisitor() {
+            public boolean visit(final int[] a) {
+                sum.addAndGet(generator.rank(a));
+                return true;
+            }
+        }));
+        final long count = generator.count();
+        assertEquals(count * (count - 1) / 2, sum.get());
+    }
+
+    /**
+     * Restricted growth strings must not skip a block.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRankInvalid() {
+        Partitions.ofSet(4).rank(new int[] { 0, 2, 1, 0 });
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.combinations;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link WordMaskCombinationsGenerator} and {@link WordMaskIterator}.
+ *
+ * @author Alistair A. Israel
+ */
+public final class WordMaskCombinationsGeneratorTest {
+
+    /**
+     * @param n
+     *            the number of elements
+     * @param a
+     *            a combination
+     * @return the combination as a bitmask
+     */
+    private static long[] toMask(final int n, final int[] a) {
+        final long[] w = new long[WordMaskCombinationsGenerator.words(n)];
+        for (final int c : a) {
+            w[c / 64] |= 1L << (c % 64);
+        }
+        return w;
+    }
+
+    /**
+     * {@link WordMaskIterator} should return the same combinations as {@link RosenIterator}, including across word boundaries.
+     */
+    @Test
+    public void testCompareWithRosenIterator() {
+        final int[] ns = { 5, 63, 64, 65, 130 };
+        for (final int n : ns) {
+            for (int k = 0; k <= 3; ++k) {
+                final WordMaskCombinationsGenerator generator = Combinations.chooseWordMasks(n, k);
+                final RosenIterator rosen = new RosenIterator(n, k);
+                final Iterator<long[]> iter = generator.iterator();
+                long l = 0;
+                while (rosen.hasNext()) {
+                    final long[] expected = toMask(n, rosen.next());
+                    final long[] w = iter.next();
+                    assertArrayEquals(format("C(%d,%d)[%d]", n, k, l), expected, w);
+                    assertArrayEquals(expected, generator.get(l));
+                    assertEquals(l, generator.rank(w));
+                    ++l;
+                }
+                assertEquals(false, iter.hasNext());
+                assertEquals(generator.count(), l);
+            }
+        }
+    }
+
+    /**
+     * Test {@link WordMaskCombinationsGenerator#iterator(long, long)} for a large <code>n</code>.
+     */
+    @Test
+    public void testRange() {
+        final WordMaskCombinationsGenerator generator = Combinations.chooseWordMasks(300, 4);
+        final CombinadicCombinationsGenerator combinadic = new CombinadicCombinationsGenerator(300, 4);
+        final long count = generator.count();
+        final long[] froms = { 0, count / 2, count - 50 };
+        for (final long from : froms) {
+            final Iterator<long[]> iter = generator.iterator(from, from + 50);
+            for (long l = from; l < from + 50; ++l) {
+                assertArrayEquals(toMask(300, combinadic.get(l)), iter.next());
+            }
+            assertEquals(false, iter.hasNext());
+        }
+    }
+
+    /**
+     * Mask with a bit out of range.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRankOutOfRange() {
+        Combinations.chooseWordMasks(70, 2).rank(new long[] { 1L, 1L << 6 });
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.permutations;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import jcombinatorics.BigGenerator;
+import jcombinatorics.util.ArrayUtils;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link BigFactoradicPnkGenerator}.
+ *
+ * @author Alistair A. Israel
+ */
+public final class BigFactoradicPnkGeneratorTest {
+
+    /**
+     * Compare against {@link FactoradicPnkGenerator} where the count fits in a <code>long</code>.
+     */
+    @Test
+    public void testCompareWithFactoradic() {
+        for (int n = 1; n < 7; ++n) {
+            for (int k = 0; k <= n; ++k) {
+                final FactoradicPnkGenerator expected = new FactoradicPnkGenerator(n, k);
+                final BigFactoradicPnkGenerator actual = new BigFactoradicPnkGenerator(n, k);
+                assertEquals(BigInteger.valueOf(expected.count()), actual.count());
+                for (long l = 0; l < expected.count(); ++l) {
+                    final BigInteger i = BigInteger.valueOf(l);
+                    assertArrayEquals(format("P(%d,%d)[%d]", n, k, l), expected.get(l), actual.get(i));
+                    assertEquals(i, actual.rank(expected.get(l)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for P(30), where 30! &gt; {@link Long#MAX_VALUE}.
+     */
+    @Test
+    public void testP30() {
+        final int n = 30;
+        final BigFactoradicPnkGenerator generator = new BigFactoradicPnkGenerator(n);
+        final int[] identity = ArrayUtils.identityPermutation(n);
+        final int[] reversed = new int[n];
+        for (int i = 0; i < n; ++i) {
+            reversed[i] = n - 1 - i;
+        }
+        assertArrayEquals(identity, generator.get(BigInteger.ZERO));
+        assertArrayEquals(reversed, generator.get(generator.count().subtract(BigInteger.ONE)));
+        assertEquals(generator.count().subtract(BigInteger.ONE), generator.rank(reversed));
+        final Random random = new Random(30);
+        for (int t = 0; t < 100; ++t) {
+            final BigInteger i = new BigInteger(generator.count().bitLength(), random).mod(generator.count());
+            assertEquals(i, generator.rank(generator.get(i)));
+        }
+    }
+
+    /**
+     * Test for P(100, 12), where n &gt; 64 and the count &gt; {@link Long#MAX_VALUE}.
+     */
+    @Test
+    public void testP100x12() {
+        final BigFactoradicPnkGenerator generator = new BigFactoradicPnkGenerator(100, 12);
+        final Random random = new Random(100);
+        final int[] a = new int[12];
+        for (int t = 0; t < 100; ++t) {
+            final BigInteger i = new BigInteger(generator.count().bitLength(), random).mod(generator.count());
+            assertEquals(i, generator.rank(generator.get(i, a)));
+        }
+    }
+
+    /**
+     * Test for {@link Permutations#permuteBig(int, int)}, through the {@link BigGenerator} interface.
+     */
+    @Test
+    public void testPermuteBig() {
+        final BigGenerator<int[]> generator = Permutations.permuteBig(40, 30);
+        final Random random = new Random(40);
+        for (int t = 0; t < 100; ++t) {
+            final BigInteger i = new BigInteger(generator.count().bitLength(), random).mod(generator.count());
+            assertEquals(i, generator.rank(generator.get(i)));
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.permutations;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link BranchAndBound}.
+ *
+ * @author Alistair A. Israel
+ */
+public final class BranchAndBoundTest {
+
+    /**
+     * The assignment problem: assign each of <code>n</code> workers <code>a[i]</code> a different one of <code>n</code> jobs, bounded
+     * below by the cheapest job for each remaining worker.
+     */
+    @Test
+    public void testAssignment() {
+        final int n = 9;
+        final long[][] c = randomMatrix(n, new Random(42));
+        final BranchAndBound.CostFunction costs = new BranchAndBound.CostFunction() {
+            public long step(final int[] prefix, final int length) {
+                return c[length - 1][prefix[length - 1]];
+            }
+
+            public long lowerBound(final int[] prefix, final int length) {
+                long bound = 0;
+                for (int i = length; i < n; ++i) {
+                    long min = Long.MAX_VALUE;
+                    for (final long x : c[i]) {
+                        min = Math.min(min, x);
+                    }
+                    bound += min;
+                }
+                return bound;
+            }
+        };
+        check(n, n, costs);
+    }
+
+    /**
+     * A travelling salesman tour starting from city 0, bounded below by nothing at all, and then by the number of cities left.
+     */
+    @Test
+    public void testTravellingSalesman() {
+        final int n = 8;
+        final long[][] d = randomMatrix(n, new Random(7));
+        final BranchAndBound.CostFunction noBound = new BranchAndBound.CostFunction() {
+            public long step(final int[] prefix, final int length) {
+                if (length == 1) {
+                    return prefix[0] == 0 ? 0 : 1000000;
+                }
+                long cost = d[prefix[length - 2]][prefix[length - 1]];
+                if (length == n) {
+                    cost += d[prefix[length - 1]][prefix[0]];
+                }
+                return cost;
+            }
+
+            public long lowerBound(final int[] prefix, final int length) {
+                return 0;
+            }
+        };
+        check(n, n, noBound);
+        check(n, n, new BranchAndBound.CostFunction() {
+            public long step(final int[] prefix, final int length) {
+                return noBound.step(prefix, length);
+            }
+
+            public long lowerBound(final int[] prefix, final int length) {
+                return n - length + 1;
+            }
+        });
+    }
+
+    /**
+     * An upper bound lower than every cost should find nothing.
+     */
+    @Test
+    public void testUpperBound() {
+        final BranchAndBound.Solution solution = Permutations.branchAndBound(5, 3, new BranchAndBound.CostFunction() {
+            public long step(final int[] prefix, final int length) {
+                return prefix[length - 1];
+            }
+
+            public long lowerBound(final int[] prefix, final int length) {
+                return 0;
+            }
+        }).parallelMinimize(ForkJoinPool.commonPool(), 3);
+        assertEquals(null, solution.permutation());
+        assertEquals(3, solution.cost());
+        assertEquals(Permutations.count(5, 3), solution.result().visited() + solution.result().pruned());
+    }
+
+    /**
+     * Compare sequential and parallel branch and bound against costing every permutation.
+     *
+     * @param n
+     *            the number of elements
+     * @param k
+     *            taken k at a time
+     * @param costs
+     *            the {@link BranchAndBound.CostFunction}
+     */
+    private static void check(final int n, final int k, final BranchAndBound.CostFunction costs) {
+        long min = Long.MAX_VALUE;
+        for (final int[] a : Permutations.permute(n, k)) {
+            min = Math.min(min, cost(costs, a));
+        }
+        final BranchAndBound branchAndBound = Permutations.branchAndBound(n, k, costs);
+        final BranchAndBound.Solution[] solutions = { branchAndBound.minimize(), branchAndBound.parallelMinimize() };
+        for (final BranchAndBound.Solution solution : solutions) {
+            assertEquals(min, solution.cost());
+            assertEquals(min, cost(costs, solution.permutation()));
+            assertEquals(true, solution.result().isCompleted());
+            assertEquals(true, solution.result().pruned() > 0);
+            assertEquals(Permutations.count(n, k), solution.result().visited() + solution.result().pruned());
+        }
+    }
+
+    /**
+     * @param costs
+     *            the {@link BranchAndBound.CostFunction}
+     * @param a
+     *            a permutation
+     * @return its cost
+     */
+    private static long cost(final BranchAndBound.CostFunction costs, final int[] a) {
+        long cost = 0;
+        for (int i = 1; i <= a.length; ++i) {
+            cost += costs.step(a, i);
+        }
+        return cost;
+    }
+
+    /**
+     * @param n
+     *            the size
+     * @param random
+     *            the {@link Random} to use
+     * @return an <code>n</code> by <code>n</code> matrix of random costs from 1 to 100
+     */
+    private static long[][] randomMatrix(final int n, final Random random) {
+        final long[][] c = new long[n][n];
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                c[i][j] = 1 + random.nextInt(100);
+            }
+        }
+        return c;
+    }
+}
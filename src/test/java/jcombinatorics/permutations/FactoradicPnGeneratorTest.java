@@ -13,6 +13,9 @@ package jcombinatorics.permutations;
 
 import static java.lang.String.format;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 
 import java.util.Arrays;
 import java.util.Iterator;
@@ -62,6 +65,23 @@ public final class FactoradicPnGeneratorTest extends PnGeneratorTestBase {
         }
     }
 
+    /**
+     * Test for {@link FactoradicPnGenerator#get(long, int[])}.
+     */
+    @Test
+    public void testGetIntoArray() {
+        for (int n = 1; n < 8; ++n) {
+            final FactoradicPnGenerator generator = new FactoradicPnGenerator(n);
+            final int[] a = new int[n];
+            int l = 0;
+            for (final int[] expected : new SepaPnIterator.Factory(n)) {
+                assertSame(a, generator.get(l, a));
+                assertArrayEquals(format("P(%d)[%d]", n, l), expected, a);
+                ++l;
+            }
+        }
+    }
+
     /**
      *
      */
@@ -82,4 +102,76 @@ public final class FactoradicPnGeneratorTest extends PnGeneratorTestBase {
             }
         }
     }
+
+    /**
+     * Test for {@link FactoradicPnGenerator#iterator(long, long)}.
+     */
+    @Test
+    public void testIteratorRange() {
+        for (int n = 1; n < 7; ++n) {
+            final FactoradicPnGenerator generator = new FactoradicPnGenerator(n);
+            for (long from = 0; from < generator.count(); from += n) {
+                final long to = Math.min(generator.count(), from + 2 * n);
+                final Iterator<int[]> iter = generator.iterator(from, to);
+                for (long l = from; l < to; ++l) {
+                    assertArrayEquals(format("P(%d)[%d]", n, l), generator.get(l), iter.next());
+                }
+                assertFalse(iter.hasNext());
+            }
+        }
+        // resume near the end of 20!
+        final FactoradicPnGenerator p20 = new FactoradicPnGenerator(FactoradicPnGenerator.MAX_N);
+        final Iterator<int[]> iter = p20.iterator(p20.count() - 3, p20.count());
+        for (long l = p20.count() - 3; l < p20.count(); ++l) {
+            assertArrayEquals(p20.get(l), iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    /**
+     * Test for {@link FactoradicPnGenerator#rank(int[])}.
+     */
+    @Test
+    public void testRank() {
+        for (int n = 1; n < 8; ++n) {
+            final FactoradicPnGenerator generator = new FactoradicPnGenerator(n);
+            long l = 0;
+            for (final int[] permutation : new SepaPnIterator.Factory(n)) {
+                assertEquals(format("P(%d)[%d]", n, l), l, generator.rank(permutation));
+                ++l;
+            }
+        }
+        final FactoradicPnGenerator p20 = new FactoradicPnGenerator(FactoradicPnGenerator.MAX_N);
+        for (long l = 1; l > 0 && l < p20.count(); l = l * 3 + 1) {
+            assertEquals(l, p20.rank(p20.get(l)));
+        }
+        assertEquals(p20.count() - 1, p20.rank(p20.get(p20.count() - 1)));
+    }
+
+    /**
+     * Test for {@link FactoradicPnGenerator#rank(int[])} with an invalid permutation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRankDuplicate() {
+        new FactoradicPnGenerator(4).rank(new int[] { 0, 2, 2, 3 });
+    }
+
+    /**
+     * Test for {@link FactoradicPnGenerator#getBlock(long, int, int[])}.
+     */
+    @Test
+    public void testGetBlock() {
+        for (int n = 1; n < 6; ++n) {
+            final FactoradicPnGenerator generator = new FactoradicPnGenerator(n);
+            final long count = generator.count();
+            final int[] block = new int[n * 4];
+            for (long from = 0; from <= count - 4; ++from) {
+                generator.getBlock(from, 4, block);
+                for (int j = 0; j < 4; ++j) {
+                    assertArrayEquals(format("P(%d)[%d]", n, from + j), generator.get(from + j),
+                            Arrays.copyOfRange(block, j * n, j * n + n));
+                }
+            }
+        }
+    }
 }
@@ -11,8 +11,15 @@
  */
 package jcombinatorics.permutations;
 
+import static java.lang.String.format;
 import static jcombinatorics.permutations.Constants.P_5_3;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Iterator;
 
 import org.junit.Test;
 
@@ -70,4 +77,98 @@ public final class FactoradicPnkGeneratorTest extends PnkGeneratorTestBase {
             assertArrayEquals(expected, actual);
         }
     }
+
+    /**
+     * Test for {@link FactoradicPnkGenerator#get(long, int[])}.
+     */
+    @Test
+    public void testGetIntoArray() {
+        for (int n = 1; n < 8; ++n) {
+            for (int k = 1; k <= n; ++k) {
+                final FactoradicPnkGenerator generator = new FactoradicPnkGenerator(n, k);
+                final int[] a = new int[k];
+                int l = 0;
+                for (final int[] expected : new SepaPnkIterator.Factory(n, k)) {
+                    assertSame(a, generator.get(l, a));
+                    assertArrayEquals(format("P(%d,%d)[%d]", n, k, l), expected, a);
+                    ++l;
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for {@link FactoradicPnkGenerator#iterator(long, long)}.
+     */
+    @Test
+    public void testIteratorRange() {
+        final FactoradicPnkGenerator generator = new FactoradicPnkGenerator(5, 3);
+        for (int from = 0; from < P_5_3.length; ++from) {
+            final Iterator<int[]> iter = generator.iterator(from, P_5_3.length);
+            for (int i = from; i < P_5_3.length; ++i) {
+                assertArrayEquals(format("P(5,3)[%d]", i), P_5_3[i], iter.next());
+            }
+            assertFalse(iter.hasNext());
+        }
+    }
+
+    /**
+     * Test for {@link FactoradicPnkGenerator#rank(int[])}.
+     */
+    @Test
+    public void testRank() {
+        final FactoradicPnkGenerator generator = new FactoradicPnkGenerator(5, 3);
+        for (int i = 0; i < P_5_3.length; ++i) {
+            assertEquals(i, generator.rank(P_5_3[i]));
+        }
+        for (int n = 1; n < 8; ++n) {
+            for (int k = 1; k <= n; ++k) {
+                final FactoradicPnkGenerator pnk = new FactoradicPnkGenerator(n, k);
+                for (long l = 0; l < pnk.count(); ++l) {
+                    assertEquals(format("P(%d,%d)[%d]", n, k, l), l, pnk.rank(pnk.get(l)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for {@link FactoradicPnkGenerator#rank(int[])} where n &gt; 64.
+     */
+    @Test
+    public void testRankLargeN() {
+        final FactoradicPnkGenerator generator = new FactoradicPnkGenerator(100, 4);
+        for (long l = 0; l < generator.count(); l += 9973) {
+            assertEquals(l, generator.rank(generator.get(l)));
+        }
+        assertEquals(generator.count() - 1, generator.rank(new int[] { 99, 98, 97, 96 }));
+    }
+
+    /**
+     * Test for {@link FactoradicPnkGenerator#rank(int[])} with an invalid permutation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRankDuplicateLargeN() {
+        new FactoradicPnkGenerator(100, 3).rank(new int[] { 70, 5, 70 });
+    }
+
+    /**
+     * Test for {@link FactoradicPnkGenerator#getBlock(long, int, int[])}.
+     */
+    @Test
+    public void testGetBlock() {
+        for (int n = 1; n < 6; ++n) {
+            for (int k = 1; k <= n; ++k) {
+                final FactoradicPnkGenerator generator = new FactoradicPnkGenerator(n, k);
+                final long count = generator.count();
+                final int[] block = new int[k * 3];
+                for (long from = 0; from <= count - 3; ++from) {
+                    generator.getBlock(from, 3, block);
+                    for (int j = 0; j < 3; ++j) {
+                        assertArrayEquals(format("P(%d,%d)[%d]", n, k, from + j), generator.get(from + j),
+                                Arrays.copyOfRange(block, j * k, j * k + k));
+                    }
+                }
+            }
+        }
+    }
 }
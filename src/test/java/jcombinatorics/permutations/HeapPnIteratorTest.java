@@ -0,0 +1,83 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.permutations;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import jcombinatorics.IntArrayVisitor;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link HeapPnIterator}.
+ *
+ * @author Alistair A. Israel
+ */
+public final class HeapPnIteratorTest {
+
+    /**
+     * Every permutation should be generated exactly once, each differing from the previous by a single swap.
+     */
+    @Test
+    public void testSingleSwaps() {
+        for (int n = 0; n < 9; ++n) {
+            final Set<String> seen = new HashSet<String>();
+            int[] previous = null;
+            for (final int[] a : new HeapPnIterator.Factory(n)) {
+                if (previous != null) {
+                    int differences = 0;
+                    for (int i = 0; i < n; ++i) {
+                        if (a[i] != previous[i]) {
+                            ++differences;
+                        }
+                    }
+                    assertEquals(format("P(%d)[%d]", n, seen.size()), 2, differences);
+                }
+                seen.add(Arrays.toString(a));
+                previous = a.clone();
+            }
+            assertEquals(Permutations.count(n, n), seen.size());
+        }
+    }
+
+    /**
+     * Test for {@link HeapPnIterator#visitAll(IntArrayVisitor)}, and {@link Permutations.Permuter#inAnyOrder()}.
+     */
+    @Test
+    public void testVisitAll() {
+        final HeapPnIterator expected = new HeapPnIterator(6);
+        final int[] count = { 0 };
+        assertEquals(true, Permutations.permute(6, 6).inAnyOrder().visitAll(new IntArrayVisitor() {
+            public boolean visit(final int[] a) {
+                assertArrayEquals(expected.next(), a);
+                ++count[0];
+                return true;
+            }
+        }));
+        assertEquals(720, count[0]);
+        assertEquals(false, expected.hasNext());
+    }
+
+    /**
+     * Heap's algorithm can't do P(n, k).
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInAnyOrderPnk() {
+        Permutations.permute(6, 3).inAnyOrder();
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.permutations;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link MultisetPermutationsGenerator} and {@link MultisetPermutationIterator}.
+ *
+ * @author Alistair A. Israel
+ */
+public final class MultisetPermutationsGeneratorTest {
+
+    private static final int[][] P_1_1_2_2 = { { 1, 1, 2, 2 }, { 1, 2, 1, 2 }, { 1, 2, 2, 1 }, { 2, 1, 1, 2 }, { 2, 1, 2, 1 },
+            { 2, 2, 1, 1 } };
+
+    private static final int[][] MULTISETS = { {}, { 7 }, { 3, 3, 3 }, { 2, 1, 2 }, { 5, -1, 5, 0, -1 }, { 4, 1, 3, 1, 4, 1, 2 },
+            { 0, 1, 2, 3, 4, 5 } };
+
+    /**
+     * Compare against the distinct permutations of { 2, 1, 2, 1 }.
+     */
+    @Test
+    public void testGenerate1122() {
+        final MultisetPermutationsGenerator generator = Permutations.ofMultiset(2, 1, 2, 1);
+        assertEquals(P_1_1_2_2.length, generator.count());
+        int i = 0;
+        for (final int[] a : generator) {
+            assertArrayEquals(P_1_1_2_2[i], a);
+            assertArrayEquals(P_1_1_2_2[i], generator.get(i));
+            assertEquals(i, generator.rank(P_1_1_2_2[i]));
+            ++i;
+        }
+        assertEquals(P_1_1_2_2.length, i);
+    }
+
+    /**
+     * The iterator, {@link MultisetPermutationsGenerator#get(long)} and {@link MultisetPermutationsGenerator#rank(int[])} should agree,
+     * and match the distinct permutations found by brute force.
+     */
+    @Test
+    public void testAgainstBruteForce() {
+        for (final int[] elements : MULTISETS) {
+            final TreeSet<String> expected = new TreeSet<String>();
+            if (elements.length > 0) {
+                for (final int[] p : Permutations.of(elements)) {
+                    expected.add(Arrays.toString(p));
+                }
+            } else {
+                expected.add(Arrays.toString(elements));
+            }
+            final MultisetPermutationsGenerator generator = new MultisetPermutationsGenerator(elements);
+            assertEquals(expected.size(), generator.count());
+            final TreeSet<String> actual = new TreeSet<String>();
+            final MultisetPermutationIterator iter = new MultisetPermutationIterator(generator);
+            long l = 0;
+            while (iter.hasNext()) {
+                final int[] a = iter.next();
+                final String message = format("%s[%d]", Arrays.toString(elements), l);
+                assertArrayEquals(message, generator.get(l), a);
+                assertEquals(message, l, generator.rank(a));
+                actual.add(Arrays.toString(a));
+                ++l;
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    /**
+     * Test for {@link MultisetPermutationsGenerator#iterator(long, long)} over a multiset with more than 20 elements.
+     */
+    @Test
+    public void testLarge() {
+        final int[] elements = new int[30];
+        for (int i = 0; i < elements.length; ++i) {
+            elements[i] = i % 3;
+        }
+        final MultisetPermutationsGenerator generator = new MultisetPermutationsGenerator(elements);
+        // 30! / (10! 10! 10!)
+        assertEquals(5550996791340L, generator.count());
+        final long[] froms = { 0, generator.count() / 7, generator.count() - 10 };
+        for (final long from : froms) {
+            final Iterator<int[]> iter = generator.iterator(from, from + 10);
+            for (long l = from; l < from + 10; ++l) {
+                final int[] a = iter.next();
+                assertArrayEquals(generator.get(l), a);
+                assertEquals(l, generator.rank(a));
+            }
+        }
+    }
+
+    /**
+     * A value that isn't in the multiset, or occurs too often.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRankInvalid() {
+        Permutations.ofMultiset(1, 1, 2).rank(new int[] { 1, 2, 2 });
+    }
+}
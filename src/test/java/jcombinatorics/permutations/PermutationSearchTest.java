@@ -0,0 +1,175 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.permutations;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jcombinatorics.IntArrayVisitor;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link PermutationSearch}.
+ *
+ * @author Alistair A. Israel
+ */
+public final class PermutationSearchTest {
+
+    /**
+     * Places a queen in each row of a chessboard, in the column given by the permutation, so no two share a column, and rejects a
+     * prefix if its last queen shares a diagonal with an earlier one.
+     */
+    private static final PermutationSearch.PrefixFilter QUEENS = new PermutationSearch.PrefixFilter() {
+        public boolean accept(final int[] prefix, final int length) {
+            final int row = length - 1;
+            for (int i = 0; i < row; ++i) {
+                if (Math.abs(prefix[i] - prefix[row]) == row - i) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    };
+
+    /**
+     * With nothing pruned, the search should visit every permutation in lexicographic order.
+     */
+    @Test
+    public void testAcceptAll() {
+        for (int k = 0; k <= 5; ++k) {
+            final Iterator<int[]> iter = Permutations.permute(5, k).iterator();
+            final PermutationSearch.Result result = Permutations.search(5, k).search(PermutationSearch.ACCEPT_ALL,
+                    new IntArrayVisitor() {
+                        public boolean visit(final int[] a) {
+                            assertArrayEquals(iter.next(), a);
+                            return true;
+                        }
+                    });
+            assertEquals(false, iter.hasNext());
+            assertEquals(Permutations.count(5, k), result.visited());
+            assertEquals(0, result.pruned());
+            assertEquals(true, result.isCompleted());
+        }
+    }
+
+    /**
+     * The eight queens puzzle has 92 solutions, and every other permutation should be accounted for as pruned, when searching both in
+     * this thread and in parallel.
+     */
+    @Test
+    public void testEightQueens() {
+        final PermutationSearch search = Permutations.search(8, 8);
+        final AtomicLong solutions = new AtomicLong();
+        final IntArrayVisitor visitor = new IntArrayVisitor() {
+            public boolean visit(final int[] a) {
+                if (QUEENS.accept(a, a.length)) {
+                    solutions.incrementAndGet();
+                }
+                return true;
+            }
+        };
+        final PermutationSearch.Result[] results = { search.search(QUEENS, visitor), search.parallelSearch(QUEENS, visitor) };
+        assertEquals(2 * 92, solutions.get());
+        for (final PermutationSearch.Result result : results) {
+            assertEquals(true, result.visited() < 1000);
+            assertEquals(Permutations.count(8, 8), result.visited() + result.pruned());
+            assertEquals(true, result.isCompleted());
+        }
+    }
+
+    /**
+     * Each {@link PermutationSearch.PrefixVisitor} should only be asked about extensions of the prefixes it accepted last, when searching
+     * both in this thread and in parallel.
+     */
+    @Test
+    public void testPrefixVisitor() {
+        final PermutationSearch search = Permutations.search(8, 8);
+        final AtomicLong solutions = new AtomicLong();
+        final PermutationSearch.PrefixVisitor.Factory visitors = new PermutationSearch.PrefixVisitor.Factory() {
+            public PermutationSearch.PrefixVisitor newVisitor() {
+                return new PermutationSearch.PrefixVisitor() {
+
+                    private final int[] accepted = new int[8];
+
+                    public boolean accept(final int[] prefix, final int length) {
+                        assertArrayEquals(Arrays.copyOf(accepted, length - 1), Arrays.copyOf(prefix, length - 1));
+                        if (!QUEENS.accept(prefix, length)) {
+                            return false;
+                        }
+                        accepted[length - 1] = prefix[length - 1];
+                        return true;
+                    }
+
+                    public boolean visit(final int[] a) {
+                        assertArrayEquals(Arrays.copyOf(accepted, 7), Arrays.copyOf(a, 7));
+                        if (QUEENS.accept(a, a.length)) {
+                            solutions.incrementAndGet();
+                        }
+                        return true;
+                    }
+                };
+            }
+        };
+        final PermutationSearch.Result[] results = { search.search(visitors), search.parallelSearch(visitors) };
+        assertEquals(2 * 92, solutions.get());
+        for (final PermutationSearch.Result result : results) {
+            assertEquals(Permutations.count(8, 8), result.visited() + result.pruned());
+        }
+    }
+
+    /**
+     * Returning <code>false</code> from the visitor should stop the search, in parallel too.
+     */
+    @Test
+    public void testStop() {
+        final PermutationSearch search = Permutations.search(9, 6);
+        final PermutationSearch.Result result = search.search(PermutationSearch.ACCEPT_ALL, new IntArrayVisitor() {
+            public boolean visit(final int[] a) {
+                return a[0] < 2;
+            }
+        });
+        assertEquals(2 * Permutations.count(8, 5) + 1, result.visited());
+        assertEquals(false, result.isCompleted());
+        final AtomicLong visited = new AtomicLong();
+        final PermutationSearch.Result parallel = search.parallelSearch(PermutationSearch.ACCEPT_ALL, new IntArrayVisitor() {
+            public boolean visit(final int[] a) {
+                return visited.incrementAndGet() < 100;
+            }
+        });
+        assertEquals(false, parallel.isCompleted());
+        assertEquals(visited.get(), parallel.visited());
+        assertEquals(true, parallel.visited() < Permutations.count(9, 6));
+    }
+
+    /**
+     * Searches too large to count should still work, if the filter prunes enough.
+     */
+    @Test
+    public void testLargeN() {
+        final PermutationSearch.Result result = Permutations.search(30, 30).parallelSearch(new PermutationSearch.PrefixFilter() {
+            public boolean accept(final int[] prefix, final int length) {
+                return length > 3 || prefix[length - 1] == length - 1;
+            }
+        }, new IntArrayVisitor() {
+            public boolean visit(final int[] a) {
+                return a[29] < 29;
+            }
+        });
+        assertEquals(false, result.isCompleted());
+        assertEquals(Long.MAX_VALUE, result.pruned());
+    }
+}
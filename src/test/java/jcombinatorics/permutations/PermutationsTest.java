@@ -16,6 +16,19 @@ import static jcombinatorics.permutations.Constants.P_A_BB_CC;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import jcombinatorics.Generator;
+import jcombinatorics.IntArrayVisitor;
+
 import org.junit.Test;
 
 /**
@@ -45,6 +58,11 @@ public final class PermutationsTest {
     @Test
     public void testPermuteIntInt() {
         assertArrayEquals(P_5_3[26], Permutations.permute(5, 3).get(26));
+        final int[] a = new int[3];
+        for (int i = 0; i < P_5_3.length; ++i) {
+            assertArrayEquals(P_5_3[i], Permutations.permute(5, 3).get(i, a));
+            assertEquals(i, Permutations.permute(5, 3).rank(P_5_3[i]));
+        }
     }
 
     /**
@@ -79,4 +97,228 @@ public final class PermutationsTest {
             ++i;
         }
     }
+
+    /**
+     * Test for {@link Permutations.Permuter#stream()} and {@link Permutations.Permuter#parallelStream()}.
+     */
+    @Test
+    public void testPermuteStream() {
+        final List<int[]> sequential = Permutations.permute(5, 3).stream().map(new Function<int[], int[]>() {
+            public int[] apply(final int[] a) {
+                return a.clone();
+            }
+        }).collect(Collectors.<int[]> toList());
+        assertEquals(P_5_3.length, sequential.size());
+        for (int i = 0; i < P_5_3.length; ++i) {
+            assertArrayEquals(P_5_3[i], sequential.get(i));
+        }
+        for (int n = 1; n < 9; ++n) {
+            for (int k = 1; k <= n; ++k) {
+                final Permutations.Permuter permuter = Permutations.permute(n, k);
+                assertEquals(permuter.count(), permuter.parallelStream().count());
+                assertEquals(permuter.stream().mapToLong(SUM_OF_SQUARES).sum(), permuter.parallelStream()
+                        .mapToLong(SUM_OF_SQUARES).sum());
+            }
+        }
+    }
+
+    /**
+     * Test for {@link Permutations.Over#parallelStream()}.
+     */
+    @Test
+    public void testOverParallelStream() {
+        final String[] elements = { "a", "bb", "ccc" };
+        final List<String[]> actual = Permutations.over(elements).parallelStream().collect(Collectors.<String[]> toList());
+        assertEquals(P_A_BB_CC.length, actual.size());
+        for (int i = 0; i < P_A_BB_CC.length; ++i) {
+            assertArrayEquals(P_A_BB_CC[i], actual.get(i));
+        }
+    }
+
+    /**
+     * Position-weighted sum of squares, so different permutations (mostly) give different values.
+     */
+    private static final ToLongFunction<int[]> SUM_OF_SQUARES = new ToLongFunction<int[]>() {
+        public long applyAsLong(final int[] a) {
+            long sum = 0;
+            for (int i = 0; i < a.length; ++i) {
+                sum += (i + 1) * a[i] * a[i];
+            }
+            return sum;
+        }
+    };
+
+    /**
+     * Test for {@link Permutations.Permuter#visitAll(IntArrayVisitor)}, including stopping early.
+     */
+    @Test
+    public void testPermuteVisitAll() {
+        final Permutations.Permuter permuter = Permutations.permute(5, 3);
+        final int[] i = { 0 };
+        assertEquals(true, permuter.visitAll(new IntArrayVisitor() {
+            public boolean visit(final int[] a) {
+                assertArrayEquals(P_5_3[i[0]++], a);
+                return true;
+            }
+        }));
+        assertEquals(P_5_3.length, i[0]);
+
+        i[0] = 0;
+        assertEquals(false, Permutations.permute(4, 4).visitAll(new IntArrayVisitor() {
+            public boolean visit(final int[] a) {
+                return ++i[0] < 7;
+            }
+        }));
+        assertEquals(7, i[0]);
+    }
+
+    /**
+     * Test for {@link Permutations.Permuter#parallelVisitAll(IntArrayVisitor)}.
+     */
+    @Test
+    public void testPermuteParallelVisitAll() {
+        final Permutations.Permuter permuter = Permutations.permute(8, 6);
+        final boolean[] seen = new boolean[(int) permuter.count()];
+        assertEquals(true, permuter.parallelVisitAll(new IntArrayVisitor() {
+            public boolean visit(final int[] a) {
+                seen[(int) permuter.rank(a)] = true;
+                return true;
+            }
+        }));
+        for (int i = 0; i < seen.length; ++i) {
+            assertEquals(true, seen[i]);
+        }
+
+        final AtomicLong visited = new AtomicLong();
+        assertEquals(false, Permutations.permute(9, 9).parallelVisitAll(new IntArrayVisitor() {
+            public boolean visit(final int[] a) {
+                return visited.incrementAndGet() < 1000;
+            }
+        }));
+        assertEquals(true, visited.get() < Permutations.count(9, 9));
+    }
+
+    /**
+     * Test for {@link Permutations.Permuter#parallelReduce(Object, BiFunction, BinaryOperator)}.
+     */
+    @Test
+    public void testPermuteParallelReduce() {
+        for (int k = 0; k <= 9; k += 3) {
+            final Permutations.Permuter permuter = Permutations.permute(9, k);
+            final long count = permuter.count();
+            final long sum = permuter.parallelReduce(0L, new BiFunction<Long, int[], Long>() {
+                public Long apply(final Long r, final int[] a) {
+                    return r + permuter.rank(a);
+                }
+            }, new BinaryOperator<Long>() {
+                public Long apply(final Long x, final Long y) {
+                    return x + y;
+                }
+            });
+            assertEquals(count * (count - 1) / 2, sum);
+        }
+    }
+
+    /**
+     * Test that {@link Permutations.Permuter#sample(SplittableRandom, int[])} draws every permutation about equally often.
+     */
+    @Test
+    public void testPermuteSample() {
+        final int[][] nks = { { 4, 4 }, { 5, 2 }, { 6, 3 }, { 3, 0 } };
+        final SplittableRandom random = new SplittableRandom(42);
+        for (final int[] nk : nks) {
+            final Permutations.Permuter permuter = Permutations.permute(nk[0], nk[1]);
+            final int count = (int) permuter.count();
+            final int samples = 2000 * count;
+            final int[] counts = new int[count];
+            final int[] a = new int[nk[1]];
+            for (int i = 0; i < samples; ++i) {
+                ++counts[(int) permuter.rank(permuter.sample(random, a))];
+            }
+            for (final int c : counts) {
+                assertEquals(2000, c, 250);
+            }
+        }
+    }
+
+    /**
+     * Test for {@link Permutations.Permuter#parallelSamples(long, SplittableRandom)}, whose ranks should average out to the
+     * middle, and for {@link Permutations#sampler(int, int)} with more elements than could be counted.
+     */
+    @Test
+    public void testPermuteParallelSamples() {
+        final Permutations.Permuter permuter = Permutations.permute(7, 3);
+        final long sum = permuter.parallelSamples(100000, new SplittableRandom(7)).mapToLong(new ToLongFunction<int[]>() {
+            public long applyAsLong(final int[] a) {
+                return permuter.rank(a);
+            }
+        }).sum();
+        assertEquals((permuter.count() - 1) / 2.0, sum / 100000.0, 1.0);
+        final int[] a = Permutations.sampler(1000000, 10).sample(new SplittableRandom(7));
+        for (int i = 0; i < a.length; ++i) {
+            assertEquals(true, a[i] >= 0 && a[i] < 1000000);
+            for (int j = 0; j < i; ++j) {
+                assertEquals(true, a[i] != a[j]);
+            }
+        }
+    }
+
+    /**
+     * Test for {@link Permutations.Permuter#shuffled(long)}, which should visit every permutation exactly once, in parallel too, and
+     * not in order.
+     */
+    @Test
+    public void testPermuteShuffled() {
+        final Permutations.Permuter permuter = Permutations.permute(7, 5);
+        final int count = (int) permuter.count();
+        final long[] ranks = permuter.shuffled(42).parallelStream().mapToLong(new ToLongFunction<int[]>() {
+            public long applyAsLong(final int[] a) {
+                return permuter.rank(a);
+            }
+        }).toArray();
+        assertEquals(count, ranks.length);
+        final boolean[] seen = new boolean[count];
+        int inOrder = 0;
+        for (int i = 0; i < count; ++i) {
+            assertEquals(false, seen[(int) ranks[i]]);
+            seen[(int) ranks[i]] = true;
+            if (ranks[i] == i) {
+                ++inOrder;
+            }
+        }
+        assertEquals(true, inOrder < 20);
+        assertArrayEquals(permuter.shuffled(42).get(100), permuter.get(ranks[100]));
+    }
+
+    /**
+     * Test for {@link Permutations.Permuter#shuffled(long)} sampled with {@link Generator.Of#sample(long, SplittableRandom)}, which
+     * should compute each item directly, exactly once, as the shuffled view has no cheap successor.
+     */
+    @Test
+    public void testSampleShuffled() {
+        final Permutations.Permuter permuter = Permutations.permute(7, 5);
+        final AtomicLong gets = new AtomicLong();
+        final Generator.Of<int[]> counting = new Generator.Of<int[]>() {
+            public long count() {
+                return permuter.count();
+            }
+
+            public int[] get(final long l) {
+                gets.incrementAndGet();
+                return permuter.get(l);
+            }
+        };
+        final Generator.Of<int[]> shuffled = counting.shuffled(42);
+        for (final long m : new long[] { 0, 10, 1000, permuter.count() }) {
+            gets.set(0);
+            final Iterator<int[]> iter = shuffled.sample(m, new SplittableRandom(m));
+            long previous = -1;
+            while (iter.hasNext()) {
+                final long l = permuter.rank(iter.next());
+                assertEquals(true, l != previous);
+                previous = l;
+            }
+            assertEquals(m, gets.get());
+        }
+    }
 }
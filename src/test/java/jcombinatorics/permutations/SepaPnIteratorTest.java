@@ -11,6 +11,15 @@
  */
 package jcombinatorics.permutations;
 
+import static java.lang.String.format;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import jcombinatorics.IntArrayVisitor;
+
 import org.junit.Test;
 
 /**
@@ -28,4 +37,77 @@ public final class SepaPnIteratorTest extends PnGeneratorTestBase {
         testGenerateP4(new SepaPnIterator.Factory(N));
     }
 
+    /**
+     * Test for {@link SepaPnIterator#SepaPnIterator(int, long, long)}.
+     */
+    @Test
+    public void testRange() {
+        for (int n = 1; n < 6; ++n) {
+            final FactoradicPnGenerator factoradic = new FactoradicPnGenerator(n);
+            final long count = factoradic.count();
+            for (long from = 0; from <= count; ++from) {
+                final long to = Math.min(count, from + n + 1);
+                final Iterator<int[]> iter = new SepaPnIterator(n, from, to);
+                long l = from;
+                while (iter.hasNext()) {
+                    assertArrayEquals(format("P(%d)[%d]", n, l), factoradic.get(l), iter.next());
+                    ++l;
+                }
+                assertEquals(to, l);
+            }
+        }
+    }
+
+    /**
+     * Test for {@link SepaPnIterator#visitAll(IntArrayVisitor)}, over a range and after a call to {@link SepaPnIterator#next()}.
+     */
+    @Test
+    public void testVisitAll() {
+        for (int n = 1; n < 6; ++n) {
+            final FactoradicPnGenerator factoradic = new FactoradicPnGenerator(n);
+            final long count = factoradic.count();
+            for (long from = 0; from <= count; ++from) {
+                final long to = Math.min(count, from + n + 1);
+                final SepaPnIterator iter = new SepaPnIterator(n, from, to);
+                final long[] l = { from };
+                if (iter.hasNext()) {
+                    assertArrayEquals(factoradic.get(l[0]++), iter.next());
+                }
+                final boolean completed = iter.visitAll(new IntArrayVisitor() {
+                    public boolean visit(final int[] a) {
+                        assertArrayEquals(format("P(%d)[%d]", a.length, l[0]), factoradic.get(l[0]), a);
+                        ++l[0];
+                        return true;
+                    }
+                });
+                assertEquals(true, completed);
+                assertEquals(to, l[0]);
+            }
+        }
+    }
+
+    /**
+     * Test for {@link SepaPnIterator#nextBlock(int[], int)}, which should return the same sequence as
+     * {@link SepaPnIterator#next()} in blocks, and pick up from
+     * the end of each block.
+     */
+    @Test
+    public void testNextBlock() {
+        for (int n = 1; n < 7; ++n) {
+            final int[] block = new int[n * 4];
+            final SepaPnIterator expected = new SepaPnIterator(n);
+            final SepaPnIterator iter = new SepaPnIterator(n);
+            int m;
+            do {
+                m = iter.nextBlock(block, 4);
+                for (int j = 0; j < m; ++j) {
+                    assertArrayEquals(expected.next(), Arrays.copyOfRange(block, j * n, j * n + n));
+                }
+                if (iter.hasNext()) {
+                    assertArrayEquals(expected.next(), iter.next());
+                }
+            } while (m == 4);
+            assertEquals(false, expected.hasNext());
+        }
+    }
 }
@@ -13,10 +13,13 @@ package jcombinatorics.permutations;
 
 import static java.lang.String.format;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 
 import java.util.Arrays;
 import java.util.Iterator;
 
+import jcombinatorics.IntArrayVisitor;
+
 import org.junit.Test;
 
 /**
@@ -64,4 +67,75 @@ public final class SepaPnkIteratorTest extends PnkGeneratorTestBase {
             }
         }
     }
+
+    /**
+     * Test for {@link SepaPnkIterator#SepaPnkIterator(int, int, long, long)}.
+     */
+    @Test
+    public void testRange() {
+        for (int n = 1; n < 6; ++n) {
+            for (int k = 1; k <= n; ++k) {
+                final FactoradicPnkGenerator factoradic = new FactoradicPnkGenerator(n, k);
+                final long count = factoradic.count();
+                for (long from = 0; from <= count; ++from) {
+                    final long to = Math.min(count, from + n + 1);
+                    final Iterator<int[]> iter = new SepaPnkIterator(n, k, from, to);
+                    long l = from;
+                    while (iter.hasNext()) {
+                        assertArrayEquals(format("P(%d,%d)[%d]", n, k, l), factoradic.get(l), iter.next());
+                        ++l;
+                    }
+                    assertEquals(to, l);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for {@link SepaPnkIterator#visitAll(IntArrayVisitor)} over a range.
+     */
+    @Test
+    public void testVisitAll() {
+        for (int n = 1; n < 6; ++n) {
+            for (int k = 0; k <= n; ++k) {
+                final FactoradicPnkGenerator factoradic = new FactoradicPnkGenerator(n, k);
+                final long count = factoradic.count();
+                for (long from = 0; from <= count; ++from) {
+                    final long to = Math.min(count, from + n + 1);
+                    final long[] l = { from };
+                    new SepaPnkIterator(n, k, from, to).visitAll(new IntArrayVisitor() {
+                        public boolean visit(final int[] a) {
+                            assertArrayEquals(Arrays.toString(a), factoradic.get(l[0]), a);
+                            ++l[0];
+                            return true;
+                        }
+                    });
+                    assertEquals(to, l[0]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for {@link SepaPnkIterator#nextBlock(int[], int)}, which should return the same sequence as
+     * {@link SepaPnkIterator#next()} in blocks.
+     */
+    @Test
+    public void testNextBlock() {
+        for (int n = 1; n < 7; ++n) {
+            for (int k = 0; k <= n; ++k) {
+                final int[] block = new int[k * 4];
+                final SepaPnkIterator expected = new SepaPnkIterator(n, k);
+                final SepaPnkIterator iter = new SepaPnkIterator(n, k);
+                int m;
+                do {
+                    m = iter.nextBlock(block, 4);
+                    for (int j = 0; j < m; ++j) {
+                        assertArrayEquals(expected.next(), Arrays.copyOfRange(block, j * k, j * k + k));
+                    }
+                } while (m == 4);
+                assertEquals(false, expected.hasNext());
+            }
+        }
+    }
 }
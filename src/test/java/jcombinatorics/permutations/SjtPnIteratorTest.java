@@ -0,0 +1,99 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.permutations;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link SjtPnIterator}.
+ *
+ * @author Alistair A. Israel
+ */
+public final class SjtPnIteratorTest {
+
+    private static final int[][] P_3 = { { 0, 1, 2 }, { 0, 2, 1 }, { 2, 0, 1 }, { 2, 1, 0 }, { 1, 2, 0 }, { 1, 0, 2 } };
+
+    /**
+     * Compare against the well-known plain changes order for P(3).
+     */
+    @Test
+    public void testGenerateP3() {
+        final SjtPnIterator iter = new SjtPnIterator(3);
+        for (int i = 0; i < P_3.length; ++i) {
+            assertArrayEquals(P_3[i], iter.next());
+        }
+        assertEquals(false, iter.hasNext());
+    }
+
+    /**
+     * Every permutation should be generated exactly once, and each should differ from the previous by the reported adjacent swap.
+     */
+    @Test
+    public void testAdjacentSwaps() {
+        for (int n = 0; n < 8; ++n) {
+            final SjtPnIterator iter = new SjtPnIterator(n);
+            final Set<String> seen = new HashSet<String>();
+            int[] previous = null;
+            while (iter.hasNext()) {
+                final int[] a = iter.next();
+                final int i = iter.swapped();
+                if (previous == null) {
+                    assertEquals(-1, i);
+                } else {
+                    final int t = previous[i];
+                    previous[i] = previous[i + 1];
+                    previous[i + 1] = t;
+                    assertArrayEquals(format("P(%d)[%d]", n, seen.size()), previous, a);
+                }
+                seen.add(Arrays.toString(a));
+                previous = a.clone();
+            }
+            assertEquals(Permutations.count(n, n), seen.size());
+        }
+    }
+
+    /**
+     * Test for {@link SjtPnIterator#visitAll(SjtPnIterator.SwapVisitor)}, including stopping early.
+     */
+    @Test
+    public void testVisitAll() {
+        final SjtPnIterator expected = new SjtPnIterator(5);
+        final int[] count = { 0 };
+        assertEquals(true, new SjtPnIterator(5).visitAll(new SjtPnIterator.SwapVisitor() {
+            public boolean visit(final int[] a, final int i) {
+                assertArrayEquals(expected.next(), a);
+                assertEquals(expected.swapped(), i);
+                ++count[0];
+                return true;
+            }
+        }));
+        assertEquals(120, count[0]);
+
+        final SjtPnIterator iter = new SjtPnIterator(5);
+        count[0] = 0;
+        assertEquals(false, iter.visitAll(new SjtPnIterator.SwapVisitor() {
+            public boolean visit(final int[] a, final int i) {
+                return ++count[0] < 10;
+            }
+        }));
+        assertEquals(10, count[0]);
+        assertEquals(true, iter.hasNext());
+    }
+}
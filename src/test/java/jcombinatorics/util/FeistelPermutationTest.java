@@ -0,0 +1,82 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.util;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertEquals;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link FeistelPermutation}.
+ *
+ * @author Alistair A. Israel
+ */
+public final class FeistelPermutationTest {
+
+    /**
+     * Every number should be mapped to a different number in range, for counts with both odd and even numbers of bits.
+     */
+    @Test
+    public void testBijection() {
+        for (int count = 1; count <= 300; ++count) {
+            checkBijection(count, 42);
+        }
+        checkBijection(1 << 16, 7);
+        checkBijection((1 << 17) + 3, 7);
+    }
+
+    /**
+     * @param count
+     *            the number of numbers
+     * @param key
+     *            the key
+     */
+    private static void checkBijection(final int count, final long key) {
+        final FeistelPermutation permutation = new FeistelPermutation(count, key);
+        final BitSet seen = new BitSet(count);
+        for (int i = 0; i < count; ++i) {
+            final long x = permutation.apply(i);
+            assertEquals(format("%d: %d -> %d", count, i, x), true, x >= 0 && x < count && !seen.get((int) x));
+            seen.set((int) x);
+        }
+    }
+
+    /**
+     * The same key should give the same permutation, and different keys (almost always) different ones, even for counts too large to
+     * enumerate.
+     */
+    @Test
+    public void testKeys() {
+        final long count = Long.MAX_VALUE;
+        final Set<Long> seen = new HashSet<Long>();
+        for (long key = 0; key < 100; ++key) {
+            final long x = new FeistelPermutation(count, key).apply(12345);
+            assertEquals(x, new FeistelPermutation(count, key).apply(12345));
+            assertEquals(true, x >= 0);
+            seen.add(x);
+        }
+        assertEquals(100, seen.size());
+    }
+
+    /**
+     * Numbers out of range should be rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testOutOfRange() {
+        new FeistelPermutation(10, 0).apply(10);
+    }
+}
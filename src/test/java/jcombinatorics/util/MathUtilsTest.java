@@ -11,8 +11,14 @@
  */
 package jcombinatorics.util;
 
+import static jcombinatorics.util.MathUtils.bell;
+import static jcombinatorics.util.MathUtils.binomial;
 import static jcombinatorics.util.MathUtils.factorial;
+import static jcombinatorics.util.MathUtils.multinomial;
+import static jcombinatorics.util.MathUtils.partitions;
+import static jcombinatorics.util.MathUtils.stirling2;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import org.junit.Test;
 
@@ -34,4 +40,108 @@ public final class MathUtilsTest {
         assertEquals(3628800, factorial(10));
         assertEquals(2432902008176640000L, factorial(20));
     }
+
+    /**
+     * Test for {@link MathUtils#binomial(int, int)}.
+     */
+    @Test
+    public void testBinomial() {
+        assertEquals(1, binomial(0, 0));
+        assertEquals(0, binomial(3, 4));
+        assertEquals(0, binomial(3, -1));
+        assertEquals(10, binomial(5, 2));
+        assertEquals(10, binomial(5, 3));
+        assertEquals(137846528820L, binomial(40, 20));
+        assertEquals(7219428434016265740L, binomial(66, 33));
+        assertEquals(binomial(100, 3), binomial(100, 97));
+        assertEquals(2000L * 1999 / 2, binomial(2000, 2));
+        assertEquals(2000, binomial(2000, 1999));
+        for (int n = 1; n < 30; ++n) {
+            for (int k = 1; k < n; ++k) {
+                assertEquals(binomial(n - 1, k - 1) + binomial(n - 1, k), binomial(n, k));
+            }
+        }
+    }
+
+    /**
+     * Test that {@link MathUtils#binomial(int, int)} detects overflow.
+     */
+    @Test
+    public void testBinomialOverflow() {
+        final int[][] overflows = { { 67, 33 }, { 68, 34 }, { 1023, 500 }, { 5000, 2500 } };
+        for (final int[] nk : overflows) {
+            try {
+                binomial(nk[0], nk[1]);
+                fail("Expected ArithmeticException for C(" + nk[0] + ", " + nk[1] + ")");
+            } catch (final ArithmeticException e) {
+                // expected
+            }
+        }
+    }
+
+    /**
+     * Test for {@link MathUtils#multinomial(int...)}.
+     */
+    @Test
+    public void testMultinomial() {
+        assertEquals(1, multinomial());
+        assertEquals(1, multinomial(5));
+        assertEquals(binomial(7, 3), multinomial(3, 4));
+        assertEquals(factorial(6) / (factorial(2) * factorial(2)), multinomial(2, 1, 2, 1));
+        assertEquals(factorial(20), multinomial(1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1));
+    }
+
+    /**
+     * {@link MathUtils#multinomial(int...)} should detect overflow.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testMultinomialOverflow() {
+        multinomial(1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1);
+    }
+
+    /**
+     * Test for {@link MathUtils#stirling2(int, int)} and {@link MathUtils#bell(int)}: each Bell number is the sum of a row of Stirling
+     * numbers.
+     */
+    @Test
+    public void testStirlingAndBell() {
+        final long[] bellNumbers = { 1, 1, 2, 5, 15, 52, 203, 877, 4140, 21147, 115975 };
+        for (int n = 0; n < bellNumbers.length; ++n) {
+            assertEquals(bellNumbers[n], bell(n));
+            long sum = 0;
+            for (int k = 0; k <= n + 1; ++k) {
+                sum += stirling2(n, k);
+            }
+            assertEquals(bellNumbers[n], sum);
+        }
+        assertEquals(25, stirling2(5, 3));
+        assertEquals(binomial(1000, 2), stirling2(1000, 999));
+        assertEquals(1, stirling2(1000, 1));
+        assertEquals(4638590332229999353L, bell(25));
+    }
+
+    /**
+     * {@link MathUtils#bell(int)} should detect overflow.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testBellOverflow() {
+        bell(26);
+    }
+
+    /**
+     * Test for {@link MathUtils#partitions(int)} and {@link MathUtils#partitions(int, int)}.
+     */
+    @Test
+    public void testPartitions() {
+        final long[] partitionNumbers = { 1, 1, 2, 3, 5, 7, 11, 15, 22, 30, 42 };
+        for (int n = 0; n < partitionNumbers.length; ++n) {
+            assertEquals(partitionNumbers[n], partitions(n));
+            assertEquals(partitionNumbers[n], partitions(n, n + 1));
+        }
+        assertEquals(190569292L, partitions(100));
+        assertEquals(1, partitions(100, 1));
+        assertEquals(51, partitions(100, 2));
+        assertEquals(0, partitions(5, 0));
+        assertEquals(true, partitions(MathUtils.MAX_PARTITIONS_N) > partitions(MathUtils.MAX_PARTITIONS_N - 1));
+    }
 }
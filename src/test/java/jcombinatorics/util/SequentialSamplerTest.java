@@ -0,0 +1,79 @@
+/**
+ * jcombinatorics:
+ * Java Combinatorics Library
+ *
+ * Copyright (c) 2026 by Alistair A. Israel.
+ *
+ * This software is made available under the terms of the MIT License.
+ * See LICENSE.txt.
+ *
+ * Created Oct 18, 2026
+ */
+package jcombinatorics.util;
+
+import static java.lang.String.format;
+import static org.junit.Assert.assertEquals;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link SequentialSampler}.
+ *
+ * @author Alistair A. Israel
+ */
+public final class SequentialSamplerTest {
+
+    private static final int TRIALS = 20000;
+
+    /**
+     * Every number should be chosen about equally often, whether the sample is sparse enough for Algorithm D, dense enough for
+     * Algorithm A, or switches from one to the other.
+     */
+    @Test
+    public void testUniform() {
+        final int[][] cases = { { 200, 3 }, { 100, 7 }, { 20, 10 }, { 10, 10 }, { 1, 1 }, { 5, 0 } };
+        final SplittableRandom random = new SplittableRandom(42);
+        for (final int[] c : cases) {
+            final int count = c[0];
+            final int m = c[1];
+            final int[] counts = new int[count];
+            for (int trial = 0; trial < TRIALS; ++trial) {
+                final SequentialSampler sampler = new SequentialSampler(random, count, m);
+                long previous = -1;
+                for (int i = 0; i < m; ++i) {
+                    final long l = sampler.nextLong();
+                    assertEquals(true, l > previous && l < count);
+                    ++counts[(int) l];
+                    previous = l;
+                }
+                assertEquals(false, sampler.hasNext());
+            }
+            final double expected = (double) TRIALS * m / count;
+            for (int l = 0; l < count; ++l) {
+                assertEquals(format("%d of %d, [%d]", m, count, l), expected, counts[l], 5 * Math.sqrt(expected) + 1);
+            }
+        }
+    }
+
+    /**
+     * Sampling from far more numbers than could be enumerated should still give the right number of distinct numbers, spread across
+     * the whole range.
+     */
+    @Test
+    public void testSparse() {
+        final long count = 1000000000000L;
+        final SequentialSampler sampler = new SequentialSampler(new SplittableRandom(7), count, 100000);
+        long previous = -1;
+        long n = 0;
+        while (sampler.hasNext()) {
+            final long l = sampler.nextLong();
+            assertEquals(true, l > previous && l < count);
+            previous = l;
+            ++n;
+        }
+        assertEquals(100000, n);
+        assertEquals(true, previous > count / 100 * 99);
+    }
+}